@@ -0,0 +1,618 @@
+package com.nba.automation.config;
+
+import org.openqa.selenium.Dimension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Configuration manager to handle application properties
+ * Implements singleton pattern for global configuration access
+ * Settings are read from an immutable ConfigSnapshot that is swapped atomically on reload, so getters
+ * never parse or lock. Layers: config.properties, suite overrides, environment variables (config.env.prefix) and
+ * system properties (see ConfigSnapshot)
+ */
+public class ConfigManager {
+    private static volatile ConfigManager instance;
+
+    // Path of an external config file (-Dconfig.file); config.properties on the classpath otherwise
+    private final Path configFile;
+    private volatile ConfigSnapshot snapshot;
+    private ConfigFileWatcher watcher;
+
+    /**
+     * Private constructor to prevent direct instantiation
+     * Loads configuration from config.properties file
+     */
+    private ConfigManager() {
+        String externalFile = System.getProperty("config.file");
+        configFile = externalFile != null ? Paths.get(externalFile) : classpathFile();
+        snapshot = new ConfigSnapshot(loadFile(), Collections.emptyMap(), System.getenv(), System.getProperties());
+
+        // Hot reload for long-running soak runs
+        if (Boolean.parseBoolean(snapshot.getProperty("config.reload.enabled", "false"))) {
+            if (configFile == null) {
+                System.err.println("Warning: config.reload.enabled is set but config.properties is not a file, reload disabled");
+            } else {
+                try {
+                    watcher = new ConfigFileWatcher(configFile, this::reload);
+                } catch (IOException e) {
+                    System.err.println("Warning: Could not watch " + configFile + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get singleton instance of ConfigManager
+     * @return ConfigManager instance
+     */
+    public static ConfigManager getInstance() {
+        ConfigManager config = instance;
+        if (config == null) {
+            synchronized (ConfigManager.class) {
+                config = instance;
+                if (config == null) {
+                    config = new ConfigManager();
+                    instance = config;
+                }
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Get the current configuration snapshot
+     * Hot paths can keep the returned snapshot for a consistent view of all settings
+     * @return Immutable snapshot
+     */
+    public ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Re-read the configuration file and the other layers, then swap the snapshot atomically
+     * A file that fails to parse leaves the current snapshot in place
+     */
+    public synchronized void reload() {
+        ConfigSnapshot current = snapshot;
+        try {
+            snapshot = new ConfigSnapshot(loadFile(), current.getSuiteOverrides(), System.getenv(), System.getProperties());
+            System.out.println("Configuration reloaded from " + (configFile != null ? configFile : "classpath"));
+        } catch (RuntimeException e) {
+            System.err.println("Configuration reload failed, keeping previous settings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply per-suite overrides (e.g. TestNG suite parameters) on top of config.properties
+     * @param overrides Property keys and values
+     */
+    public synchronized void applySuiteOverrides(Map<String, String> overrides) {
+        Map<String, String> merged = new HashMap<>(snapshot.getSuiteOverrides());
+        merged.putAll(overrides);
+        snapshot = new ConfigSnapshot(loadFile(), merged, System.getenv(), System.getProperties());
+    }
+
+    /**
+     * Stop watching the configuration file
+     */
+    public synchronized void stopWatching() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    private Properties loadFile() {
+        Properties properties = new Properties();
+        try (InputStream input = configFile != null && Files.isRegularFile(configFile)
+                ? Files.newInputStream(configFile)
+                : getClass().getClassLoader().getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            } else {
+                throw new RuntimeException("config.properties file not found in classpath");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load configuration", e);
+        }
+        return properties;
+    }
+
+    private Path classpathFile() {
+        URL resource = getClass().getClassLoader().getResource("config.properties");
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get property value by key
+     * @param key Property key
+     * @return Property value or null if not found
+     */
+    public String getProperty(String key) {
+        return snapshot.getProperty(key);
+    }
+
+    /**
+     * Get property value with default fallback
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Property value or default value
+     */
+    public String getProperty(String key, String defaultValue) {
+        return snapshot.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Get an enum setting whose type belongs to a feature package or test project, e.g. wait.engine
+     * @param key Property key
+     * @param defaultValue Value when the key is not set, also selects the enum type
+     * @return Parsed value
+     */
+    public <E extends Enum<E>> E getEnum(String key, E defaultValue) {
+        return snapshot.getEnum(key, defaultValue);
+    }
+
+    /**
+     * Get an integer setting declared by a feature package or test project, e.g. fanout.concurrency
+     * @param key Property key
+     * @return Parsed value, or the declared default when the key is not set
+     */
+    public int getInt(String key) {
+        return snapshot.getInt(key);
+    }
+
+    /**
+     * Get a long setting declared by a feature package or test project, e.g. fixtures.ttl.seconds
+     * @param key Property key
+     * @return Parsed value, or the declared default when the key is not set
+     */
+    public long getLong(String key) {
+        return snapshot.getLong(key);
+    }
+
+    /**
+     * Get a boolean setting declared by a feature package or test project, e.g. fixtures.reuse.enabled
+     * @param key Property key
+     * @return Parsed value, or the declared default when the key is not set
+     */
+    public boolean getBoolean(String key) {
+        return snapshot.getBoolean(key);
+    }
+
+    /**
+     * Get base URL for the application
+     * @return Base URL string
+     */
+    public String getBaseUrl() {
+        return snapshot.getBaseUrl();
+    }
+
+    /**
+     * Get browser type for testing
+     * @return Browser name (chrome, firefox, etc.)
+     */
+    public String getBrowser() {
+        return snapshot.getBrowser();
+    }
+
+    /**
+     * Check if browser should run in headless mode
+     * @return true if headless, false otherwise
+     */
+    public boolean isHeadless() {
+        return snapshot.isHeadless();
+    }
+
+    /**
+     * Get fixed window size used by the throughput profile
+     * @return Viewport size
+     */
+    public Dimension getBrowserViewport() {
+        return snapshot.getBrowserViewport();
+    }
+
+    /**
+     * Get directory of the Chrome user-data-dir template copied into each throughput session
+     * @return Template directory
+     */
+    public String getBrowserProfileTemplateDir() {
+        return snapshot.getBrowserProfileTemplateDir();
+    }
+
+    /**
+     * Get pages preloaded into the template's disk cache when it is built
+     * @return Warm-up URLs
+     */
+    public List<String> getBrowserProfileWarmupUrls() {
+        return snapshot.getBrowserProfileWarmupUrls();
+    }
+
+    /**
+     * Get extra Chrome switches a project adds to every session, e.g. --remote-allow-origins=*
+     * @return Command line switches
+     */
+    public List<String> getBrowserArguments() {
+        return snapshot.getBrowserArguments();
+    }
+
+    /**
+     * Get implicit wait timeout in seconds
+     * @return Implicit wait timeout
+     */
+    public int getImplicitWait() {
+        return snapshot.getImplicitWait();
+    }
+
+    /**
+     * Get explicit wait timeout in seconds
+     * @return Explicit wait timeout
+     */
+    public int getExplicitWait() {
+        return snapshot.getExplicitWait();
+    }
+
+    /**
+     * Get explicit wait timeout as a Duration, built once per snapshot
+     * @return Explicit wait timeout
+     */
+    public Duration getExplicitWaitDuration() {
+        return snapshot.getExplicitWaitDuration();
+    }
+
+    /**
+     * Get time budget for probing optional elements in milliseconds
+     * @return Probe budget
+     */
+    public long getWaitProbeBudgetMillis() {
+        return snapshot.getWaitProbeBudgetMillis();
+    }
+
+    /**
+     * Get performance threshold in milliseconds
+     * @return Performance threshold
+     */
+    public int getPerformanceThreshold() {
+        return snapshot.getPerformanceThreshold();
+    }
+
+    /**
+     * Check if tests should check out browsers from the session pool
+     * @return true if pooling is enabled
+     */
+    public boolean isSessionPoolEnabled() {
+        return snapshot.isSessionPoolEnabled();
+    }
+
+    /**
+     * Get maximum number of browser sessions alive in the pool
+     * @return Pool size
+     */
+    public int getSessionPoolSize() {
+        return snapshot.getSessionPoolSize();
+    }
+
+    /**
+     * Get number of browser sessions started before the first test
+     * @return Number of pre-warmed sessions
+     */
+    public int getSessionPoolPrewarm() {
+        return snapshot.getSessionPoolPrewarm();
+    }
+
+    /**
+     * Get number of tests a pooled session may serve before it is recycled
+     * @return Reuse cap
+     */
+    public int getSessionPoolMaxReuse() {
+        return snapshot.getSessionPoolMaxReuse();
+    }
+
+    /**
+     * Get maximum time to wait for a free pooled session in seconds
+     * @return Checkout timeout
+     */
+    public int getSessionPoolCheckoutTimeout() {
+        return snapshot.getSessionPoolCheckoutTimeout();
+    }
+
+    /**
+     * Get parallel execution mode (none, methods or classes)
+     * @return Parallel mode
+     */
+    public String getParallelMode() {
+        return snapshot.getParallelMode();
+    }
+
+    /**
+     * Get number of test threads used when parallel execution is enabled
+     * @return Thread count
+     */
+    public int getParallelThreadCount() {
+        return snapshot.getParallelThreadCount();
+    }
+
+    /**
+     * Get browser-side time to first byte threshold in milliseconds
+     * @return TTFB threshold
+     */
+    public int getTtfbThreshold() {
+        return snapshot.getTtfbThreshold();
+    }
+
+    /**
+     * Get browser-side DOMContentLoaded threshold in milliseconds
+     * @return DOMContentLoaded threshold
+     */
+    public int getDomContentLoadedThreshold() {
+        return snapshot.getDomContentLoadedThreshold();
+    }
+
+    /**
+     * Get browser-side first contentful paint threshold in milliseconds
+     * @return FCP threshold
+     */
+    public int getFirstContentfulPaintThreshold() {
+        return snapshot.getFirstContentfulPaintThreshold();
+    }
+
+    /**
+     * Get number of warm-up loads of each sampled page, discarded before sampling
+     * @return Warm-up loads per page
+     */
+    public int getSamplingWarmupRuns() {
+        return snapshot.getSamplingWarmupRuns();
+    }
+
+    /**
+     * Get number of measured page loads, spread round-robin across leader players
+     * @return Measured run count
+     */
+    public int getSamplingMeasuredRuns() {
+        return snapshot.getSamplingMeasuredRuns();
+    }
+
+    /**
+     * Get number of leader players whose pages are sampled
+     * @return Player count
+     */
+    public int getSamplingPlayerCount() {
+        return snapshot.getSamplingPlayerCount();
+    }
+
+    /**
+     * Get load time threshold for a percentile in milliseconds
+     * @param percentile Percentile name, e.g. p50, p90, p99
+     * @return Threshold, falling back to the single-shot performance threshold
+     */
+    public int getPercentileThreshold(String percentile) {
+        return snapshot.getPercentileThreshold(percentile);
+    }
+
+    /**
+     * Get directory for exported performance data
+     * @return Output directory path
+     */
+    public String getPerformanceOutputDir() {
+        return snapshot.getPerformanceOutputDir();
+    }
+
+    /**
+     * Check if performance timings are appended to the trend store and checked for regressions
+     * @return true if trends are recorded
+     */
+    public boolean isTrendEnabled() {
+        return snapshot.isTrendEnabled();
+    }
+
+    /**
+     * Get the append-only file holding timings of every run
+     * @return Trend store file path
+     */
+    public String getTrendStoreFile() {
+        return snapshot.getTrendStoreFile();
+    }
+
+    /**
+     * Get the commit recorded with timings
+     * @return Commit id, or empty to detect it from GIT_COMMIT or git
+     */
+    public String getTrendCommit() {
+        return snapshot.getTrendCommit();
+    }
+
+    /**
+     * Get number of latest samples of earlier runs that form the baseline
+     * @return Baseline window size
+     */
+    public int getTrendBaselineWindow() {
+        return snapshot.getTrendBaselineWindow();
+    }
+
+    /**
+     * Get minimum samples needed in each window before a metric is tested
+     * @return Minimum sample count
+     */
+    public int getTrendMinSamples() {
+        return snapshot.getTrendMinSamples();
+    }
+
+    /**
+     * Get p-value below which a slowdown counts as significant
+     * @return Significance level
+     */
+    public double getTrendSignificance() {
+        return snapshot.getTrendSignificance();
+    }
+
+    /**
+     * Get smallest median slowdown reported, so tiny but significant shifts are ignored
+     * @return Minimum slowdown in percent
+     */
+    public double getTrendMinSlowdownPercent() {
+        return snapshot.getTrendMinSlowdownPercent();
+    }
+
+    /**
+     * Check if DevTools request blocking is enabled
+     * @return true if ads, trackers and media matching the blocklist are blocked
+     */
+    public boolean isNetworkBlockingEnabled() {
+        return snapshot.isNetworkBlockingEnabled();
+    }
+
+    /**
+     * Get URL patterns to block, comma separated in config.properties
+     * @return Blocked URL patterns (Chrome wildcard syntax)
+     */
+    public List<String> getNetworkBlockPatterns() {
+        return snapshot.getNetworkBlockPatterns();
+    }
+
+    /**
+     * Check if images should be blocked in addition to the pattern list
+     * @return true to block images
+     */
+    public boolean isBlockImages() {
+        return snapshot.isBlockImages();
+    }
+
+    /**
+     * Check if web fonts should be blocked in addition to the pattern list
+     * @return true to block fonts
+     */
+    public boolean isBlockFonts() {
+        return snapshot.isBlockFonts();
+    }
+
+    /**
+     * Get directory holding recorded traffic archives
+     * @return Archive directory path
+     */
+    public String getProxyArchiveDir() {
+        return snapshot.getProxyArchiveDir();
+    }
+
+    /**
+     * Get simulated latency added to every replayed response
+     * @return Latency in milliseconds
+     */
+    public long getProxyReplayLatency() {
+        return snapshot.getProxyReplayLatency();
+    }
+
+    /**
+     * Check if Allure attachments are encoded and written on background threads
+     * @return true for asynchronous attachments
+     */
+    public boolean isAsyncAttachmentsEnabled() {
+        return snapshot.isAsyncAttachmentsEnabled();
+    }
+
+    /**
+     * Get maximum number of attachments waiting to be written
+     * @return Queue capacity
+     */
+    public int getAttachmentQueueCapacity() {
+        return snapshot.getAttachmentQueueCapacity();
+    }
+
+    /**
+     * Get number of background attachment writer threads
+     * @return Writer thread count
+     */
+    public int getAttachmentWriterThreads() {
+        return snapshot.getAttachmentWriterThreads();
+    }
+
+    /**
+     * Get how long a test thread waits for queue space before writing an attachment itself
+     * @return Timeout in milliseconds
+     */
+    public long getAttachmentOfferTimeoutMillis() {
+        return snapshot.getAttachmentOfferTimeoutMillis();
+    }
+
+    /**
+     * Get how often passing tests are captured in sampled mode
+     * @return Every Nth passing test is captured
+     */
+    public int getScreenshotSampleEvery() {
+        return snapshot.getScreenshotSampleEvery();
+    }
+
+    /**
+     * Get JPEG quality for stored screenshots
+     * @return Quality between 0 and 1
+     */
+    public float getScreenshotQuality() {
+        return snapshot.getScreenshotQuality();
+    }
+
+    /**
+     * Get maximum width of stored screenshots
+     * @return Width in pixels, 0 keeps the captured size
+     */
+    public int getScreenshotMaxWidth() {
+        return snapshot.getScreenshotMaxWidth();
+    }
+
+    /**
+     * Check if failure screenshots are cropped to the stats table read last
+     * @return true to crop to the table
+     */
+    public boolean isScreenshotCropToTable() {
+        return snapshot.isScreenshotCropToTable();
+    }
+
+    /**
+     * Get storage budget for screenshots in one run
+     * @return Budget in megabytes, 0 for unlimited
+     */
+    public int getScreenshotBudgetMb() {
+        return snapshot.getScreenshotBudgetMb();
+    }
+
+    /**
+     * Check if WebDriver commands and Allure steps are timed
+     * @return true to wrap sessions with the command timer
+     */
+    public boolean isInstrumentationEnabled() {
+        return snapshot.isInstrumentationEnabled();
+    }
+
+    /**
+     * Get directory for the suite's command timing JSON and Prometheus files
+     * @return Output directory path
+     */
+    public String getInstrumentationOutputDir() {
+        return snapshot.getInstrumentationOutputDir();
+    }
+
+    /**
+     * Get number of slowest commands, locators and steps listed in timing reports
+     * @return Ranking length
+     */
+    public int getInstrumentationReportTop() {
+        return snapshot.getInstrumentationReportTop();
+    }
+}
@@ -0,0 +1,544 @@
+package com.nba.automation.config;
+
+import org.openqa.selenium.Dimension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Immutable, fully parsed view of the configuration at one point in time
+ * Every setting is resolved through the layers below (highest precedence first) and parsed once
+ * into a final field, so reading a setting is a plain field access:
+ * 1. System properties (-Dexplicit.wait=60)
+ * 2. Environment variables with the project's config.env.prefix, upper case, dots as underscores
+ *    (NBA_EXPLICIT_WAIT=60 with config.env.prefix=NBA_)
+ * 3. Suite overrides (TestNG suite parameters)
+ * 4. config.properties
+ */
+public final class ConfigSnapshot {
+    private static final String PERCENTILE_THRESHOLD_PREFIX = "performance.threshold.";
+    private static final String DEFAULT_ENVIRONMENT_PREFIX = "AUTOMATION_";
+
+    private final Properties fileProperties;
+    private final Map<String, String> suiteOverrides;
+    private final Map<String, String> environment;
+    private final Properties systemProperties;
+    private final String environmentPrefix;
+    private final long loadedAt;
+
+    // Enum settings declared through EnumSettings, parsed with the snapshot (see getEnum)
+    private final Map<String, Enum<?>> enumSettings;
+
+    // Integer, long and boolean settings declared through TypedSettings, parsed with the snapshot (see getInt)
+    private final Map<String, Object> typedSettings;
+
+    private final String baseUrl;
+    private final String browser;
+    private final boolean headless;
+    private final String environmentName;
+    private final Dimension browserViewport;
+    private final String browserProfileTemplateDir;
+    private final List<String> browserProfileWarmupUrls;
+    private final List<String> browserArguments;
+
+    private final long waitProbeBudgetMillis;
+    private final int implicitWait;
+    private final int explicitWait;
+    private final Duration explicitWaitDuration;
+
+    private final String parallelMode;
+    private final int parallelThreadCount;
+
+    private final boolean sessionPoolEnabled;
+    private final int sessionPoolSize;
+    private final int sessionPoolPrewarm;
+    private final int sessionPoolMaxReuse;
+    private final int sessionPoolCheckoutTimeout;
+
+    private final int performanceThreshold;
+    private final int ttfbThreshold;
+    private final int domContentLoadedThreshold;
+    private final int firstContentfulPaintThreshold;
+    private final int samplingWarmupRuns;
+    private final int samplingMeasuredRuns;
+    private final int samplingPlayerCount;
+    private final Map<String, Integer> percentileThresholds;
+    private final String performanceOutputDir;
+    private final boolean trendEnabled;
+    private final String trendStoreFile;
+    private final String trendCommit;
+    private final int trendBaselineWindow;
+    private final int trendMinSamples;
+    private final double trendSignificance;
+    private final double trendMinSlowdownPercent;
+
+    private final boolean networkBlockingEnabled;
+    private final List<String> networkBlockPatterns;
+    private final boolean blockImages;
+    private final boolean blockFonts;
+
+    private final String proxyArchiveDir;
+    private final long proxyReplayLatency;
+
+    private final boolean asyncAttachmentsEnabled;
+    private final int attachmentQueueCapacity;
+    private final int attachmentWriterThreads;
+    private final long attachmentOfferTimeoutMillis;
+
+    private final int screenshotSampleEvery;
+    private final float screenshotQuality;
+    private final int screenshotMaxWidth;
+    private final boolean screenshotCropToTable;
+    private final int screenshotBudgetMb;
+
+    private final boolean instrumentationEnabled;
+    private final String instrumentationOutputDir;
+    private final int instrumentationReportTop;
+
+    /**
+     * Constructor, resolves and parses every setting
+     * @param fileProperties Properties loaded from config.properties
+     * @param suiteOverrides Suite-level overrides
+     * @param environment Environment variables
+     * @param systemProperties System properties (copied)
+     */
+    public ConfigSnapshot(Properties fileProperties, Map<String, String> suiteOverrides,
+                          Map<String, String> environment, Properties systemProperties) {
+        this.fileProperties = copy(fileProperties);
+        this.suiteOverrides = Collections.unmodifiableMap(new HashMap<>(suiteOverrides));
+        this.environment = environment;
+        this.systemProperties = copy(systemProperties);
+        // Each project names its own variables, so one machine can configure several suites
+        this.environmentPrefix = this.systemProperties.getProperty("config.env.prefix",
+                this.fileProperties.getProperty("config.env.prefix", DEFAULT_ENVIRONMENT_PREFIX));
+        this.loadedAt = System.currentTimeMillis();
+
+        // Step 1: General settings
+        baseUrl = getProperty("base.url");
+        browser = getProperty("browser", "chrome");
+        headless = Boolean.parseBoolean(getProperty("headless", "false"));
+        environmentName = getProperty("environment", "qa");
+        String[] viewport = getProperty("browser.viewport", "1920x1080").toLowerCase().split("x");
+        if (viewport.length != 2) {
+            throw new IllegalArgumentException("browser.viewport must be WIDTHxHEIGHT, e.g. 1920x1080");
+        }
+        browserViewport = new Dimension(Integer.parseInt(viewport[0].trim()), Integer.parseInt(viewport[1].trim()));
+        browserProfileTemplateDir = getProperty("browser.profile.template.dir", "target/browser-profile");
+        List<String> warmupUrls = new ArrayList<>();
+        for (String url : getProperty("browser.profile.warmup.urls", baseUrl != null ? baseUrl : "").split(",")) {
+            if (!url.trim().isEmpty()) {
+                warmupUrls.add(url.trim());
+            }
+        }
+        browserProfileWarmupUrls = Collections.unmodifiableList(warmupUrls);
+        List<String> arguments = new ArrayList<>();
+        for (String argument : getProperty("browser.arguments", "").split(",")) {
+            if (!argument.trim().isEmpty()) {
+                arguments.add(argument.trim());
+            }
+        }
+        browserArguments = Collections.unmodifiableList(arguments);
+
+        // Step 2: Waits
+        waitProbeBudgetMillis = Long.parseLong(getProperty("wait.probe.budget.ms", "3000"));
+        implicitWait = Integer.parseInt(getProperty("implicit.wait", "10"));
+        explicitWait = Integer.parseInt(getProperty("explicit.wait", "30"));
+        explicitWaitDuration = Duration.ofSeconds(explicitWait);
+
+        // Step 3: Execution and browser sessions
+        parallelMode = getProperty("parallel.mode", "none").toLowerCase();
+        parallelThreadCount = Integer.parseInt(getProperty("parallel.threads", "4"));
+        sessionPoolEnabled = Boolean.parseBoolean(getProperty("session.pool.enabled", "true"));
+        sessionPoolSize = Integer.parseInt(getProperty("session.pool.size", "4"));
+        sessionPoolPrewarm = Integer.parseInt(getProperty("session.pool.prewarm", "1"));
+        sessionPoolMaxReuse = Integer.parseInt(getProperty("session.pool.max.reuse", "10"));
+        sessionPoolCheckoutTimeout = Integer.parseInt(getProperty("session.pool.checkout.timeout", "120"));
+
+        // Step 4: Performance thresholds and sampling
+        performanceThreshold = Integer.parseInt(getProperty("performance.threshold", "4000"));
+        ttfbThreshold = Integer.parseInt(getProperty("performance.ttfb.threshold", "1500"));
+        domContentLoadedThreshold = Integer.parseInt(getProperty("performance.dcl.threshold", "3000"));
+        firstContentfulPaintThreshold = Integer.parseInt(getProperty("performance.fcp.threshold", "3000"));
+        samplingWarmupRuns = Integer.parseInt(getProperty("performance.sampling.warmup", "1"));
+        samplingMeasuredRuns = Integer.parseInt(getProperty("performance.sampling.runs", "20"));
+        samplingPlayerCount = Integer.parseInt(getProperty("performance.sampling.players", "10"));
+        Map<String, Integer> percentiles = new HashMap<>();
+        for (String key : keys()) {
+            if (key.startsWith(PERCENTILE_THRESHOLD_PREFIX)) {
+                percentiles.put(key.substring(PERCENTILE_THRESHOLD_PREFIX.length()), Integer.parseInt(getProperty(key)));
+            }
+        }
+        percentileThresholds = Collections.unmodifiableMap(percentiles);
+        performanceOutputDir = getProperty("performance.output.dir", "target/performance");
+        trendEnabled = Boolean.parseBoolean(getProperty("performance.trend.enabled", "true"));
+        trendStoreFile = getProperty("performance.trend.file", "performance-history/timings.tsv");
+        trendCommit = getProperty("performance.trend.commit", "");
+        trendBaselineWindow = Integer.parseInt(getProperty("performance.trend.window.baseline", "50"));
+        trendMinSamples = Integer.parseInt(getProperty("performance.trend.min.samples", "5"));
+        trendSignificance = Double.parseDouble(getProperty("performance.trend.significance", "0.01"));
+        trendMinSlowdownPercent = Double.parseDouble(getProperty("performance.trend.min.slowdown.percent", "10"));
+
+        // Step 5: Network blocking
+        networkBlockingEnabled = Boolean.parseBoolean(getProperty("network.block.enabled", "false"));
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : getProperty("network.block.patterns", "").split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        networkBlockPatterns = Collections.unmodifiableList(patterns);
+        blockImages = Boolean.parseBoolean(getProperty("network.block.images", "false"));
+        blockFonts = Boolean.parseBoolean(getProperty("network.block.fonts", "false"));
+
+        // Step 6: Record/replay proxy
+        proxyArchiveDir = getProperty("proxy.archive.dir", "src/test/resources/archives");
+        proxyReplayLatency = Long.parseLong(getProperty("proxy.replay.latency.ms", "0"));
+
+        // Step 7: Allure attachment writer and screenshots
+        asyncAttachmentsEnabled = Boolean.parseBoolean(getProperty("attachments.async.enabled", "true"));
+        attachmentQueueCapacity = Integer.parseInt(getProperty("attachments.queue.capacity", "64"));
+        attachmentWriterThreads = Integer.parseInt(getProperty("attachments.writer.threads", "2"));
+        attachmentOfferTimeoutMillis = Long.parseLong(getProperty("attachments.offer.timeout.ms", "500"));
+        screenshotSampleEvery = Integer.parseInt(getProperty("screenshot.sample.every", "10"));
+        screenshotQuality = Float.parseFloat(getProperty("screenshot.quality", "0.7"));
+        screenshotMaxWidth = Integer.parseInt(getProperty("screenshot.max.width", "1280"));
+        screenshotCropToTable = Boolean.parseBoolean(getProperty("screenshot.crop.to.table", "true"));
+        screenshotBudgetMb = Integer.parseInt(getProperty("screenshot.budget.mb", "50"));
+
+        // Step 8: Command timing
+        instrumentationEnabled = Boolean.parseBoolean(getProperty("instrumentation.enabled", "true"));
+        instrumentationOutputDir = getProperty("instrumentation.output.dir", "target/command-timings");
+        instrumentationReportTop = Integer.parseInt(getProperty("instrumentation.report.top", "10"));
+
+        // Step 9: Declared enum settings, so a bad value is rejected here rather than on first read
+        Map<String, Enum<?>> enums = new HashMap<>();
+        for (Map.Entry<String, Enum<?>> setting : DeclaredEnums.DEFAULTS.entrySet()) {
+            enums.put(setting.getKey(), parseEnum(setting.getKey(), setting.getValue()));
+        }
+        enumSettings = Collections.unmodifiableMap(enums);
+
+        // Step 10: Declared integer, long and boolean settings, rejected here like the enum settings
+        Map<String, Object> typed = new HashMap<>();
+        for (Map.Entry<String, Object> setting : DeclaredTypes.DEFAULTS.entrySet()) {
+            typed.put(setting.getKey(), parseTyped(setting.getKey(), setting.getValue()));
+        }
+        typedSettings = Collections.unmodifiableMap(typed);
+    }
+
+    /**
+     * Resolve a raw property value through the layers
+     * @param key Property key
+     * @return Value from the highest layer defining the key, or null
+     */
+    public String getProperty(String key) {
+        String value = systemProperties.getProperty(key);
+        if (value == null) {
+            value = environment.get(getEnvironmentVariable(key));
+        }
+        if (value == null) {
+            value = suiteOverrides.get(key);
+        }
+        if (value == null) {
+            value = fileProperties.getProperty(key);
+        }
+        return value;
+    }
+
+    /**
+     * Resolve a raw property value through the layers with default fallback
+     * @param key Property key
+     * @param defaultValue Default value if no layer defines the key
+     * @return Property value or default value
+     */
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get an enum setting whose type belongs to a feature package or test project, e.g. wait.engine
+     * The setting must be declared through EnumSettings; it was parsed and validated when the snapshot was built
+     * @param key Property key, case-insensitive value
+     * @param defaultValue Value when the key is not set, also selects the enum type
+     * @return Parsed value
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Enum<E>> E getEnum(String key, E defaultValue) {
+        Enum<?> value = enumSettings.get(key);
+        if (value == null || value.getDeclaringClass() != defaultValue.getDeclaringClass()) {
+            throw new IllegalArgumentException(key + " is not declared as a " + defaultValue.getDeclaringClass().getName()
+                    + " setting in META-INF/services/" + EnumSettings.class.getName());
+        }
+        return (E) value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Enum<?> parseEnum(String key, Enum<?> defaultValue) {
+        String value = getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf((Class) defaultValue.getDeclaringClass(), upper(value));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(key + " must be one of "
+                    + Arrays.toString(defaultValue.getDeclaringClass().getEnumConstants())
+                    + ", got '" + value + "'", e);
+        }
+    }
+
+    /**
+     * Get an integer setting declared by a feature package or test project, e.g. fanout.concurrency
+     * The setting must be declared through TypedSettings; it was parsed and validated when the snapshot was built
+     * @param key Property key
+     * @return Parsed value, or the declared default when the key is not set
+     */
+    public int getInt(String key) {
+        return getTyped(key, Integer.class);
+    }
+
+    /**
+     * Get a long setting declared by a feature package or test project, e.g. fixtures.ttl.seconds
+     * The setting must be declared through TypedSettings; it was parsed and validated when the snapshot was built
+     * @param key Property key
+     * @return Parsed value, or the declared default when the key is not set
+     */
+    public long getLong(String key) {
+        return getTyped(key, Long.class);
+    }
+
+    /**
+     * Get a boolean setting declared by a feature package or test project, e.g. fixtures.reuse.enabled
+     * The setting must be declared through TypedSettings; it was parsed and validated when the snapshot was built
+     * @param key Property key, case-insensitive true or false
+     * @return Parsed value, or the declared default when the key is not set
+     */
+    public boolean getBoolean(String key) {
+        return getTyped(key, Boolean.class);
+    }
+
+    private <T> T getTyped(String key, Class<T> type) {
+        Object value = typedSettings.get(key);
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException(key + " is not declared as a " + type.getSimpleName()
+                    + " setting in META-INF/services/" + TypedSettings.class.getName());
+        }
+        return type.cast(value);
+    }
+
+    private Object parseTyped(String key, Object defaultValue) {
+        String value = getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        try {
+            if (defaultValue instanceof Integer) {
+                return Integer.valueOf(trimmed);
+            }
+            if (defaultValue instanceof Long) {
+                return Long.valueOf(trimmed);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a whole number, got '" + value + "'", e);
+        }
+        if (defaultValue instanceof Boolean) {
+            // Boolean.parseBoolean would turn a typo into false
+            if (!trimmed.equalsIgnoreCase("true") && !trimmed.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException(key + " must be true or false, got '" + value + "'");
+            }
+            return Boolean.valueOf(trimmed);
+        }
+        throw new IllegalArgumentException(key + " is declared with an unsupported default type "
+                + defaultValue.getClass().getName());
+    }
+
+    /**
+     * Get the environment variable that overrides a property
+     * @param key Property key, e.g. explicit.wait
+     * @return Variable name, e.g. NBA_EXPLICIT_WAIT with config.env.prefix=NBA_
+     */
+    public String getEnvironmentVariable(String key) {
+        return environmentPrefix + key.toUpperCase(Locale.ROOT).replace('.', '_');
+    }
+
+    /**
+     * Enum settings of every EnumSettings on the classpath, loaded once
+     */
+    private static final class DeclaredEnums {
+        static final Map<String, Enum<?>> DEFAULTS = load();
+
+        private static Map<String, Enum<?>> load() {
+            Map<String, Enum<?>> defaults = new HashMap<>();
+            for (EnumSettings settings : ServiceLoader.load(EnumSettings.class, ConfigSnapshot.class.getClassLoader())) {
+                defaults.putAll(settings.getDefaults());
+            }
+            return Collections.unmodifiableMap(defaults);
+        }
+    }
+
+    /**
+     * Integer, long and boolean settings of every TypedSettings on the classpath, loaded once
+     */
+    private static final class DeclaredTypes {
+        static final Map<String, Object> DEFAULTS = load();
+
+        private static Map<String, Object> load() {
+            Map<String, Object> defaults = new HashMap<>();
+            for (TypedSettings settings : ServiceLoader.load(TypedSettings.class, ConfigSnapshot.class.getClassLoader())) {
+                defaults.putAll(settings.getDefaults());
+            }
+            return Collections.unmodifiableMap(defaults);
+        }
+    }
+
+    private Set<String> keys() {
+        Set<String> keys = new LinkedHashSet<>(fileProperties.stringPropertyNames());
+        keys.addAll(suiteOverrides.keySet());
+        keys.addAll(systemProperties.stringPropertyNames());
+        return keys;
+    }
+
+    private static Properties copy(Properties source) {
+        Properties copy = new Properties();
+        copy.putAll(source);
+        return copy;
+    }
+
+    private static String upper(String value) {
+        return value.trim().toUpperCase();
+    }
+
+    public long getLoadedAt() { return loadedAt; }
+
+    public Map<String, String> getSuiteOverrides() { return suiteOverrides; }
+
+    public String getBaseUrl() { return baseUrl; }
+
+    public String getBrowser() { return browser; }
+
+    public boolean isHeadless() { return headless; }
+
+    public String getEnvironmentName() { return environmentName; }
+
+    public Dimension getBrowserViewport() { return browserViewport; }
+
+    public String getBrowserProfileTemplateDir() { return browserProfileTemplateDir; }
+
+    public List<String> getBrowserProfileWarmupUrls() { return browserProfileWarmupUrls; }
+
+    public List<String> getBrowserArguments() { return browserArguments; }
+
+    public long getWaitProbeBudgetMillis() { return waitProbeBudgetMillis; }
+
+    public int getImplicitWait() { return implicitWait; }
+
+    public int getExplicitWait() { return explicitWait; }
+
+    public Duration getExplicitWaitDuration() { return explicitWaitDuration; }
+
+    public String getParallelMode() { return parallelMode; }
+
+    public int getParallelThreadCount() { return parallelThreadCount; }
+
+    public boolean isSessionPoolEnabled() { return sessionPoolEnabled; }
+
+    public int getSessionPoolSize() { return sessionPoolSize; }
+
+    public int getSessionPoolPrewarm() { return sessionPoolPrewarm; }
+
+    public int getSessionPoolMaxReuse() { return sessionPoolMaxReuse; }
+
+    public int getSessionPoolCheckoutTimeout() { return sessionPoolCheckoutTimeout; }
+
+    public int getPerformanceThreshold() { return performanceThreshold; }
+
+    public int getTtfbThreshold() { return ttfbThreshold; }
+
+    public int getDomContentLoadedThreshold() { return domContentLoadedThreshold; }
+
+    public int getFirstContentfulPaintThreshold() { return firstContentfulPaintThreshold; }
+
+    public int getSamplingWarmupRuns() { return samplingWarmupRuns; }
+
+    public int getSamplingMeasuredRuns() { return samplingMeasuredRuns; }
+
+    public int getSamplingPlayerCount() { return samplingPlayerCount; }
+
+    /**
+     * Get load time threshold for a percentile in milliseconds
+     * @param percentile Percentile name, e.g. p50, p90, p99
+     * @return Threshold, falling back to the single-shot performance threshold
+     */
+    public int getPercentileThreshold(String percentile) {
+        Integer threshold = percentileThresholds.get(percentile);
+        if (threshold == null) {
+            // Keys only set through environment variables are not enumerable
+            String value = getProperty(PERCENTILE_THRESHOLD_PREFIX + percentile);
+            return value != null ? Integer.parseInt(value) : performanceThreshold;
+        }
+        return threshold;
+    }
+
+    public String getPerformanceOutputDir() { return performanceOutputDir; }
+
+    public boolean isTrendEnabled() { return trendEnabled; }
+
+    public String getTrendStoreFile() { return trendStoreFile; }
+
+    public String getTrendCommit() { return trendCommit; }
+
+    public int getTrendBaselineWindow() { return trendBaselineWindow; }
+
+    public int getTrendMinSamples() { return trendMinSamples; }
+
+    public double getTrendSignificance() { return trendSignificance; }
+
+    public double getTrendMinSlowdownPercent() { return trendMinSlowdownPercent; }
+
+    public boolean isNetworkBlockingEnabled() { return networkBlockingEnabled; }
+
+    public List<String> getNetworkBlockPatterns() { return networkBlockPatterns; }
+
+    public boolean isBlockImages() { return blockImages; }
+
+    public boolean isBlockFonts() { return blockFonts; }
+
+    public String getProxyArchiveDir() { return proxyArchiveDir; }
+
+    public long getProxyReplayLatency() { return proxyReplayLatency; }
+
+    public boolean isAsyncAttachmentsEnabled() { return asyncAttachmentsEnabled; }
+
+    public int getAttachmentQueueCapacity() { return attachmentQueueCapacity; }
+
+    public int getAttachmentWriterThreads() { return attachmentWriterThreads; }
+
+    public long getAttachmentOfferTimeoutMillis() { return attachmentOfferTimeoutMillis; }
+
+    public int getScreenshotSampleEvery() { return screenshotSampleEvery; }
+
+    public float getScreenshotQuality() { return screenshotQuality; }
+
+    public int getScreenshotMaxWidth() { return screenshotMaxWidth; }
+
+    public boolean isScreenshotCropToTable() { return screenshotCropToTable; }
+
+    public int getScreenshotBudgetMb() { return screenshotBudgetMb; }
+
+    public boolean isInstrumentationEnabled() { return instrumentationEnabled; }
+
+    public String getInstrumentationOutputDir() { return instrumentationOutputDir; }
+
+    public int getInstrumentationReportTop() { return instrumentationReportTop; }
+}
@@ -0,0 +1,18 @@
+package com.nba.automation.config;
+
+import java.util.Map;
+
+/**
+ * Enum settings declared by the packages and test projects that own the enum types
+ * Implementations are listed in META-INF/services/com.nba.automation.config.EnumSettings. Every ConfigSnapshot
+ * parses the declared settings when it is built, so a bad value fails the load or reload instead of a test,
+ * and the config package does not depend on the feature packages reading them
+ */
+public interface EnumSettings {
+
+    /**
+     * Get the declared settings
+     * @return Property key to default value; the default also selects the enum type
+     */
+    Map<String, Enum<?>> getDefaults();
+}
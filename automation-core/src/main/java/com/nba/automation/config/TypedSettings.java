@@ -0,0 +1,18 @@
+package com.nba.automation.config;
+
+import java.util.Map;
+
+/**
+ * Integer, long and boolean settings declared by the packages and test projects that read them
+ * Implementations are listed in META-INF/services/com.nba.automation.config.TypedSettings. Like EnumSettings,
+ * every ConfigSnapshot parses the declared settings when it is built, so a bad number fails the load or reload
+ * instead of the first test that reads it
+ */
+public interface TypedSettings {
+
+    /**
+     * Get the declared settings
+     * @return Property key to default value; the default's class (Integer, Long or Boolean) selects the type
+     */
+    Map<String, Object> getDefaults();
+}
@@ -0,0 +1,49 @@
+package com.nba.automation.listeners;
+
+import com.nba.automation.config.ConfigManager;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * TestNG listener that applies suite parameters as configuration overrides and switches the suite to
+ * parallel execution
+ * Mode and thread count come from parallel.mode / parallel.threads (config file, suite parameters,
+ * prefixed environment variables or -D system properties)
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    /**
+     * Called before the suites run
+     * Applies suite parameters to the configuration, then the configured parallel mode and thread count
+     * to every suite
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigManager config = ConfigManager.getInstance();
+        for (XmlSuite suite : suites) {
+            config.applySuiteOverrides(suite.getParameters());
+        }
+        String mode = config.getParallelMode();
+        int threadCount = config.getParallelThreadCount();
+
+        XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(mode);
+        if (parallelMode == XmlSuite.ParallelMode.NONE) {
+            return;
+        }
+        if (parallelMode != XmlSuite.ParallelMode.METHODS && parallelMode != XmlSuite.ParallelMode.CLASSES) {
+            throw new IllegalArgumentException("Parallel mode '" + mode + "' is not supported, use none, methods or classes");
+        }
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+            suite.getTests().forEach(test -> {
+                test.setParallel(parallelMode);
+                test.setThreadCount(threadCount);
+            });
+        }
+        System.out.println("Running suite in parallel: " + parallelMode + " across " + threadCount + " threads");
+    }
+}
@@ -0,0 +1,146 @@
+package com.nba.automation.performance;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Map;
+
+/**
+ * Collects Navigation, Resource and Paint Timing entries from the browser
+ * Numbers come from the page's own performance timeline, free of WebDriver polling overhead
+ */
+public class BrowserTimingCollector {
+
+    // Sets a performance mark the first time the selector matches a rendered element; observes the document
+    // node so it also works when registered before the document has any content
+    private static final String MARK_FUNCTION =
+            "(function (selector, markName) {"
+            + "if (performance.setResourceTimingBufferSize) { performance.setResourceTimingBufferSize(1000); }"
+            + "var markIfVisible = function () {"
+            + "  if (performance.getEntriesByName(markName, 'mark').length > 0) { return true; }"
+            + "  var el = document.querySelector(selector);"
+            + "  if (el && el.getClientRects().length > 0) { performance.mark(markName); return true; }"
+            + "  return false;"
+            + "};"
+            + "if (!markIfVisible()) {"
+            + "  var observer = new MutationObserver(function () { if (markIfVisible()) { observer.disconnect(); } });"
+            + "  observer.observe(document,"
+            + "      {childList: true, subtree: true, attributes: true, attributeFilter: ['class', 'style']});"
+            + "}"
+            + "})";
+
+    private static final String INSTALL_MARK_SCRIPT = MARK_FUNCTION + "(arguments[0], arguments[1]);";
+
+    // Reads the timing entries of the current document in one round-trip
+    private static final String COLLECT_SCRIPT =
+            "var markName = arguments[0];"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "var fcp = performance.getEntriesByName('first-contentful-paint', 'paint')[0];"
+            + "var mark = performance.getEntriesByName(markName, 'mark')[0];"
+            + "var resources = performance.getEntriesByType('resource');"
+            + "var resourceBytes = 0;"
+            + "for (var i = 0; i < resources.length; i++) { resourceBytes += resources[i].transferSize || 0; }"
+            + "return {"
+            + "  ttfb: nav ? nav.responseStart - nav.startTime : -1,"
+            + "  domContentLoaded: nav ? nav.domContentLoadedEventEnd : -1,"
+            + "  loadEventEnd: nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : -1,"
+            + "  firstContentfulPaint: fcp ? fcp.startTime : -1,"
+            + "  markTime: mark ? mark.startTime : -1,"
+            + "  documentBytes: nav ? nav.transferSize || 0 : 0,"
+            + "  resourceBytes: resourceBytes,"
+            + "  resourceCount: resources.length"
+            + "};";
+
+    /**
+     * Register the visibility mark observer for the next document the session loads, before navigating
+     * The page then sets the mark itself from its first byte on, with no WebDriver round-trip in the number;
+     * needs CDP (Chrome), other browsers get the observer in completeVisibilityMark instead
+     * @param driver WebDriver instance
+     * @param cssSelector CSS selector of the element
+     * @param markName Name of the performance mark
+     * @return Identifier of the registered script, or null if it could not be registered
+     */
+    @SuppressWarnings("unchecked")
+    public static String prepareVisibilityMark(WebDriver driver, String cssSelector, String markName) {
+        if (!(driver instanceof HasCdp)) {
+            return null;
+        }
+        try {
+            String source = MARK_FUNCTION + "(" + jsString(cssSelector) + ", " + jsString(markName) + ");";
+            Map<String, Object> result = ((HasCdp) driver).executeCdpCommand(
+                    "Page.addScriptToEvaluateOnNewDocument", Map.of("source", source));
+            return (String) result.get("identifier");
+        } catch (Exception e) {
+            System.err.println("Failed to register visibility mark before navigation: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Finish a visibility mark started with prepareVisibilityMark, call right after navigation
+     * Unregisters the script so later documents are not observed; without a registered script the observer
+     * is installed now, and the mark then includes the time until this call if the element was already visible
+     * @param driver WebDriver instance
+     * @param identifier Identifier returned by prepareVisibilityMark, or null
+     * @param cssSelector CSS selector of the element
+     * @param markName Name of the performance mark
+     */
+    public static void completeVisibilityMark(WebDriver driver, String identifier, String cssSelector, String markName) {
+        if (identifier == null) {
+            installVisibilityMark(driver, cssSelector, markName);
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                    Map.of("identifier", identifier));
+        } catch (Exception e) {
+            System.err.println("Failed to unregister visibility mark script: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Install an in-page observer that sets a performance mark when an element first becomes visible
+     * Call right after navigation, before waiting for the element
+     * @param driver WebDriver instance
+     * @param cssSelector CSS selector of the element
+     * @param markName Name of the performance mark
+     */
+    public static void installVisibilityMark(WebDriver driver, String cssSelector, String markName) {
+        ((JavascriptExecutor) driver).executeScript(INSTALL_MARK_SCRIPT, cssSelector, markName);
+    }
+
+    /**
+     * Collect the timing breakdown of the current page
+     * @param driver WebDriver instance
+     * @param markName Name of the element visibility mark to report
+     * @return Page timings
+     */
+    @SuppressWarnings("unchecked")
+    public static PageTimings collect(WebDriver driver, String markName) {
+        Map<String, Object> entries = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(COLLECT_SCRIPT, markName);
+
+        return new PageTimings(
+                toDouble(entries.get("ttfb")),
+                toDouble(entries.get("domContentLoaded")),
+                toDouble(entries.get("loadEventEnd")),
+                toDouble(entries.get("firstContentfulPaint")),
+                toDouble(entries.get("markTime")),
+                toLong(entries.get("documentBytes")),
+                toLong(entries.get("resourceBytes")),
+                (int) toLong(entries.get("resourceCount")));
+    }
+
+    private static String jsString(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
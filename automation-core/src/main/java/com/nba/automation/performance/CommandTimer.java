@@ -0,0 +1,164 @@
+package com.nba.automation.performance;
+
+import com.nba.automation.config.ConfigManager;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebDriver listener that times every command of a decorated session and records it in CommandTimings
+ * with its command type, locator and the Allure step it ran under
+ * Element commands are attributed to the locator that found the element
+ */
+public class CommandTimer implements WebDriverListener {
+
+    // Longest script prefix used as the locator of executeScript calls
+    private static final int SCRIPT_LABEL_LENGTH = 60;
+
+    // Start times of the commands in flight on each thread
+    private static final ThreadLocal<Deque<Long>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // Locator each element was found by; elements go away with their page
+    private final Map<WebElement, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Wrap a session so its commands are timed, when instrumentation.enabled is set
+     * @param driver Browser session
+     * @return Decorated session, or the session itself when instrumentation is disabled
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (!ConfigManager.getInstance().isInstrumentationEnabled()) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new CommandTimer()).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isTimed(method)) {
+            STARTS.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (isTimed(method)) {
+            long micros = elapsedMicros();
+            String locator = locatorOf(target, method, args);
+            rememberLocators(locator, args, result);
+            CommandTimings.recordCommand(commandOf(target, method), locator, StepTracker.currentStep(), micros);
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (isTimed(method)) {
+            // Failed commands (mostly lookups of absent elements) are ranked apart from successful ones
+            long micros = elapsedMicros();
+            CommandTimings.recordCommand(commandOf(target, method) + " [error]", locatorOf(target, method, args),
+                    StepTracker.currentStep(), micros);
+        }
+    }
+
+    private static boolean isTimed(Method method) {
+        return method.getDeclaringClass() != Object.class;
+    }
+
+    private static long elapsedMicros() {
+        Long startNanos = STARTS.get().poll();
+        return startNanos == null ? 0 : TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Name a command by the kind of object it was called on, e.g. WebElement.click or Navigation.to
+     * @param target Undecorated object the command was called on
+     * @param method Called method
+     * @return Command type
+     */
+    static String commandOf(Object target, Method method) {
+        String type;
+        if (target instanceof WebElement) {
+            type = "WebElement";
+        } else if (target instanceof WebDriver) {
+            type = "WebDriver";
+        } else if (target instanceof WebDriver.Navigation) {
+            type = "Navigation";
+        } else if (target instanceof WebDriver.TargetLocator) {
+            type = "TargetLocator";
+        } else if (target instanceof Alert) {
+            type = "Alert";
+        } else {
+            type = method.getDeclaringClass().getSimpleName();
+        }
+        return type + "." + method.getName();
+    }
+
+    /**
+     * Describe what a command acted on: the locator of a lookup or of the element, the URL of a navigation,
+     * or the start of an executed script
+     * @param target Undecorated object the command was called on
+     * @param method Called method
+     * @param args Call arguments
+     * @return Locator text, or null when the command has none
+     */
+    private String locatorOf(Object target, Method method, Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By) {
+                    String parent = target instanceof WebElement ? elementLocators.get(target) : null;
+                    return parent == null ? arg.toString() : parent + " > " + arg;
+                }
+            }
+        }
+        if (target instanceof WebElement) {
+            return elementLocators.get(target);
+        }
+        String name = method.getName();
+        if (args != null && args.length > 0 && args[0] != null) {
+            if ("executeScript".equals(name) || "executeAsyncScript".equals(name)) {
+                String script = args[0].toString().trim().replaceAll("\\s+", " ");
+                return "script: " + (script.length() > SCRIPT_LABEL_LENGTH
+                        ? script.substring(0, SCRIPT_LABEL_LENGTH) + "..." : script);
+            }
+            if ("get".equals(name) || "to".equals(name)) {
+                return args[0].toString();
+            }
+        }
+        return null;
+    }
+
+    private void rememberLocators(String locator, Object[] args, Object result) {
+        if (locator == null || args == null || args.length == 0 || !(args[0] instanceof By)) {
+            return;
+        }
+        if (result instanceof List) {
+            for (Object element : (List<?>) result) {
+                rememberLocator(locator, element);
+            }
+        } else {
+            rememberLocator(locator, result);
+        }
+    }
+
+    private void rememberLocator(String locator, Object element) {
+        // Results arrive decorated, later commands report the undecorated element as their target
+        Object original = element instanceof Decorated ? ((Decorated<?>) element).getOriginal() : element;
+        if (original instanceof WebElement) {
+            elementLocators.put((WebElement) original, locator);
+        }
+    }
+}
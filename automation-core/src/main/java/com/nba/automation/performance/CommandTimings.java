@@ -0,0 +1,317 @@
+package com.nba.automation.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency of WebDriver commands aggregated by command type, locator and the Allure step they ran under,
+ * plus the wall time of each step
+ * One instance collects the current test on each thread and one collects the whole suite. Values are
+ * recorded in microseconds and reported in milliseconds (text, JSON) or seconds (Prometheus)
+ */
+public class CommandTimings {
+    // Commands issued outside any @Step, e.g. in test bodies and listeners
+    public static final String NO_STEP = "(no step)";
+
+    private static final CommandTimings SUITE = new CommandTimings("suite");
+    private static final ThreadLocal<CommandTimings> CURRENT_TEST = new ThreadLocal<>();
+
+    // Per-test summaries kept for the suite JSON; histograms are dropped when a test ends
+    private static final Map<String, Map<String, Object>> TEST_SUMMARIES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // Prometheus client default buckets, in seconds
+    private static final double[] BUCKET_SECONDS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    // Ten minutes in microseconds with two significant digits keeps each histogram small
+    private static final long HIGHEST_TRACKABLE_MICROS = 600_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final String name;
+    private final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> locators = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> stepCommands = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * @param name Test name, or "suite"
+     */
+    CommandTimings(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Start collecting a test on the current thread
+     * @param testName Test name, keys the test in the suite JSON
+     */
+    public static void beginTest(String testName) {
+        CURRENT_TEST.set(new CommandTimings(testName));
+        StepTracker.clear();
+    }
+
+    /**
+     * Stop collecting the current thread's test and keep its summary for the suite export
+     * @param top Number of slowest commands, locators and steps to list
+     * @return Report of the test, or null when it issued no commands
+     */
+    public static String endTest(int top) {
+        CommandTimings timings = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        if (timings == null || timings.commands.isEmpty()) {
+            return null;
+        }
+        TEST_SUMMARIES.put(timings.name, timings.toSummary(top));
+        return timings.getReport(top);
+    }
+
+    /**
+     * Record one WebDriver command for the current test and the suite
+     * @param command Command type, e.g. WebElement.click
+     * @param locator Locator, URL or script the command used, or null
+     * @param step Innermost Allure step the command ran under, or null
+     * @param micros Duration in microseconds
+     */
+    public static void recordCommand(String command, String locator, String step, long micros) {
+        SUITE.add(command, locator, step, micros);
+        CommandTimings timings = CURRENT_TEST.get();
+        if (timings != null) {
+            timings.add(command, locator, step, micros);
+        }
+    }
+
+    /**
+     * Record the wall time of a finished Allure step for the current test and the suite
+     * @param step Step key
+     * @param micros Duration in microseconds
+     */
+    public static void recordStep(String step, long micros) {
+        SUITE.addStep(step, micros);
+        CommandTimings timings = CURRENT_TEST.get();
+        if (timings != null) {
+            timings.addStep(step, micros);
+        }
+    }
+
+    /**
+     * Get timings collected across the suite so far
+     * @return Suite timings
+     */
+    public static CommandTimings suite() {
+        return SUITE;
+    }
+
+    /**
+     * Get timings of the test running on the current thread
+     * @return Test timings, or null outside a test
+     */
+    public static CommandTimings currentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    /**
+     * Forget suite timings and test summaries, at suite start
+     */
+    public static void reset() {
+        SUITE.clear();
+        TEST_SUMMARIES.clear();
+    }
+
+    /**
+     * Write the suite timings as command-timings.json (suite and per-test summaries) and
+     * command-timings.prom (Prometheus text exposition format)
+     * @param outputDir Target directory, created if missing
+     * @param top Number of slowest entries ranked in the JSON
+     * @return Report of the suite, or null when no commands were recorded
+     * @throws IOException if a file cannot be written
+     */
+    public static String writeSuiteFiles(Path outputDir, int top) throws IOException {
+        if (SUITE.commands.isEmpty()) {
+            return null;
+        }
+        Files.createDirectories(outputDir);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("suite", SUITE.toSummary(top));
+        synchronized (TEST_SUMMARIES) {
+            json.put("tests", new LinkedHashMap<>(TEST_SUMMARIES));
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(outputDir.resolve("command-timings.json").toFile(), json);
+        Files.write(outputDir.resolve("command-timings.prom"), SUITE.toPrometheus().getBytes(StandardCharsets.UTF_8));
+
+        return SUITE.getReport(top) + String.format("%nWritten to %s", outputDir.toAbsolutePath());
+    }
+
+    private void add(String command, String locator, String step, long micros) {
+        histogram(commands, command).recordValue(micros);
+        if (locator != null) {
+            histogram(locators, locator).recordValue(micros);
+        }
+        histogram(stepCommands, step == null ? NO_STEP : step).recordValue(micros);
+    }
+
+    private void addStep(String step, long micros) {
+        histogram(steps, step).recordValue(micros);
+    }
+
+    private void clear() {
+        commands.clear();
+        locators.clear();
+        stepCommands.clear();
+        steps.clear();
+    }
+
+    /**
+     * Rank the slowest commands, locators and steps by total time
+     * @param top Number of entries per ranking
+     * @return Multi-line report
+     */
+    public String getReport(int top) {
+        long commandCount = 0;
+        long commandMicros = 0;
+        for (LatencyHistogram histogram : commands.values()) {
+            commandCount += histogram.getTotalCount();
+            commandMicros += total(histogram);
+        }
+
+        StringBuilder report = new StringBuilder(String.format("WebDriver commands: %d taking %.1fs",
+                commandCount, commandMicros / 1_000_000.0));
+        appendRanking(report, "Slowest commands", commands, top);
+        appendRanking(report, "Slowest locators", locators, top);
+        appendRanking(report, "Slowest steps (wall time)", steps, top);
+        appendRanking(report, "Command time by step", stepCommands, top);
+        return report.toString();
+    }
+
+    private static void appendRanking(StringBuilder report, String title, Map<String, LatencyHistogram> entries, int top) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        report.append(String.format("%n%s:", title));
+        for (Map.Entry<String, LatencyHistogram> entry : ranked(entries, top)) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append(String.format("%n  %9.1fms total %5d call(s) p50 %7.1fms p90 %7.1fms max %7.1fms  %s",
+                    total(histogram) / 1000.0, histogram.getTotalCount(), histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0, histogram.getMaxValue() / 1000.0, entry.getKey()));
+        }
+    }
+
+    /**
+     * Summarize every command, locator and step for JSON export
+     * @param top Number of slowest locators and steps to rank
+     * @return Nested maps of counts and millisecond percentiles
+     */
+    public Map<String, Object> toSummary(int top) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("commands", summarize(commands));
+        summary.put("locators", summarize(locators));
+        summary.put("steps", summarize(steps));
+        summary.put("stepCommands", summarize(stepCommands));
+        summary.put("slowestLocators", keys(ranked(locators, top)));
+        summary.put("slowestSteps", keys(ranked(steps, top)));
+        return summary;
+    }
+
+    private static Map<String, Object> summarize(Map<String, LatencyHistogram> entries) {
+        Map<String, Object> summaries = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : ranked(entries, entries.size())) {
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", histogram.getTotalCount());
+            values.put("totalMs", total(histogram) / 1000.0);
+            values.put("meanMs", histogram.getMean() / 1000.0);
+            values.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            values.put("p90Ms", histogram.getValueAtPercentile(90) / 1000.0);
+            values.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            values.put("maxMs", histogram.getMaxValue() / 1000.0);
+            summaries.put(entry.getKey(), values);
+        }
+        return summaries;
+    }
+
+    /**
+     * Export the timings as Prometheus histograms
+     * @return Text exposition format with cumulative le buckets in seconds
+     */
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        appendPrometheus(text, "webdriver_command_duration_seconds", "WebDriver command latency by command type",
+                "command", commands);
+        appendPrometheus(text, "webdriver_locator_duration_seconds", "WebDriver command latency by locator",
+                "locator", locators);
+        appendPrometheus(text, "webdriver_step_command_duration_seconds",
+                "WebDriver command latency by the Allure step it ran under", "step", stepCommands);
+        appendPrometheus(text, "allure_step_duration_seconds", "Allure step wall time", "step", steps);
+        return text.toString();
+    }
+
+    private static void appendPrometheus(StringBuilder text, String metric, String help, String label,
+                                         Map<String, LatencyHistogram> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        text.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(metric).append(" histogram\n");
+        for (Map.Entry<String, LatencyHistogram> entry : ranked(entries, entries.size())) {
+            LatencyHistogram histogram = entry.getValue();
+            String labelPair = label + "=\"" + escapeLabel(entry.getKey()) + "\"";
+            for (double bucket : BUCKET_SECONDS) {
+                text.append(metric).append("_bucket{").append(labelPair).append(",le=\"").append(bucket).append("\"} ")
+                        .append(histogram.getCountAtOrBelow((long) (bucket * 1_000_000))).append('\n');
+            }
+            text.append(metric).append("_bucket{").append(labelPair).append(",le=\"+Inf\"} ")
+                    .append(histogram.getTotalCount()).append('\n');
+            text.append(metric).append("_sum{").append(labelPair).append("} ")
+                    .append(total(histogram) / 1_000_000.0).append('\n');
+            text.append(metric).append("_count{").append(labelPair).append("} ")
+                    .append(histogram.getTotalCount()).append('\n');
+        }
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static List<Map.Entry<String, LatencyHistogram>> ranked(Map<String, LatencyHistogram> entries, int top) {
+        List<Map.Entry<String, LatencyHistogram>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort((a, b) -> Long.compare(total(b.getValue()), total(a.getValue())));
+        return sorted.subList(0, Math.min(top, sorted.size()));
+    }
+
+    private static List<String> keys(List<Map.Entry<String, LatencyHistogram>> entries) {
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    private static long total(LatencyHistogram histogram) {
+        return Math.round(histogram.getMean() * histogram.getTotalCount());
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> entries, String key) {
+        return entries.computeIfAbsent(key, k -> new LatencyHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+    }
+
+    public String getName() { return name; }
+
+    public LatencyHistogram getCommand(String command) { return commands.get(command); }
+
+    public LatencyHistogram getLocator(String locator) { return locators.get(locator); }
+
+    public LatencyHistogram getStep(String step) { return steps.get(step); }
+
+    public LatencyHistogram getStepCommands(String step) { return stepCommands.get(step); }
+}
@@ -0,0 +1,190 @@
+package com.nba.automation.performance;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * HDR-style latency histogram with log-linear buckets
+ * Keeps a fixed number of significant digits across the whole range, so p99 of a handful of samples
+ * and p99 of thousands of samples cost the same memory and are equally precise
+ */
+public class LatencyHistogram {
+    private final long highestTrackableValue;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final long[] counts;
+
+    private long totalCount;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+    private double sum;
+
+    /**
+     * Constructor for millisecond latencies up to one hour with 3 significant digits
+     */
+    public LatencyHistogram() {
+        this(3_600_000L, 3);
+    }
+
+    /**
+     * Constructor
+     * @param highestTrackableValue Largest value recorded precisely; larger values are clamped
+     * @param significantDigits Number of significant decimal digits kept per value (1 to 5)
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+        if (significantDigits < 1 || significantDigits > 5) {
+            throw new IllegalArgumentException("Significant digits must be between 1 and 5");
+        }
+        this.highestTrackableValue = highestTrackableValue;
+
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+        this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        int subBucketCount = 1 << subBucketCountMagnitude;
+        this.subBucketHalfCount = subBucketCount / 2;
+        this.subBucketMask = subBucketCount - 1;
+
+        // Each bucket doubles the range covered by the previous one
+        int bucketCount = 1;
+        long smallestUntrackableValue = subBucketCount;
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            smallestUntrackableValue <<= 1;
+            bucketCount++;
+        }
+        this.counts = new long[(bucketCount + 1) * subBucketHalfCount];
+    }
+
+    /**
+     * Record a latency value
+     * @param value Latency, negative values are ignored
+     */
+    public synchronized void recordValue(long value) {
+        if (value < 0) {
+            return;
+        }
+        long clamped = Math.min(value, highestTrackableValue);
+        counts[countsIndexFor(clamped)]++;
+        totalCount++;
+        sum += value;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Get the value below which the given percentage of samples fall
+     * @param percentile Percentile between 0 and 100
+     * @return Value at percentile (upper bound of its bucket), 0 if empty
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double requested = Math.min(Math.max(percentile, 0.0), 100.0);
+        long countAtPercentile = Math.max(1, (long) Math.ceil(requested / 100.0 * totalCount));
+
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(valueFromIndex(i)), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Count samples at or below a value, e.g. for cumulative Prometheus buckets
+     * @param value Upper bound, inclusive
+     * @return Number of samples whose bucket ends at or below the value
+     */
+    public synchronized long getCountAtOrBelow(long value) {
+        if (value >= maxValue) {
+            return totalCount;
+        }
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (valueFromIndex(i) > value) {
+                break;
+            }
+            cumulative += counts[i];
+        }
+        return cumulative;
+    }
+
+    public synchronized long getTotalCount() { return totalCount; }
+
+    public synchronized long getMinValue() { return totalCount == 0 ? 0 : minValue; }
+
+    public synchronized long getMaxValue() { return maxValue; }
+
+    public synchronized double getMean() { return totalCount == 0 ? 0 : sum / totalCount; }
+
+    /**
+     * Format count, mean and the standard percentiles
+     * @return Multi-line summary for Allure attachments
+     */
+    public String toSummary() {
+        return String.format("Samples: %d\nMin: %dms\nMean: %.1fms\np50: %dms\np90: %dms\np99: %dms\nMax: %dms",
+                getTotalCount(), getMinValue(), getMean(), getValueAtPercentile(50),
+                getValueAtPercentile(90), getValueAtPercentile(99), getMaxValue());
+    }
+
+    /**
+     * Export non-empty buckets with their cumulative percentile as CSV
+     * @return CSV text with header bucket_low_ms,bucket_high_ms,count,cumulative_percentile
+     */
+    public synchronized String toCsv() {
+        StringBuilder csv = new StringBuilder("bucket_low_ms,bucket_high_ms,count,cumulative_percentile\n");
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            cumulative += counts[i];
+            long low = valueFromIndex(i);
+            csv.append(low).append(',')
+                    .append(highestEquivalentValue(low)).append(',')
+                    .append(counts[i]).append(',')
+                    .append(String.format("%.3f", 100.0 * cumulative / totalCount)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Write the CSV export to a file, creating parent directories
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, toCsv().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int countsIndexFor(long value) {
+        int bucketIndex = 63 - subBucketHalfCountMagnitude - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    private long valueFromIndex(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return (long) subBucketIndex << bucketIndex;
+    }
+
+    private long highestEquivalentValue(long value) {
+        int bucketIndex = 63 - subBucketHalfCountMagnitude - Long.numberOfLeadingZeros(value | subBucketMask);
+        long rangeSize = 1L << bucketIndex;
+        long lowestEquivalent = (value >>> bucketIndex) << bucketIndex;
+        return lowestEquivalent + rangeSize - 1;
+    }
+}
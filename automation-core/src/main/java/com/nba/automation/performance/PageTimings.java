@@ -0,0 +1,82 @@
+package com.nba.automation.performance;
+
+/**
+ * Browser-side timing breakdown of a page load
+ * All times are milliseconds relative to navigation start, -1 when the browser did not report them
+ */
+public class PageTimings {
+    private final double timeToFirstByte;
+    private final double domContentLoaded;
+    private final double loadEventEnd;
+    private final double firstContentfulPaint;
+    private final double statsTableVisible;
+    private final long documentBytes;
+    private final long resourceBytes;
+    private final int resourceCount;
+
+    /**
+     * Constructor with all fields
+     * @param timeToFirstByte Time to first byte of the document
+     * @param domContentLoaded DOMContentLoaded event end
+     * @param loadEventEnd Load event end
+     * @param firstContentfulPaint First contentful paint
+     * @param statsTableVisible Time of the stats-table-visible performance mark
+     * @param documentBytes Bytes transferred for the document
+     * @param resourceBytes Bytes transferred for sub-resources
+     * @param resourceCount Number of sub-resources fetched
+     */
+    public PageTimings(double timeToFirstByte, double domContentLoaded, double loadEventEnd,
+                       double firstContentfulPaint, double statsTableVisible,
+                       long documentBytes, long resourceBytes, int resourceCount) {
+        this.timeToFirstByte = timeToFirstByte;
+        this.domContentLoaded = domContentLoaded;
+        this.loadEventEnd = loadEventEnd;
+        this.firstContentfulPaint = firstContentfulPaint;
+        this.statsTableVisible = statsTableVisible;
+        this.documentBytes = documentBytes;
+        this.resourceBytes = resourceBytes;
+        this.resourceCount = resourceCount;
+    }
+
+    // Getters
+    public double getTimeToFirstByte() { return timeToFirstByte; }
+
+    public double getDomContentLoaded() { return domContentLoaded; }
+
+    public double getLoadEventEnd() { return loadEventEnd; }
+
+    public double getFirstContentfulPaint() { return firstContentfulPaint; }
+
+    public double getStatsTableVisible() { return statsTableVisible; }
+
+    public long getDocumentBytes() { return documentBytes; }
+
+    public long getResourceBytes() { return resourceBytes; }
+
+    public int getResourceCount() { return resourceCount; }
+
+    public long getBytesTransferred() { return documentBytes + resourceBytes; }
+
+    /**
+     * Format the breakdown for Allure attachments
+     * @return Multi-line timing report
+     */
+    public String toReport() {
+        return String.format("TTFB: %s\nDOMContentLoaded: %s\nLoad Event End: %s\nFirst Contentful Paint: %s\n"
+                        + "Stats Table Visible: %s\nDocument Bytes: %d\nResource Bytes: %d (%d resources)\n"
+                        + "Total Bytes Transferred: %d",
+                format(timeToFirstByte), format(domContentLoaded), format(loadEventEnd),
+                format(firstContentfulPaint), format(statsTableVisible),
+                documentBytes, resourceBytes, resourceCount, getBytesTransferred());
+    }
+
+    private static String format(double millis) {
+        return millis < 0 ? "n/a" : String.format("%.0fms", millis);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageTimings{ttfb=%.0f, dcl=%.0f, fcp=%.0f, statsVisible=%.0f, bytes=%d}",
+                timeToFirstByte, domContentLoaded, firstContentfulPaint, statsTableVisible, getBytesTransferred());
+    }
+}
@@ -0,0 +1,196 @@
+package com.nba.automation.performance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Flags statistically significant slowdowns in a series of timings
+ * The samples of the current run are compared with the latest samples of earlier runs (baseline window) by a
+ * one-sided Mann-Whitney U test, which needs no assumption about the shape of the distribution and is not
+ * thrown off by a few outliers. A regression needs both a small p-value and a meaningful median increase
+ */
+public class RegressionDetector {
+    private final int baselineWindow;
+    private final int minSamples;
+    private final double significance;
+    private final double minSlowdownPercent;
+
+    /**
+     * Constructor
+     * @param baselineWindow Number of latest samples of earlier runs used as the baseline
+     * @param minSamples Minimum samples on each side before testing
+     * @param significance p-value below which the slowdown is significant
+     * @param minSlowdownPercent Minimum median increase reported as a regression
+     */
+    public RegressionDetector(int baselineWindow, int minSamples, double significance, double minSlowdownPercent) {
+        this.baselineWindow = baselineWindow;
+        this.minSamples = minSamples;
+        this.significance = significance;
+        this.minSlowdownPercent = minSlowdownPercent;
+    }
+
+    /**
+     * Test the samples of the current run against the samples of earlier runs
+     * @param series Metric name, used in the report
+     * @param earlier Samples of earlier runs in the order they were recorded; only the latest baseline window is used
+     * @param current Samples of the current run
+     * @return Result, untested (NaN p-value) when either side has fewer than the minimum samples
+     */
+    public Result detect(String series, List<Double> earlier, List<Double> current) {
+        List<Double> baseline = earlier.subList(Math.max(0, earlier.size() - baselineWindow), earlier.size());
+
+        if (current.size() < minSamples || baseline.size() < minSamples) {
+            return new Result(series, baseline.size(), current.size(), median(baseline), median(current), Double.NaN, false);
+        }
+        double baselineMedian = median(baseline);
+        double recentMedian = median(current);
+        double pValue = mannWhitneyGreaterPValue(baseline, current);
+        boolean slowerEnough = recentMedian > baselineMedian * (1 + minSlowdownPercent / 100.0);
+        return new Result(series, baseline.size(), current.size(), baselineMedian, recentMedian, pValue,
+                pValue < significance && slowerEnough);
+    }
+
+    /**
+     * One-sided Mann-Whitney U test that the second sample tends to be larger than the first
+     * Uses the normal approximation with midranks for ties, tie-corrected variance and continuity correction
+     * @param baseline First sample
+     * @param recent Second sample
+     * @return p-value of observing a rank sum this large if both samples came from the same distribution
+     */
+    static double mannWhitneyGreaterPValue(List<Double> baseline, List<Double> recent) {
+        int n1 = recent.size();
+        int n2 = baseline.size();
+        int n = n1 + n2;
+
+        // Step 1: Rank the pooled sample, tied values share their average rank
+        List<double[]> pooled = new ArrayList<>(n);
+        for (double value : recent) {
+            pooled.add(new double[]{value, 1});
+        }
+        for (double value : baseline) {
+            pooled.add(new double[]{value, 0});
+        }
+        pooled.sort((a, b) -> Double.compare(a[0], b[0]));
+
+        double recentRankSum = 0;
+        double tieTerm = 0;
+        int i = 0;
+        while (i < n) {
+            int j = i;
+            while (j + 1 < n && pooled.get(j + 1)[0] == pooled.get(i)[0]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (pooled.get(k)[1] == 1) {
+                    recentRankSum += rank;
+                }
+            }
+            int ties = j - i + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        // Step 2: U of the recent sample against its mean and tie-corrected spread under no change
+        double u = recentRankSum - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    /**
+     * Standard normal cumulative distribution, Abramowitz and Stegun 7.1.26 (error below 1.5e-7)
+     * @param z Standard score
+     * @return Probability of a value at or below z
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double erf = 1 - ((((1.061405429 * t - 1.453152027) * t + 1.421413741) * t - 0.284496736) * t
+                + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    public int getMinSamples() { return minSamples; }
+
+    static double median(List<Double> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    /**
+     * Outcome of testing one series
+     */
+    public static final class Result {
+        private final String series;
+        private final int baselineCount;
+        private final int recentCount;
+        private final double baselineMedian;
+        private final double recentMedian;
+        private final double pValue;
+        private final boolean regression;
+
+        private Result(String series, int baselineCount, int recentCount, double baselineMedian, double recentMedian,
+                       double pValue, boolean regression) {
+            this.series = series;
+            this.baselineCount = baselineCount;
+            this.recentCount = recentCount;
+            this.baselineMedian = baselineMedian;
+            this.recentMedian = recentMedian;
+            this.pValue = pValue;
+            this.regression = regression;
+        }
+
+        public String getSeries() { return series; }
+
+        public int getBaselineCount() { return baselineCount; }
+
+        public int getRecentCount() { return recentCount; }
+
+        public double getBaselineMedian() { return baselineMedian; }
+
+        public double getRecentMedian() { return recentMedian; }
+
+        public double getPValue() { return pValue; }
+
+        public boolean isTested() { return !Double.isNaN(pValue); }
+
+        public boolean isRegression() { return regression; }
+
+        /**
+         * Format as one report line
+         * @return Series, medians, change and p-value
+         */
+        @Override
+        public String toString() {
+            if (Double.isNaN(pValue)) {
+                return String.format("%s: not enough history (%d baseline, %d recent sample(s))",
+                        series, baselineCount, recentCount);
+            }
+            return String.format("%s%s: median %.0fms -> %.0fms (%+.1f%%), p=%.4f, %d vs %d sample(s)",
+                    regression ? "REGRESSION " : "", series, baselineMedian, recentMedian,
+                    baselineMedian == 0 ? 0.0 : 100.0 * (recentMedian - baselineMedian) / baselineMedian,
+                    pValue, baselineCount, recentCount);
+        }
+    }
+
+    /**
+     * What a detected regression does
+     */
+    public enum Action {
+        // Report the regression and let the test pass
+        WARN,
+        // Fail the test that recorded the slower timings
+        FAIL
+    }
+}
@@ -0,0 +1,81 @@
+package com.nba.automation.performance;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Allure step listener that tracks the @Step each thread is inside, so WebDriver commands can be
+ * attributed to it, and records the wall time of every step
+ * Registered through META-INF/services; Allure loads it with its lifecycle
+ */
+public class StepTracker implements StepLifecycleListener {
+
+    // Open steps of each thread, innermost first
+    private static final ThreadLocal<Deque<OpenStep>> OPEN_STEPS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        OPEN_STEPS.get().push(new OpenStep(stepKey(result), System.nanoTime()));
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        OpenStep step = OPEN_STEPS.get().poll();
+        if (step != null) {
+            CommandTimings.recordStep(step.key, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - step.startNanos));
+        }
+    }
+
+    /**
+     * Get the innermost step open on the current thread
+     * @return Step key, or null outside any step
+     */
+    public static String currentStep() {
+        OpenStep step = OPEN_STEPS.get().peek();
+        return step == null ? null : step.key;
+    }
+
+    /**
+     * Forget steps left open on the current thread, at test start
+     */
+    public static void clear() {
+        OPEN_STEPS.get().clear();
+    }
+
+    /**
+     * Turn a step name back into its @Step template, so calls with different arguments aggregate together
+     * e.g. "Navigate to player page: https://..." becomes "Navigate to player page: {playerUrl}"
+     * @param result Started step
+     * @return Step key
+     */
+    static String stepKey(StepResult result) {
+        String name = result.getName() == null ? "" : result.getName();
+        for (Parameter parameter : result.getParameters()) {
+            String value = parameter.getValue();
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            // Whole values only, so a parameter "1" does not rewrite the digits of "2010-11"
+            name = name.replaceAll("(?<![\\w.])" + Pattern.quote(value) + "(?![\\w.])",
+                    Matcher.quoteReplacement("{" + parameter.getName() + "}"));
+        }
+        return name;
+    }
+
+    private static final class OpenStep {
+        private final String key;
+        private final long startNanos;
+
+        private OpenStep(String key, long startNanos) {
+            this.key = key;
+            this.startNanos = startNanos;
+        }
+    }
+}
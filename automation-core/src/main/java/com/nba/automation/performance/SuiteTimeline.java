@@ -0,0 +1,531 @@
+package com.nba.automation.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Gantt-style timeline of a finished run, built from allure-results and optionally the command timings
+ * Tests and their setup/teardown fixtures are placed on the worker thread that ran them. From that the
+ * timeline derives the idle time per worker, the critical path (the chain of work on the worker that
+ * finished last), repeated steps worth caching and the wall time predicted for other thread counts
+ * Run after a suite: SuiteTimeline [allure-results dir] [command-timings.json] [timeline.html]
+ */
+public class SuiteTimeline {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Thread counts the wall time is predicted for
+    private static final int[] PREDICTED_WORKERS = {1, 2, 4, 8, 16};
+
+    private final List<Span> spans;
+    private final Map<String, Double> commandMillisByTest;
+    private final long start;
+    private final long stop;
+
+    /**
+     * Constructor
+     * @param spans Tests and fixtures with their worker and top-level steps
+     * @param commandMillisByTest WebDriver command time per test key (SimpleClass.method), may be empty
+     */
+    public SuiteTimeline(List<Span> spans, Map<String, Double> commandMillisByTest) {
+        List<Span> sorted = new ArrayList<>(spans);
+        sorted.sort(Comparator.comparingLong(Span::getStart));
+        this.spans = Collections.unmodifiableList(sorted);
+        this.commandMillisByTest = commandMillisByTest;
+        this.start = sorted.stream().mapToLong(Span::getStart).min().orElse(0);
+        this.stop = sorted.stream().mapToLong(Span::getStop).max().orElse(0);
+    }
+
+    /**
+     * Build the timeline from Allure result and container files
+     * @param resultsDir allure-results directory
+     * @param commandTimings command-timings.json written by CommandTimings, or null
+     * @param sinceMillis Ignore results that started earlier, e.g. left over from previous runs; 0 for all
+     * @return Timeline, empty when the directory holds no results
+     * @throws IOException if a file cannot be read
+     */
+    public static SuiteTimeline load(Path resultsDir, Path commandTimings, long sinceMillis) throws IOException {
+        if (!Files.isDirectory(resultsDir)) {
+            return new SuiteTimeline(Collections.emptyList(), Collections.emptyMap());
+        }
+
+        // Step 1: Test results, with their worker thread
+        Map<String, Span> testsByUuid = new HashMap<>();
+        List<JsonNode> containers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(resultsDir, "*.json")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith("-result.json")) {
+                    JsonNode result = MAPPER.readTree(file.toFile());
+                    if (result.path("start").asLong() >= sinceMillis && result.has("stop")) {
+                        testsByUuid.put(result.path("uuid").asText(), toTest(result));
+                    }
+                } else if (fileName.endsWith("-container.json")) {
+                    containers.add(MAPPER.readTree(file.toFile()));
+                }
+            }
+        }
+
+        // Step 2: Method-level setup and teardown run on the thread of the test they wrap
+        List<Span> spans = new ArrayList<>(testsByUuid.values());
+        for (JsonNode container : containers) {
+            Span test = null;
+            for (JsonNode child : container.path("children")) {
+                test = testsByUuid.get(child.asText());
+                if (test != null) {
+                    break;
+                }
+            }
+            if (test == null) {
+                continue;
+            }
+            for (String phase : new String[]{"befores", "afters"}) {
+                for (JsonNode fixture : container.path(phase)) {
+                    if (fixture.has("start") && fixture.has("stop")) {
+                        spans.add(new Span(Kind.FIXTURE, fixture.path("name").asText(), test.getTestKey(),
+                                test.getWorker(), fixture.path("start").asLong(), fixture.path("stop").asLong(),
+                                fixture.path("status").asText("unknown"), toSteps(fixture)));
+                    }
+                }
+            }
+        }
+
+        // Step 3: WebDriver command time per test, summed over the steps it ran under
+        Map<String, Double> commandMillis = new HashMap<>();
+        if (commandTimings != null && Files.exists(commandTimings)) {
+            JsonNode tests = MAPPER.readTree(commandTimings.toFile()).path("tests");
+            tests.fields().forEachRemaining(test -> {
+                double total = 0;
+                for (JsonNode step : test.getValue().path("stepCommands")) {
+                    total += step.path("totalMs").asDouble();
+                }
+                commandMillis.put(test.getKey(), total);
+            });
+        }
+        return new SuiteTimeline(spans, commandMillis);
+    }
+
+    private static Span toTest(JsonNode result) {
+        String worker = "unknown";
+        String testClass = "";
+        String testMethod = result.path("name").asText();
+        for (JsonNode label : result.path("labels")) {
+            String value = label.path("value").asText();
+            switch (label.path("name").asText()) {
+                case "thread":
+                    worker = value;
+                    break;
+                case "testClass":
+                    testClass = value.substring(value.lastIndexOf('.') + 1);
+                    break;
+                case "testMethod":
+                    testMethod = value;
+                    break;
+                default:
+                    break;
+            }
+        }
+        String testKey = testClass.isEmpty() ? testMethod : testClass + "." + testMethod;
+        return new Span(Kind.TEST, result.path("name").asText(testKey), testKey, worker,
+                result.path("start").asLong(), result.path("stop").asLong(),
+                result.path("status").asText("unknown"), toSteps(result));
+    }
+
+    private static List<Span> toSteps(JsonNode parent) {
+        List<Span> steps = new ArrayList<>();
+        for (JsonNode step : parent.path("steps")) {
+            if (step.has("start") && step.has("stop")) {
+                steps.add(new Span(Kind.STEP, step.path("name").asText(), null, null, step.path("start").asLong(),
+                        step.path("stop").asLong(), step.path("status").asText("unknown"), Collections.emptyList()));
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Get spans of one worker in start order
+     * @return Worker name to its tests and fixtures
+     */
+    public Map<String, List<Span>> getSpansByWorker() {
+        Map<String, List<Span>> byWorker = new TreeMap<>();
+        for (Span span : spans) {
+            byWorker.computeIfAbsent(span.getWorker(), k -> new ArrayList<>()).add(span);
+        }
+        return byWorker;
+    }
+
+    public long getWallMillis() { return stop - start; }
+
+    /**
+     * Get time spent in tests and fixtures, as if run on one thread
+     * @return Sum of span durations
+     */
+    public long getWorkMillis() {
+        return spans.stream().mapToLong(Span::getDuration).sum();
+    }
+
+    /**
+     * Get time each worker spent outside tests and fixtures between the first start and the last stop
+     * @return Worker name to idle milliseconds
+     */
+    public Map<String, Long> getIdleMillisByWorker() {
+        Map<String, Long> idle = new TreeMap<>();
+        for (Map.Entry<String, List<Span>> worker : getSpansByWorker().entrySet()) {
+            idle.put(worker.getKey(), getWallMillis() - busyMillis(worker.getValue()));
+        }
+        return idle;
+    }
+
+    /**
+     * Get the chain of work that ends last: the spans of the worker that finished last, in order
+     * The suite cannot finish sooner without shortening or moving these
+     * @return Critical path spans
+     */
+    public List<Span> getCriticalPath() {
+        List<Span> path = Collections.emptyList();
+        long latestStop = Long.MIN_VALUE;
+        for (List<Span> workerSpans : getSpansByWorker().values()) {
+            long workerStop = workerSpans.stream().mapToLong(Span::getStop).max().orElse(0);
+            if (workerStop > latestStop) {
+                latestStop = workerStop;
+                path = workerSpans;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Get each test with its own setup and teardown, the unit a scheduler can move between workers
+     * @return Test key to milliseconds
+     */
+    public Map<String, Long> getTestCosts() {
+        Map<String, Long> costs = new LinkedHashMap<>();
+        for (Span span : spans) {
+            costs.merge(span.getTestKey(), span.getDuration(), Long::sum);
+        }
+        return costs;
+    }
+
+    /**
+     * Estimate the upper bound on speedup with unlimited threads: all work divided by the costliest test
+     * @return Ideal speedup over one thread
+     */
+    public double getIdealSpeedup() {
+        long longest = getTestCosts().values().stream().mapToLong(Long::longValue).max().orElse(0);
+        return longest == 0 ? 1.0 : (double) getWorkMillis() / longest;
+    }
+
+    /**
+     * Predict the wall time on a number of threads by scheduling the costliest tests first on the least
+     * loaded thread; per-thread overhead outside tests (suite setup, session start) is not included
+     * @param workers Number of threads
+     * @return Predicted milliseconds
+     */
+    public long predictWallMillis(int workers) {
+        List<Long> costs = new ArrayList<>(getTestCosts().values());
+        costs.sort(Comparator.reverseOrder());
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            loads.add(0L);
+        }
+        for (long cost : costs) {
+            loads.add(loads.poll() + cost);
+        }
+        return loads.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    /**
+     * Find steps that ran with the same name more than once, e.g. the same page loaded by several tests
+     * @return Step name to its occurrences, costliest first
+     */
+    public Map<String, List<Span>> getRepeatedSteps() {
+        Map<String, List<Span>> byName = new HashMap<>();
+        for (Span span : spans) {
+            for (Span step : span.getSteps()) {
+                byName.computeIfAbsent(step.getName(), k -> new ArrayList<>()).add(step);
+            }
+        }
+        List<Map.Entry<String, List<Span>>> repeated = new ArrayList<>();
+        for (Map.Entry<String, List<Span>> entry : byName.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                repeated.add(entry);
+            }
+        }
+        repeated.sort((a, b) -> Long.compare(savable(b.getValue()), savable(a.getValue())));
+        Map<String, List<Span>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Span>> entry : repeated) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Format the CLI summary: wall and work time, idle per worker, critical path, speedup and caching candidates
+     * @param top Number of critical path spans and repeated steps to list
+     * @return Multi-line summary, or a note when there is nothing to analyze
+     */
+    public String getReport(int top) {
+        if (spans.isEmpty()) {
+            return "Suite timeline: no test results";
+        }
+        long wall = getWallMillis();
+        long work = getWorkMillis();
+        Map<String, Long> idle = getIdleMillisByWorker();
+        StringBuilder report = new StringBuilder(String.format(
+                "Suite timeline: %d span(s) on %d worker(s), wall %.1fs, work %.1fs, current speedup %.2fx",
+                spans.size(), idle.size(), wall / 1000.0, work / 1000.0, wall == 0 ? 1.0 : (double) work / wall));
+
+        // Step 1: Idle time per worker
+        report.append(String.format("%nIdle per worker:"));
+        for (Map.Entry<String, Long> entry : idle.entrySet()) {
+            report.append(String.format("%n  %8.1fs (%4.1f%%)  %s", entry.getValue() / 1000.0,
+                    wall == 0 ? 0.0 : 100.0 * entry.getValue() / wall, entry.getKey()));
+        }
+
+        // Step 2: Critical path, longest spans first
+        List<Span> criticalPath = new ArrayList<>(getCriticalPath());
+        long pathBusy = busyMillis(criticalPath);
+        report.append(String.format("%nCritical path: %d span(s), %.1fs busy, %.1fs waiting between them",
+                criticalPath.size(), pathBusy / 1000.0, (wall - pathBusy) / 1000.0));
+        criticalPath.sort(Comparator.comparingLong(Span::getDuration).reversed());
+        for (Span span : criticalPath.subList(0, Math.min(top, criticalPath.size()))) {
+            Double commandMillis = span.getKind() == Kind.TEST ? commandMillisByTest.get(span.getTestKey()) : null;
+            report.append(String.format("%n  %8.1fs  %-7s %s%s", span.getDuration() / 1000.0,
+                    span.getKind() == Kind.TEST ? "test" : "fixture", span.getName(),
+                    commandMillis == null ? "" : String.format(" (WebDriver commands %.1fs)", commandMillis / 1000.0)));
+        }
+
+        // Step 3: What more threads would buy
+        report.append(String.format("%nIdeal speedup with unlimited threads: %.2fx (costliest test bounds the wall time)",
+                getIdealSpeedup()));
+        report.append(String.format("%nPredicted wall time:"));
+        for (int workers : PREDICTED_WORKERS) {
+            long predicted = predictWallMillis(workers);
+            report.append(String.format("%n  %2d thread(s): %8.1fs (%.2fx)", workers, predicted / 1000.0,
+                    predicted == 0 ? 1.0 : (double) work / predicted));
+        }
+
+        // Step 4: What caching would buy
+        Map<String, List<Span>> repeated = getRepeatedSteps();
+        if (!repeated.isEmpty()) {
+            report.append(String.format("%nRepeated steps (caching candidates):"));
+            int listed = 0;
+            for (Map.Entry<String, List<Span>> entry : repeated.entrySet()) {
+                if (listed++ == top) {
+                    break;
+                }
+                report.append(String.format("%n  %8.1fs saved if run once, %d run(s)  %s",
+                        savable(entry.getValue()) / 1000.0, entry.getValue().size(), entry.getKey()));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Render the timeline as a self-contained HTML page: one SVG row per worker, tests and fixtures as bars
+     * with their top-level steps inside, critical path outlined, followed by the summary
+     * @param top Number of entries listed in the summary
+     * @return HTML document
+     */
+    public String toHtml(int top) {
+        int width = 1200;
+        int labelWidth = 220;
+        int rowHeight = 34;
+        Map<String, List<Span>> byWorker = getSpansByWorker();
+        List<Span> criticalPath = getCriticalPath();
+        double scale = (double) (width - labelWidth - 10) / Math.max(1, getWallMillis());
+
+        StringBuilder svg = new StringBuilder();
+        svg.append(String.format("<svg xmlns='http://www.w3.org/2000/svg' width='%d' height='%d' font-family='sans-serif' font-size='11'>",
+                width, byWorker.size() * rowHeight + 30));
+        int row = 0;
+        for (Map.Entry<String, List<Span>> worker : byWorker.entrySet()) {
+            int y = row++ * rowHeight + 4;
+            svg.append(String.format("<text x='4' y='%d'>%s</text>", y + 18, escape(abbreviate(worker.getKey(), 34))));
+            for (Span span : worker.getValue()) {
+                double x = labelWidth + (span.getStart() - start) * scale;
+                double barWidth = Math.max(1, span.getDuration() * scale);
+                boolean critical = criticalPath.contains(span);
+                svg.append(String.format("<rect x='%.1f' y='%d' width='%.1f' height='26' fill='%s' stroke='%s' stroke-width='%d'>"
+                                + "<title>%s (%.1fs, %s)</title></rect>", x, y, barWidth,
+                        span.getKind() == Kind.FIXTURE ? "#b0bec5" : statusColor(span.getStatus()),
+                        critical ? "#212121" : "#ffffff", critical ? 2 : 1, escape(span.getName()),
+                        span.getDuration() / 1000.0, span.getStatus()));
+                for (Span step : span.getSteps()) {
+                    svg.append(String.format("<rect x='%.1f' y='%d' width='%.1f' height='8' fill='#37474f' opacity='0.5'>"
+                                    + "<title>%s (%.1fs)</title></rect>", labelWidth + (step.getStart() - start) * scale,
+                            y + 16, Math.max(1, step.getDuration() * scale), escape(step.getName()),
+                            step.getDuration() / 1000.0));
+                }
+            }
+        }
+        int axisY = row * rowHeight + 20;
+        for (int i = 0; i <= 10; i++) {
+            double x = labelWidth + i * (width - labelWidth - 10) / 10.0;
+            svg.append(String.format("<text x='%.1f' y='%d' text-anchor='middle'>%.1fs</text>", x, axisY,
+                    getWallMillis() * i / 10000.0));
+        }
+        svg.append("</svg>");
+
+        return "<!DOCTYPE html><html><head><meta charset='utf-8'><title>Suite Timeline</title></head><body>"
+                + "<h3>Suite Timeline</h3><p>Bars are tests (by status) and setup/teardown (grey); dark strips are "
+                + "top-level steps; outlined bars form the critical path.</p>"
+                + svg + "<pre>" + escape(getReport(top)) + "</pre></body></html>";
+    }
+
+    /**
+     * Write the HTML timeline to a file, creating parent directories
+     * @param file Target file
+     * @param top Number of entries listed in the summary
+     * @throws IOException if the file cannot be written
+     */
+    public void writeHtml(Path file, int top) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, toHtml(top).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long busyMillis(List<Span> workerSpans) {
+        // Union of intervals, so overlapping fixtures and tests are not counted twice
+        List<Span> sorted = new ArrayList<>(workerSpans);
+        sorted.sort(Comparator.comparingLong(Span::getStart));
+        long busy = 0;
+        long coveredUntil = Long.MIN_VALUE;
+        for (Span span : sorted) {
+            long from = Math.max(span.getStart(), coveredUntil);
+            if (span.getStop() > from) {
+                busy += span.getStop() - from;
+            }
+            coveredUntil = Math.max(coveredUntil, span.getStop());
+        }
+        return busy;
+    }
+
+    private static long savable(List<Span> occurrences) {
+        long total = 0;
+        long shortest = Long.MAX_VALUE;
+        for (Span occurrence : occurrences) {
+            total += occurrence.getDuration();
+            shortest = Math.min(shortest, occurrence.getDuration());
+        }
+        return total - shortest;
+    }
+
+    private static String statusColor(String status) {
+        switch (status) {
+            case "passed":
+                return "#66bb6a";
+            case "failed":
+                return "#ef5350";
+            case "broken":
+                return "#ffa726";
+            default:
+                return "#bdbdbd";
+        }
+    }
+
+    private static String abbreviate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : "..." + text.substring(text.length() - maxLength + 3);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+
+    /**
+     * Print the summary of a finished run and write the HTML timeline
+     * @param args allure-results directory, command-timings.json and HTML output file, all optional
+     * @throws IOException if the results cannot be read or the HTML written
+     */
+    public static void main(String[] args) throws IOException {
+        Path resultsDir = Paths.get(args.length > 0 ? args[0] : "target/allure-results");
+        Path commandTimings = Paths.get(args.length > 1 ? args[1] : "target/command-timings/command-timings.json");
+        Path html = Paths.get(args.length > 2 ? args[2] : "target/command-timings/timeline.html");
+
+        SuiteTimeline timeline = load(resultsDir, commandTimings, 0);
+        System.out.println(timeline.getReport(10));
+        timeline.writeHtml(html, 10);
+        System.out.println("Timeline written to " + html.toAbsolutePath());
+    }
+
+    /**
+     * What a span on the timeline is
+     */
+    public enum Kind {
+        TEST,
+        // Setup or teardown method wrapping a test
+        FIXTURE,
+        STEP
+    }
+
+    /**
+     * One bar of the timeline
+     */
+    public static final class Span {
+        private final Kind kind;
+        private final String name;
+        private final String testKey;
+        private final String worker;
+        private final long start;
+        private final long stop;
+        private final String status;
+        private final List<Span> steps;
+
+        /**
+         * Constructor
+         * @param kind Test, fixture or step
+         * @param name Display name
+         * @param testKey Test the span belongs to (SimpleClass.method), null for steps
+         * @param worker Thread the span ran on, null for steps
+         * @param start Start epoch milliseconds
+         * @param stop Stop epoch milliseconds
+         * @param status Allure status
+         * @param steps Top-level steps
+         */
+        public Span(Kind kind, String name, String testKey, String worker, long start, long stop, String status,
+                    List<Span> steps) {
+            this.kind = kind;
+            this.name = name;
+            this.testKey = testKey;
+            this.worker = worker;
+            this.start = start;
+            this.stop = stop;
+            this.status = status;
+            this.steps = steps;
+        }
+
+        public Kind getKind() { return kind; }
+
+        public String getName() { return name; }
+
+        public String getTestKey() { return testKey; }
+
+        public String getWorker() { return worker; }
+
+        public long getStart() { return start; }
+
+        public long getStop() { return stop; }
+
+        public long getDuration() { return Math.max(0, stop - start); }
+
+        public String getStatus() { return status; }
+
+        public List<Span> getSteps() { return steps; }
+    }
+}
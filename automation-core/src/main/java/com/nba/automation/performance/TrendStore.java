@@ -0,0 +1,223 @@
+package com.nba.automation.performance;
+
+import com.nba.automation.config.ConfigManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only store of performance timings across runs
+ * One tab-separated line per sample: time, run, commit, test, page, metric and value in milliseconds.
+ * Lines are only ever appended, so the file can be archived and merged by concatenation. Metrics are
+ * checked per test and metric across the pages the test sampled, since tests rotate through pages.
+ * Tests that take fewer samples per run than the detector needs (single-shot tests) are checked on their
+ * per-run medians instead: the latest runs up to this one against the runs before them
+ */
+public class TrendStore {
+    private static volatile TrendStore instance;
+
+    private static final String HEADER = "# time\trun\tcommit\ttest\tpage\tmetric\tvalue_ms";
+
+    private final Path file;
+    private final String runId;
+    private final String commit;
+    private final RegressionDetector detector;
+
+    /**
+     * Constructor
+     * @param file Store file, created on first append
+     * @param runId Identifies the samples of this run
+     * @param commit Commit the run was built from
+     * @param detector Detector applied to each metric
+     */
+    TrendStore(Path file, String runId, String commit, RegressionDetector detector) {
+        this.file = file;
+        this.runId = runId;
+        this.commit = commit;
+        this.detector = detector;
+    }
+
+    /**
+     * Get the store configured by performance.trend.* in config.properties
+     * @return Shared store
+     */
+    public static TrendStore getInstance() {
+        TrendStore store = instance;
+        if (store == null) {
+            synchronized (TrendStore.class) {
+                store = instance;
+                if (store == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    String commit = config.getTrendCommit().isEmpty() ? detectCommit() : config.getTrendCommit();
+                    String runId = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+                    store = new TrendStore(Paths.get(config.getTrendStoreFile()), runId, commit,
+                            new RegressionDetector(config.getTrendBaselineWindow(), config.getTrendMinSamples(),
+                                    config.getTrendSignificance(), config.getTrendMinSlowdownPercent()));
+                    instance = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Append samples of one test and page
+     * @param test Test name, e.g. PerformanceTest.verifyPlayerPageLoadPercentiles
+     * @param page Page the timings were taken on, e.g. its URL path
+     * @param metrics Metric name to milliseconds; negative values (not reported by the browser) are skipped
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void record(String test, String page, Map<String, ? extends Number> metrics) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(file)) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            lines.append(HEADER).append('\n');
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, ? extends Number> metric : metrics.entrySet()) {
+            double value = metric.getValue().doubleValue();
+            if (value < 0) {
+                continue;
+            }
+            lines.append(now).append('\t').append(runId).append('\t').append(clean(commit)).append('\t')
+                    .append(clean(test)).append('\t').append(clean(page)).append('\t')
+                    .append(clean(metric.getKey())).append('\t').append(Math.round(value * 10) / 10.0).append('\n');
+        }
+        // One write per call keeps lines from parallel tests whole
+        Files.write(file, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Test every metric this run recorded for a test against its history
+     * @param test Test name
+     * @return One result per metric, in the order the metrics were first recorded
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized List<RegressionDetector.Result> check(String test) throws IOException {
+        // Split by run rather than by sample count, so no sample of this run ends up in the baseline
+        Map<String, Map<String, List<Double>>> earlierRuns = new HashMap<>();
+        Map<String, List<Double>> thisRun = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (line.startsWith("#") || fields.length < 7 || !fields[3].equals(test)) {
+                    continue;
+                }
+                List<Double> samples = fields[1].equals(runId)
+                        ? thisRun.computeIfAbsent(fields[5], k -> new ArrayList<>())
+                        : earlierRuns.computeIfAbsent(fields[5], k -> new LinkedHashMap<>())
+                                .computeIfAbsent(fields[1], k -> new ArrayList<>());
+                samples.add(Double.parseDouble(fields[6]));
+            }
+        }
+
+        List<RegressionDetector.Result> results = new ArrayList<>();
+        for (Map.Entry<String, List<Double>> metric : thisRun.entrySet()) {
+            Map<String, List<Double>> runs = earlierRuns.getOrDefault(metric.getKey(), Collections.emptyMap());
+            if (metric.getValue().size() >= detector.getMinSamples()) {
+                List<Double> earlier = new ArrayList<>();
+                runs.values().forEach(earlier::addAll);
+                results.add(detector.detect(metric.getKey(), earlier, metric.getValue()));
+            } else {
+                results.add(checkRunMedians(metric.getKey(), runs.values(), metric.getValue()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Test a metric sampled only a few times per run on its per-run medians
+     * One run's median cannot be significant on its own, so this run and the runs just before it (as many as
+     * the detector's minimum samples) are tested against the runs before them
+     * @param metric Metric name
+     * @param earlierRuns Samples of each earlier run, oldest run first
+     * @param current Samples of this run
+     * @return Result, reported under the metric name with "(run medians)"
+     */
+    private RegressionDetector.Result checkRunMedians(String metric, Collection<List<Double>> earlierRuns,
+                                                      List<Double> current) {
+        List<Double> medians = new ArrayList<>();
+        for (List<Double> run : earlierRuns) {
+            medians.add(RegressionDetector.median(run));
+        }
+        medians.add(RegressionDetector.median(current));
+
+        int recentFrom = Math.max(0, medians.size() - detector.getMinSamples());
+        return detector.detect(metric + " (run medians)", medians.subList(0, recentFrom),
+                medians.subList(recentFrom, medians.size()));
+    }
+
+    /**
+     * Format check results, regressions first
+     * @param test Test name
+     * @param results Check results
+     * @return Multi-line report
+     */
+    public String formatReport(String test, List<RegressionDetector.Result> results) {
+        StringBuilder report = new StringBuilder(String.format("Performance trend for %s (commit %s, run %s)",
+                test, commit, runId));
+        for (boolean regressions : new boolean[]{true, false}) {
+            for (RegressionDetector.Result result : results) {
+                if (result.isRegression() == regressions) {
+                    report.append(String.format("%n  %s", result));
+                }
+            }
+        }
+        report.append(String.format("%nHistory: %s", file.toAbsolutePath()));
+        return report.toString();
+    }
+
+    public Path getFile() { return file; }
+
+    public String getRunId() { return runId; }
+
+    public String getCommit() { return commit; }
+
+    private static String clean(String value) {
+        return value == null || value.isEmpty() ? "-" : value.replace('\t', ' ').replace('\n', ' ');
+    }
+
+    /**
+     * Find the commit under test: GIT_COMMIT from CI, else the checked-out revision
+     * @return Short commit id, or "unknown"
+     */
+    private static String detectCommit() {
+        String ciCommit = System.getenv("GIT_COMMIT");
+        if (ciCommit != null && !ciCommit.isEmpty()) {
+            return ciCommit.length() > 12 ? ciCommit.substring(0, 12) : ciCommit;
+        }
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            try (BufferedReader output = new BufferedReader(new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+                String revision = output.readLine();
+                if (git.waitFor(5, TimeUnit.SECONDS) && git.exitValue() == 0 && revision != null) {
+                    return revision.trim();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not read git revision: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,112 @@
+package com.nba.automation.proxy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throwaway self-signed certificate the proxy terminates HTTPS with
+ * The key pair is generated in memory and never written to disk, so no private key ships with the code.
+ * Browsers accept the certificate only because proxied sessions run with acceptInsecureCerts
+ */
+final class ProxyCertificate {
+
+    private static final String SUBJECT = "Record Replay Proxy";
+    private static final long VALIDITY_DAYS = 30;
+
+    // DER encodings of sha256WithRSAEncryption (1.2.840.113549.1.1.11) and commonName (2.5.4.3)
+    private static final byte[] SHA256_WITH_RSA_OID = {0x2A, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xF7, 0x0D, 0x01, 0x01, 0x0B};
+    private static final byte[] COMMON_NAME_OID = {0x55, 0x04, 0x03};
+
+    private ProxyCertificate() {
+    }
+
+    /**
+     * Generate a key pair and a self-signed certificate for it
+     * @param alias Alias of the key entry
+     * @param password Password protecting the key entry
+     * @return In-memory keystore holding the key and certificate
+     * @throws GeneralSecurityException if the key cannot be generated or the certificate signed
+     * @throws IOException if the keystore cannot be initialised
+     */
+    static KeyStore createKeyStore(String alias, char[] password) throws GeneralSecurityException, IOException {
+        // Step 1: Fresh RSA key pair for this JVM
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        // Step 2: X.509 v1 certificate body, issued by and to the same name
+        long now = System.currentTimeMillis();
+        byte[] algorithm = der(0x30, der(0x06, SHA256_WITH_RSA_OID), new byte[]{0x05, 0x00});
+        byte[] name = der(0x30, der(0x31, der(0x30, der(0x06, COMMON_NAME_OID),
+                der(0x0C, SUBJECT.getBytes(StandardCharsets.UTF_8)))));
+        byte[] body = der(0x30,
+                der(0x02, new BigInteger(64, new SecureRandom()).add(BigInteger.ONE).toByteArray()),
+                algorithm,
+                name,
+                der(0x30, utcTime(now - TimeUnit.DAYS.toMillis(1)), utcTime(now + TimeUnit.DAYS.toMillis(VALIDITY_DAYS))),
+                name,
+                keyPair.getPublic().getEncoded());
+
+        // Step 3: Sign the body with the new key
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(body);
+        byte[] signature = signer.sign();
+        byte[] signatureBits = new byte[signature.length + 1];
+        System.arraycopy(signature, 0, signatureBits, 1, signature.length);
+        Certificate certificate = CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(der(0x30, body, algorithm, der(0x03, signatureBits))));
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry(alias, keyPair.getPrivate(), password, new Certificate[]{certificate});
+        return keyStore;
+    }
+
+    private static byte[] utcTime(long millis) {
+        SimpleDateFormat format = new SimpleDateFormat("yyMMddHHmmss'Z'");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return der(0x17, format.format(new Date(millis)).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Encode a DER element
+     * @param tag Element tag
+     * @param parts Content, concatenated
+     * @return Tag, definite length and content
+     */
+    private static byte[] der(int tag, byte[]... parts) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            content.write(part, 0, part.length);
+        }
+        int length = content.size();
+        ByteArrayOutputStream element = new ByteArrayOutputStream();
+        element.write(tag);
+        if (length < 0x80) {
+            element.write(length);
+        } else {
+            byte[] lengthBytes = BigInteger.valueOf(length).toByteArray();
+            int offset = lengthBytes[0] == 0 ? 1 : 0;
+            element.write(0x80 | (lengthBytes.length - offset));
+            element.write(lengthBytes, offset, lengthBytes.length - offset);
+        }
+        element.write(content.toByteArray(), 0, length);
+        return element.toByteArray();
+    }
+}
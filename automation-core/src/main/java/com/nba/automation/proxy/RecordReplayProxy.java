@@ -0,0 +1,669 @@
+package com.nba.automation.proxy;
+
+import com.nba.automation.config.ConfigManager;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process HTTP(S) proxy that records a test's traffic to a HAR archive or replays it offline
+ * HTTPS is intercepted with a self-signed certificate generated at first start, so browsers must accept insecure
+ * certificates
+ * Each browser session gets its own proxy; archives are switched per test with beginTest()/endTest()
+ */
+public class RecordReplayProxy {
+
+    /**
+     * Proxy operating mode, proxy.mode in config.properties
+     */
+    public enum Mode {
+        // No proxy, browsers talk to the live site
+        OFF,
+        // Forward to the live site and save every response
+        RECORD,
+        // Serve responses from the archive, never touching the network
+        REPLAY
+    }
+
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final Map<WebDriver, RecordReplayProxy> proxies = new ConcurrentHashMap<>();
+
+    // TLS context shared by every proxy of this JVM, created with the first one
+    private static SSLContext sharedSslContext;
+
+    // Connection-level headers that must not be forwarded or replayed as-is
+    private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "keep-alive", "proxy-connection", "proxy-authorization", "proxy-authenticate",
+            "te", "trailer", "transfer-encoding", "upgrade", "content-length", "host", "expect"));
+
+    private final Mode mode;
+    private final Path archiveDir;
+    private final long replayLatencyMillis;
+    private final ServerSocket serverSocket;
+    private final SSLContext sslContext;
+    private final ExecutorService connections;
+    private final HttpClient upstream;
+
+    private volatile TrafficArchive archive;
+    private volatile String archiveName;
+
+    // Per-test statistics
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong replayHits = new AtomicLong();
+    private final AtomicLong replayMisses = new AtomicLong();
+    private final AtomicLong upstreamErrors = new AtomicLong();
+
+    /**
+     * Private constructor, use start()
+     * @param mode RECORD or REPLAY
+     * @param archiveDir Directory holding one HAR file per test
+     * @param replayLatencyMillis Simulated latency added to every replayed response
+     * @throws IOException if the listening socket or TLS context cannot be created
+     */
+    private RecordReplayProxy(Mode mode, Path archiveDir, long replayLatencyMillis) throws IOException {
+        this.mode = mode;
+        this.archiveDir = archiveDir;
+        this.replayLatencyMillis = replayLatencyMillis;
+        this.sslContext = createSslContext();
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "record-replay-proxy-" + serverSocket.getLocalPort());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.upstream = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        connections.submit(this::acceptLoop);
+        System.out.println("Record/replay proxy started in " + mode + " mode on port " + getPort());
+    }
+
+    /**
+     * Start a proxy in the configured mode
+     * @return Running proxy, or null if proxy.mode is off
+     */
+    public static RecordReplayProxy start() {
+        Mode mode = config.getEnum("proxy.mode", Mode.OFF);
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        return start(mode, Paths.get(config.getProxyArchiveDir()), config.getProxyReplayLatency());
+    }
+
+    /**
+     * Start a proxy with explicit settings
+     * @param mode RECORD or REPLAY
+     * @param archiveDir Directory holding one HAR file per test
+     * @param replayLatencyMillis Simulated latency added to every replayed response
+     * @return Running proxy
+     */
+    public static RecordReplayProxy start(Mode mode, Path archiveDir, long replayLatencyMillis) {
+        if (mode == Mode.OFF) {
+            throw new IllegalArgumentException("Proxy mode must be RECORD or REPLAY");
+        }
+        try {
+            return new RecordReplayProxy(mode, archiveDir, replayLatencyMillis);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start record/replay proxy", e);
+        }
+    }
+
+    /**
+     * Associate a proxy with the browser session that uses it
+     * @param driver WebDriver instance
+     * @param proxy Proxy configured in the session's capabilities
+     */
+    public static void register(WebDriver driver, RecordReplayProxy proxy) {
+        proxies.put(driver, proxy);
+    }
+
+    /**
+     * Get the proxy used by a session
+     * @param driver WebDriver instance
+     * @return Proxy, or null if the session is not proxied
+     */
+    public static RecordReplayProxy forDriver(WebDriver driver) {
+        return driver == null ? null : proxies.get(driver);
+    }
+
+    /**
+     * Stop the proxy of a session that is about to quit
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        RecordReplayProxy proxy = proxies.remove(driver);
+        if (proxy != null) {
+            proxy.stop();
+        }
+    }
+
+    /**
+     * Get proxy settings for browser capabilities
+     * @return Selenium proxy routing HTTP and HTTPS through this proxy
+     */
+    public Proxy toSeleniumProxy() {
+        String address = "127.0.0.1:" + getPort();
+        Proxy proxy = new Proxy();
+        proxy.setHttpProxy(address);
+        proxy.setSslProxy(address);
+        return proxy;
+    }
+
+    public int getPort() { return serverSocket.getLocalPort(); }
+
+    public Mode getMode() { return mode; }
+
+    /**
+     * Switch to the archive of a test
+     * Recording starts an empty archive; replay loads the archive recorded for the same test
+     * @param testName Test identifier, used as the archive file name
+     */
+    public void beginTest(String testName) {
+        recordedCount.set(0);
+        replayHits.set(0);
+        replayMisses.set(0);
+        upstreamErrors.set(0);
+        archiveName = testName;
+
+        if (mode == Mode.RECORD) {
+            archive = new TrafficArchive();
+            return;
+        }
+
+        Path file = getArchiveFile(testName);
+        try {
+            archive = TrafficArchive.read(file);
+            System.out.println("Replaying " + archive.size() + " recorded response(s) from " + file);
+        } catch (IOException e) {
+            archive = new TrafficArchive();
+            System.err.println("No archive to replay for " + testName + " (" + file
+                    + "), run with -Dproxy.mode=record first");
+        }
+    }
+
+    /**
+     * Switch to the archive of a test and make the browser fetch every resource through the proxy
+     * A pooled session, or one started from the throughput profile's preloaded cache, would otherwise serve
+     * resources from its HTTP cache, and they would be missing from this test's archive
+     * @param testName Test identifier, used as the archive file name
+     * @param driver Browser session of the test
+     */
+    public void beginTest(String testName, WebDriver driver) {
+        bypassBrowserCache(driver);
+        beginTest(testName);
+    }
+
+    /**
+     * Finish the current test, saving the archive when recording
+     * @return Record/replay summary for the Allure report
+     */
+    public String endTest() {
+        TrafficArchive currentArchive = archive;
+        String currentName = archiveName;
+        archive = null;
+        archiveName = null;
+        if (currentArchive == null) {
+            return null;
+        }
+
+        if (mode == Mode.RECORD) {
+            Path file = getArchiveFile(currentName);
+            try {
+                currentArchive.write(file);
+            } catch (IOException e) {
+                System.err.println("Failed to write traffic archive " + file + ": " + e.getMessage());
+            }
+            return String.format("Mode: RECORD\nArchive: %s\nRecorded responses: %d\nUpstream errors: %d",
+                    file, recordedCount.get(), upstreamErrors.get());
+        }
+
+        return String.format("Mode: REPLAY\nArchive: %s\nReplayed responses: %d\nMissing from archive: %d\n"
+                        + "Simulated latency: %dms", getArchiveFile(currentName), replayHits.get(),
+                replayMisses.get(), replayLatencyMillis);
+    }
+
+    /**
+     * Stop accepting connections and close the proxy
+     */
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+        connections.shutdownNow();
+    }
+
+    /**
+     * Clear the browser's HTTP cache and stop the current tab from using it
+     * Firefox sessions have no DevTools commands and are started with their cache disabled instead
+     * @param driver Browser session
+     */
+    private static void bypassBrowserCache(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.clearBrowserCache", Map.of());
+            cdp.executeCdpCommand("Network.setCacheDisabled", Map.of("cacheDisabled", true));
+        } catch (Exception e) {
+            System.err.println("Failed to disable the browser cache for record/replay: " + e.getMessage());
+        }
+    }
+
+    private Path getArchiveFile(String testName) {
+        return archiveDir.resolve(testName.replaceAll("[^A-Za-z0-9._-]", "_") + ".har");
+    }
+
+    /**
+     * Accept browser connections until the proxy is stopped
+     */
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                connections.submit(() -> handleConnection(client));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Record/replay proxy failed to accept connection: " + e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                // Executor rejected the task during shutdown
+                return;
+            }
+        }
+    }
+
+    /**
+     * Serve one browser connection
+     * A CONNECT request switches the connection to TLS terminated by the proxy
+     * @param client Browser socket
+     */
+    private void handleConnection(Socket client) {
+        try (Socket socket = client) {
+            InputStream input = new BufferedInputStream(socket.getInputStream());
+            RequestHead head = readRequestHead(input);
+            if (head == null) {
+                return;
+            }
+
+            if ("CONNECT".equals(head.method)) {
+                // Step 1: Confirm the tunnel, then act as the TLS server for the requested host
+                OutputStream output = socket.getOutputStream();
+                output.write("HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                output.flush();
+
+                SSLSocket tlsSocket = (SSLSocket) sslContext.getSocketFactory().createSocket(socket, null, true);
+                tlsSocket.setUseClientMode(false);
+                tlsSocket.startHandshake();
+
+                // Step 2: Serve the decrypted requests against https://host[:port]
+                String authority = head.target.endsWith(":443")
+                        ? head.target.substring(0, head.target.length() - 4) : head.target;
+                InputStream tlsInput = new BufferedInputStream(tlsSocket.getInputStream());
+                serveRequests(tlsInput, tlsSocket.getOutputStream(), "https://" + authority,
+                        readRequestHead(tlsInput));
+            } else {
+                // Plain HTTP proxy requests carry an absolute URL
+                serveRequests(input, socket.getOutputStream(), "", head);
+            }
+        } catch (IOException e) {
+            // Browser closed the connection or the TLS handshake was aborted
+        }
+    }
+
+    /**
+     * Serve keep-alive requests on a connection until the client closes it
+     * @param input Connection input
+     * @param output Connection output
+     * @param origin Scheme and authority prepended to origin-form targets
+     * @param head First request head, already read
+     * @throws IOException on connection errors
+     */
+    private void serveRequests(InputStream input, OutputStream output, String origin, RequestHead head)
+            throws IOException {
+        while (head != null) {
+            byte[] body = readBody(input, head);
+            String url = head.target.startsWith("/") ? origin + head.target : head.target;
+
+            TrafficArchive.Exchange exchange = mode == Mode.REPLAY
+                    ? replay(head.method, url)
+                    : record(head, url, body);
+
+            writeResponse(output, head.method, exchange);
+            if (head.closeAfterResponse) {
+                return;
+            }
+            head = readRequestHead(input);
+        }
+    }
+
+    /**
+     * Forward a request to the live site and add the response to the current archive
+     * @param head Request head
+     * @param url Absolute request URL
+     * @param body Request body
+     * @return Upstream response, or a 502 exchange on failure
+     */
+    private TrafficArchive.Exchange record(RequestHead head, String url, byte[] body) {
+        long startTime = System.currentTimeMillis();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(config.getExplicitWait()))
+                    .method(head.method, body.length == 0
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(body));
+            for (String[] header : head.headers) {
+                if (HOP_BY_HOP_HEADERS.contains(header[0].toLowerCase())) {
+                    continue;
+                }
+                try {
+                    request.header(header[0], header[1]);
+                } catch (IllegalArgumentException e) {
+                    // Headers the JDK client sets itself (e.g. Referer and Origin on Java 11)
+                }
+            }
+
+            // Bodies stay encoded (gzip/br) so the browser decodes exactly what the site sent
+            HttpResponse<byte[]> response = upstream.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+            TrafficArchive.Exchange exchange = new TrafficArchive.Exchange(head.method, url, head.headers, body,
+                    response.statusCode(), toHeaderList(response.headers()), response.body(), startTime,
+                    System.currentTimeMillis() - startTime);
+
+            TrafficArchive currentArchive = archive;
+            if (currentArchive != null) {
+                currentArchive.add(exchange);
+                recordedCount.incrementAndGet();
+            }
+            return exchange;
+        } catch (IOException | IllegalArgumentException e) {
+            // Malformed URL or unreachable site
+            upstreamErrors.incrementAndGet();
+            return errorExchange(head.method, url, 502, "Upstream request failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return errorExchange(head.method, url, 502, "Interrupted");
+        }
+    }
+
+    /**
+     * Look up a request in the current archive, adding the configured latency
+     * @param method HTTP method
+     * @param url Absolute request URL
+     * @return Recorded response, or a 404 exchange if the request was not recorded
+     */
+    private TrafficArchive.Exchange replay(String method, String url) {
+        TrafficArchive currentArchive = archive;
+        TrafficArchive.Exchange exchange = currentArchive == null ? null : currentArchive.find(method, url);
+
+        if (replayLatencyMillis > 0) {
+            try {
+                Thread.sleep(replayLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (exchange == null) {
+            replayMisses.incrementAndGet();
+            return errorExchange(method, url, 404, "Not recorded: " + method + " " + url);
+        }
+        replayHits.incrementAndGet();
+        return exchange;
+    }
+
+    private TrafficArchive.Exchange errorExchange(String method, String url, int status, String message) {
+        List<String[]> headers = new ArrayList<>();
+        headers.add(new String[] {"Content-Type", "text/plain; charset=utf-8"});
+        return new TrafficArchive.Exchange(method, url, new ArrayList<>(), new byte[0], status, headers,
+                message.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis(), 0);
+    }
+
+    /**
+     * Write a response with an explicit Content-Length
+     * @param output Connection output
+     * @param method Request method, HEAD responses carry no body
+     * @param exchange Response to write
+     * @throws IOException on connection errors
+     */
+    private void writeResponse(OutputStream output, String method, TrafficArchive.Exchange exchange)
+            throws IOException {
+        int status = exchange.getStatus();
+        boolean hasBody = !"HEAD".equals(method) && status >= 200 && status != 204 && status != 304;
+
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(' ')
+                .append(reasonPhrase(status)).append("\r\n");
+        for (String[] header : exchange.getResponseHeaders()) {
+            if (!header[0].startsWith(":") && !HOP_BY_HOP_HEADERS.contains(header[0].toLowerCase())) {
+                head.append(header[0]).append(": ").append(header[1]).append("\r\n");
+            }
+        }
+        if (hasBody) {
+            head.append("Content-Length: ").append(exchange.getResponseBody().length).append("\r\n");
+        }
+        head.append("\r\n");
+
+        output.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        if (hasBody) {
+            output.write(exchange.getResponseBody());
+        }
+        output.flush();
+    }
+
+    /**
+     * Read a request line and headers
+     * @param input Connection input
+     * @return Request head, or null at end of stream
+     * @throws IOException on connection errors
+     */
+    private static RequestHead readRequestHead(InputStream input) throws IOException {
+        String requestLine = readLine(input);
+        while (requestLine != null && requestLine.isEmpty()) {
+            requestLine = readLine(input);
+        }
+        if (requestLine == null) {
+            return null;
+        }
+
+        String[] parts = requestLine.split(" ");
+        if (parts.length < 3) {
+            throw new IOException("Malformed request line: " + requestLine);
+        }
+
+        List<String[]> headers = new ArrayList<>();
+        String line;
+        while ((line = readLine(input)) != null && !line.isEmpty()) {
+            int separator = line.indexOf(':');
+            if (separator > 0) {
+                headers.add(new String[] {line.substring(0, separator).trim(), line.substring(separator + 1).trim()});
+            }
+        }
+        return new RequestHead(parts[0].toUpperCase(), parts[1], parts[2], headers);
+    }
+
+    /**
+     * Read a request body framed by Content-Length or chunked transfer encoding
+     * @param input Connection input
+     * @param head Request head
+     * @return Request body, empty if none
+     * @throws IOException on connection errors
+     */
+    private static byte[] readBody(InputStream input, RequestHead head) throws IOException {
+        if ("chunked".equalsIgnoreCase(head.getHeader("Transfer-Encoding"))) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            while (true) {
+                String sizeLine = readLine(input);
+                if (sizeLine == null) {
+                    throw new IOException("Unexpected end of chunked body");
+                }
+                int extension = sizeLine.indexOf(';');
+                int size = Integer.parseInt((extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim(), 16);
+                if (size == 0) {
+                    // Skip trailers
+                    String trailer;
+                    while ((trailer = readLine(input)) != null && !trailer.isEmpty()) {
+                        continue;
+                    }
+                    return body.toByteArray();
+                }
+                body.write(readFully(input, size));
+                readLine(input);
+            }
+        }
+
+        String contentLength = head.getHeader("Content-Length");
+        return contentLength == null ? new byte[0] : readFully(input, Integer.parseInt(contentLength.trim()));
+    }
+
+    private static byte[] readFully(InputStream input, int length) throws IOException {
+        byte[] data = input.readNBytes(length);
+        if (data.length < length) {
+            throw new IOException("Unexpected end of request body");
+        }
+        return data;
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int value;
+        while ((value = input.read()) != -1) {
+            if (value == '\n') {
+                break;
+            }
+            if (value != '\r') {
+                line.write(value);
+            }
+        }
+        if (value == -1 && line.size() == 0) {
+            return null;
+        }
+        return line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static List<String[]> toHeaderList(HttpHeaders headers) {
+        List<String[]> result = new ArrayList<>();
+        headers.map().forEach((name, values) -> {
+            for (String value : values) {
+                result.add(new String[] {name, value});
+            }
+        });
+        return result;
+    }
+
+    private static String reasonPhrase(int status) {
+        switch (status) {
+            case 200: return "OK";
+            case 204: return "No Content";
+            case 301: return "Moved Permanently";
+            case 302: return "Found";
+            case 304: return "Not Modified";
+            case 307: return "Temporary Redirect";
+            case 308: return "Permanent Redirect";
+            case 400: return "Bad Request";
+            case 403: return "Forbidden";
+            case 404: return "Not Found";
+            case 500: return "Internal Server Error";
+            case 502: return "Bad Gateway";
+            default: return "Status";
+        }
+    }
+
+    /**
+     * Get the TLS context used to terminate HTTPS, generating its throwaway certificate on first use
+     * @return Server TLS context
+     * @throws IOException if the certificate cannot be generated
+     */
+    private static synchronized SSLContext createSslContext() throws IOException {
+        if (sharedSslContext != null) {
+            return sharedSslContext;
+        }
+        try {
+            // The keystore only lives in memory, so a random password is enough
+            char[] password = UUID.randomUUID().toString().toCharArray();
+            KeyStore keyStore = ProxyCertificate.createKeyStore("record-replay-proxy", password);
+
+            KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagers.init(keyStore, password);
+
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers.getKeyManagers(), null, null);
+            sharedSslContext = context;
+            return context;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to initialise proxy TLS context", e);
+        }
+    }
+
+    /**
+     * Parsed request line and headers
+     */
+    private static class RequestHead {
+        private final String method;
+        private final String target;
+        private final List<String[]> headers;
+        private final boolean closeAfterResponse;
+
+        RequestHead(String method, String target, String version, List<String[]> headers) {
+            this.method = method;
+            this.target = target;
+            this.headers = headers;
+            String connection = getHeader("Connection");
+            if (connection == null) {
+                connection = getHeader("Proxy-Connection");
+            }
+            this.closeAfterResponse = "HTTP/1.0".equals(version)
+                    ? !"keep-alive".equalsIgnoreCase(connection)
+                    : "close".equalsIgnoreCase(connection);
+        }
+
+        String getHeader(String name) {
+            for (String[] header : headers) {
+                if (header[0].equalsIgnoreCase(name)) {
+                    return header[1];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.nba.automation.proxy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recorded HTTP exchanges of one test, stored on disk as a HAR 1.2 file
+ * Replay lookups match on method and URL; repeated requests are served in recorded order
+ */
+public class TrafficArchive {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final List<Exchange> exchanges = Collections.synchronizedList(new ArrayList<>());
+
+    // Replay indexes, built when an archive is read
+    private final Map<String, Deque<Exchange>> pendingByKey = new HashMap<>();
+    private final Map<String, Exchange> lastByKey = new HashMap<>();
+    private final Map<String, Exchange> lastByKeyWithoutQuery = new HashMap<>();
+
+    /**
+     * Add a recorded exchange
+     * @param exchange Request and response pair
+     */
+    public void add(Exchange exchange) {
+        exchanges.add(exchange);
+    }
+
+    /**
+     * Get number of exchanges in the archive
+     * @return Exchange count
+     */
+    public int size() {
+        return exchanges.size();
+    }
+
+    /**
+     * Find the recorded response for a request
+     * Falls back to the last response for the same URL, then to the same URL without query string
+     * (cache-busting parameters differ between runs)
+     * @param method HTTP method
+     * @param url Absolute request URL
+     * @return Matching exchange, or null if the request was never recorded
+     */
+    public synchronized Exchange find(String method, String url) {
+        String key = key(method, url);
+        Deque<Exchange> pending = pendingByKey.get(key);
+        if (pending != null && !pending.isEmpty()) {
+            return pending.poll();
+        }
+        Exchange last = lastByKey.get(key);
+        if (last != null) {
+            return last;
+        }
+        return lastByKeyWithoutQuery.get(key(method, stripQuery(url)));
+    }
+
+    /**
+     * Write the archive as HAR 1.2, creating parent directories
+     * Bodies are stored base64 encoded so binary and compressed responses replay byte for byte
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        ObjectNode log = root.putObject("log");
+        log.put("version", "1.2");
+        ObjectNode creator = log.putObject("creator");
+        creator.put("name", "nba-stats-automation");
+        creator.put("version", "1.0.0");
+        ArrayNode entries = log.putArray("entries");
+
+        synchronized (exchanges) {
+            for (Exchange exchange : exchanges) {
+                entries.add(toHarEntry(exchange));
+            }
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    /**
+     * Read an archive written by write() or any HAR 1.2 file
+     * @param file HAR file
+     * @return Archive indexed for replay
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public static TrafficArchive read(Path file) throws IOException {
+        TrafficArchive archive = new TrafficArchive();
+        JsonNode entries = mapper.readTree(file.toFile()).path("log").path("entries");
+        for (JsonNode entry : entries) {
+            Exchange exchange = fromHarEntry(entry);
+            archive.exchanges.add(exchange);
+
+            String key = key(exchange.getMethod(), exchange.getUrl());
+            archive.pendingByKey.computeIfAbsent(key, k -> new ArrayDeque<>()).add(exchange);
+            archive.lastByKey.put(key, exchange);
+            archive.lastByKeyWithoutQuery.put(key(exchange.getMethod(), stripQuery(exchange.getUrl())), exchange);
+        }
+        return archive;
+    }
+
+    private static ObjectNode toHarEntry(Exchange exchange) {
+        ObjectNode entry = mapper.createObjectNode();
+        entry.put("startedDateTime", Instant.ofEpochMilli(exchange.getStartedMillis()).toString());
+        entry.put("time", exchange.getTimeMillis());
+
+        ObjectNode request = entry.putObject("request");
+        request.put("method", exchange.getMethod());
+        request.put("url", exchange.getUrl());
+        request.put("httpVersion", "HTTP/1.1");
+        request.putArray("cookies");
+        writeHeaders(request.putArray("headers"), exchange.getRequestHeaders());
+        request.putArray("queryString");
+        if (exchange.getRequestBody().length > 0) {
+            ObjectNode postData = request.putObject("postData");
+            postData.put("mimeType", headerValue(exchange.getRequestHeaders(), "Content-Type", ""));
+            postData.put("text", new String(exchange.getRequestBody(), StandardCharsets.UTF_8));
+        }
+        request.put("headersSize", -1);
+        request.put("bodySize", exchange.getRequestBody().length);
+
+        ObjectNode response = entry.putObject("response");
+        response.put("status", exchange.getStatus());
+        response.put("statusText", "");
+        response.put("httpVersion", "HTTP/1.1");
+        response.putArray("cookies");
+        writeHeaders(response.putArray("headers"), exchange.getResponseHeaders());
+        ObjectNode content = response.putObject("content");
+        content.put("size", exchange.getResponseBody().length);
+        content.put("mimeType", headerValue(exchange.getResponseHeaders(), "Content-Type", ""));
+        content.put("text", Base64.getEncoder().encodeToString(exchange.getResponseBody()));
+        content.put("encoding", "base64");
+        response.put("redirectURL", headerValue(exchange.getResponseHeaders(), "Location", ""));
+        response.put("headersSize", -1);
+        response.put("bodySize", exchange.getResponseBody().length);
+
+        entry.putObject("cache");
+        ObjectNode timings = entry.putObject("timings");
+        timings.put("send", 0);
+        timings.put("wait", exchange.getTimeMillis());
+        timings.put("receive", 0);
+        return entry;
+    }
+
+    private static Exchange fromHarEntry(JsonNode entry) {
+        JsonNode request = entry.path("request");
+        JsonNode response = entry.path("response");
+        JsonNode content = response.path("content");
+
+        String text = content.path("text").asText("");
+        byte[] body = "base64".equals(content.path("encoding").asText())
+                ? Base64.getDecoder().decode(text) : text.getBytes(StandardCharsets.UTF_8);
+
+        return new Exchange(
+                request.path("method").asText("GET"),
+                request.path("url").asText(),
+                readHeaders(request.path("headers")),
+                request.path("postData").path("text").asText("").getBytes(StandardCharsets.UTF_8),
+                response.path("status").asInt(),
+                readHeaders(response.path("headers")),
+                body,
+                Instant.parse(entry.path("startedDateTime").asText(Instant.EPOCH.toString())).toEpochMilli(),
+                entry.path("time").asLong());
+    }
+
+    private static void writeHeaders(ArrayNode target, List<String[]> headers) {
+        for (String[] header : headers) {
+            ObjectNode node = target.addObject();
+            node.put("name", header[0]);
+            node.put("value", header[1]);
+        }
+    }
+
+    private static List<String[]> readHeaders(JsonNode headers) {
+        List<String[]> result = new ArrayList<>();
+        for (JsonNode header : headers) {
+            result.add(new String[] {header.path("name").asText(), header.path("value").asText()});
+        }
+        return result;
+    }
+
+    private static String headerValue(List<String[]> headers, String name, String defaultValue) {
+        for (String[] header : headers) {
+            if (header[0].equalsIgnoreCase(name)) {
+                return header[1];
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String key(String method, String url) {
+        return method.toUpperCase() + " " + url;
+    }
+
+    private static String stripQuery(String url) {
+        int queryStart = url.indexOf('?');
+        return queryStart < 0 ? url : url.substring(0, queryStart);
+    }
+
+    /**
+     * One recorded request and its response
+     */
+    public static class Exchange {
+        private final String method;
+        private final String url;
+        private final List<String[]> requestHeaders;
+        private final byte[] requestBody;
+        private final int status;
+        private final List<String[]> responseHeaders;
+        private final byte[] responseBody;
+        private final long startedMillis;
+        private final long timeMillis;
+
+        public Exchange(String method, String url, List<String[]> requestHeaders, byte[] requestBody, int status,
+                        List<String[]> responseHeaders, byte[] responseBody, long startedMillis, long timeMillis) {
+            this.method = method;
+            this.url = url;
+            this.requestHeaders = requestHeaders;
+            this.requestBody = requestBody;
+            this.status = status;
+            this.responseHeaders = responseHeaders;
+            this.responseBody = responseBody;
+            this.startedMillis = startedMillis;
+            this.timeMillis = timeMillis;
+        }
+
+        public String getMethod() { return method; }
+
+        public String getUrl() { return url; }
+
+        public List<String[]> getRequestHeaders() { return requestHeaders; }
+
+        public byte[] getRequestBody() { return requestBody; }
+
+        public int getStatus() { return status; }
+
+        public List<String[]> getResponseHeaders() { return responseHeaders; }
+
+        public byte[] getResponseBody() { return responseBody; }
+
+        public long getStartedMillis() { return startedMillis; }
+
+        public long getTimeMillis() { return timeMillis; }
+    }
+}
@@ -0,0 +1,249 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.config.ConfigManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Writes Allure attachments on background threads
+ * The attachment is registered with the calling thread's test or step (so parallel tests keep their own
+ * attachments), then encoded and written to allure-results by a writer thread. When the bounded queue
+ * stays full the test thread writes the attachment itself. flush() waits for pending writes at suite end
+ */
+public class AttachmentPipeline {
+    private static volatile AttachmentPipeline instance;
+
+    private final boolean async;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<Job> queue;
+
+    // Pending = queued or being written
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object drained = new Object();
+
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger writtenInline = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong callerNanos = new AtomicLong();
+    private final AtomicLong writerNanos = new AtomicLong();
+    private final AtomicLong inlineNanos = new AtomicLong();
+
+    /**
+     * Constructor, starts the writer threads
+     * @param async Write on background threads
+     * @param capacity Queue capacity
+     * @param writerThreads Number of writer threads
+     * @param offerTimeoutMillis Time to wait for queue space before writing on the caller
+     */
+    AttachmentPipeline(boolean async, int capacity, int writerThreads, long offerTimeoutMillis) {
+        this.async = async;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+
+        if (async) {
+            for (int i = 0; i < Math.max(1, writerThreads); i++) {
+                Thread writer = new Thread(this::runWriter, "allure-attachment-writer-" + i);
+                writer.setDaemon(true);
+                writer.start();
+            }
+            // Last chance for attachments queued by tests that never reach the suite teardown
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(), "allure-attachment-flush"));
+        }
+    }
+
+    /**
+     * Get the pipeline configured by attachments.* in config.properties
+     * @return Shared pipeline
+     */
+    public static AttachmentPipeline getInstance() {
+        AttachmentPipeline pipeline = instance;
+        if (pipeline == null) {
+            synchronized (AttachmentPipeline.class) {
+                pipeline = instance;
+                if (pipeline == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    pipeline = new AttachmentPipeline(config.isAsyncAttachmentsEnabled(),
+                            config.getAttachmentQueueCapacity(), config.getAttachmentWriterThreads(),
+                            config.getAttachmentOfferTimeoutMillis());
+                    instance = pipeline;
+                }
+            }
+        }
+        return pipeline;
+    }
+
+    /**
+     * Attach plain text to the current test or step
+     * @param name Attachment name
+     * @param content Text content
+     */
+    public static void attachText(String name, String content) {
+        getInstance().submit(name, "text/plain", ".txt", () -> content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Attach text of a given media type to the current test or step
+     * @param name Attachment name
+     * @param type Media type, e.g. text/csv
+     * @param content Text content
+     * @param fileExtension File extension without the dot, e.g. csv
+     */
+    public static void attachText(String name, String type, String content, String fileExtension) {
+        getInstance().submit(name, type, "." + fileExtension, () -> content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Attach a screenshot of the current browser window
+     * Only the capture runs on the test thread; the image is decoded and written in the background
+     * @param name Attachment name
+     * @param driver Driver to capture
+     */
+    public static void attachScreenshot(String name, WebDriver driver) {
+        String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        getInstance().submit(name, "image/png", ".png", () -> Base64.getMimeDecoder().decode(base64));
+    }
+
+    /**
+     * Attach the HTML source of the current page
+     * @param name Attachment name
+     * @param driver Driver to read the page from
+     */
+    public static void attachPageSource(String name, WebDriver driver) {
+        String pageSource = driver.getPageSource();
+        getInstance().submit(name, "text/html", ".html", () -> pageSource.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Register an attachment with the current test or step and queue its content for writing
+     * @param name Attachment name
+     * @param type Media type
+     * @param extension File extension including the dot
+     * @param content Encodes the attachment bytes, runs on a writer thread
+     */
+    public void submit(String name, String type, String extension, Supplier<byte[]> content) {
+        long startTime = System.nanoTime();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+
+        // Outside a test or step (e.g. suite teardown) there is nothing to register with asynchronously
+        if (!async || !lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            lifecycle.addAttachment(name, type, extension, content.get());
+            return;
+        }
+
+        // Step 1: Register on the calling thread so the attachment belongs to this thread's test
+        Job job = new Job(lifecycle.prepareAttachment(name, type, extension), content);
+        pending.incrementAndGet();
+
+        // Step 2: Queue it; with the queue full past the timeout, write it here instead
+        boolean queued;
+        try {
+            queued = queue.offer(job, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            inlineNanos.addAndGet(write(job));
+            writtenInline.incrementAndGet();
+        }
+        callerNanos.addAndGet(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Wait until every queued attachment has been written
+     * @return Summary of attachments written and test thread time saved
+     */
+    public String flush() {
+        synchronized (drained) {
+            while (pending.get() > 0) {
+                try {
+                    drained.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return getReport();
+    }
+
+    /**
+     * Get attachment counts and time spent on and off the test threads
+     * @return Report text, or null when nothing was written asynchronously
+     */
+    public String getReport() {
+        if (!async || written.get() == 0) {
+            return null;
+        }
+        long callerMillis = TimeUnit.NANOSECONDS.toMillis(callerNanos.get());
+        long inlineMillis = TimeUnit.NANOSECONDS.toMillis(inlineNanos.get());
+        long writerMillis = TimeUnit.NANOSECONDS.toMillis(writerNanos.get());
+        // Inline writes cost the test thread as much as a synchronous attachment, so only queuing overhead
+        // counts against the time moved to the writer threads
+        return String.format("Attachments written: %d (%d inline under backpressure, %d failed)%n"
+                        + "Encode/write time on writer threads: %dms%n"
+                        + "Time spent on test threads: %dms (%dms writing inline)%n"
+                        + "Test thread time saved: %dms",
+                written.get(), writtenInline.get(), failed.get(), writerMillis, callerMillis, inlineMillis,
+                Math.max(0, writerMillis - (callerMillis - inlineMillis)));
+    }
+
+    private void runWriter() {
+        while (true) {
+            try {
+                writerNanos.addAndGet(write(queue.take()));
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Encode and write a queued attachment
+     * @param job Attachment to write
+     * @return Time taken in nanoseconds
+     */
+    private long write(Job job) {
+        long startTime = System.nanoTime();
+        try {
+            Allure.getLifecycle().writeAttachment(job.source, new ByteArrayInputStream(job.content.get()));
+            written.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            System.err.println("Failed to write attachment " + job.source + ": " + e.getMessage());
+        } finally {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (drained) {
+                    drained.notifyAll();
+                }
+            }
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Attachment registered with Allure and waiting to be written
+     */
+    private static class Job {
+        final String source;
+        final Supplier<byte[]> content;
+
+        Job(String source, Supplier<byte[]> content) {
+            this.source = source;
+            this.content = content;
+        }
+    }
+}
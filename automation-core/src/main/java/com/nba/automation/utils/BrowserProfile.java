@@ -0,0 +1,251 @@
+package com.nba.automation.utils;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Browser launch profiles
+ * The throughput profile trades debuggability for start and load time: new headless mode, a fixed viewport
+ * instead of maximizing, no background throttling, extensions or first-run checks, and a Chrome user-data-dir
+ * copied from a template whose disk cache was preloaded once with the pages under test
+ */
+public class BrowserProfile {
+
+    // Marks a template whose warm-up finished; a template without it is rebuilt
+    private static final String READY_MARKER = ".template-ready";
+
+    private static final Map<WebDriver, Path> userDataDirs = new ConcurrentHashMap<>();
+    private static final Object templateLock = new Object();
+    private static volatile Path preparedTemplate;
+
+    /**
+     * Launch profile selected by browser.profile
+     */
+    public enum Mode {
+        // Options the suite has always used: maximized window, legacy headless flag when headless=true
+        STANDARD,
+        // Always headless, tuned for session start and page load time
+        THROUGHPUT
+    }
+
+    private BrowserProfile() {
+    }
+
+    /**
+     * Chrome switches of the throughput profile, without the user-data-dir
+     * @param viewport Fixed window size
+     * @return Command line switches
+     */
+    static List<String> throughputChromeArguments(Dimension viewport) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--headless=new");
+        arguments.add("--window-size=" + viewport.getWidth() + "," + viewport.getHeight());
+        // Timers and renderers of hidden tabs keep full speed (fan-out loads pages in background tabs)
+        arguments.add("--disable-background-timer-throttling");
+        arguments.add("--disable-backgrounding-occluded-windows");
+        arguments.add("--disable-renderer-backgrounding");
+        arguments.add("--disable-extensions");
+        arguments.add("--disable-component-extensions-with-background-pages");
+        arguments.add("--disable-background-networking");
+        arguments.add("--disable-default-apps");
+        arguments.add("--disable-sync");
+        arguments.add("--no-first-run");
+        arguments.add("--no-default-browser-check");
+        arguments.add("--mute-audio");
+        return arguments;
+    }
+
+    /**
+     * Apply the throughput profile to Chrome options
+     * Each session gets its own copy of the template, since Chrome locks a user-data-dir and its cache per process
+     * @param options Options to extend
+     * @param viewport Fixed window size
+     * @param templateDir User-data-dir template, built on first use
+     * @param warmupUrls Pages loaded into the template's disk cache when it is built
+     * @return Session user-data-dir, to be handed to register() once the session started
+     */
+    public static Path applyThroughput(ChromeOptions options, Dimension viewport, Path templateDir, List<String> warmupUrls) {
+        options.addArguments(throughputChromeArguments(viewport));
+        Path userDataDir;
+        try {
+            userDataDir = Files.createTempDirectory("chrome-session-");
+            Path template = prepareTemplate(templateDir, viewport, warmupUrls);
+            if (template != null) {
+                copyTree(template, userDataDir);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create a Chrome user-data-dir: " + e.getMessage(), e);
+        }
+        options.addArguments("--user-data-dir=" + userDataDir.toAbsolutePath());
+        return userDataDir;
+    }
+
+    /**
+     * Apply the throughput profile to Firefox options
+     * Firefox copies its profile per session by itself, so no template is used
+     * @param options Options to extend
+     * @param viewport Fixed window size
+     */
+    public static void applyThroughput(FirefoxOptions options, Dimension viewport) {
+        options.addArguments("-headless");
+        options.addArguments("--width=" + viewport.getWidth(), "--height=" + viewport.getHeight());
+        options.addPreference("browser.shell.checkDefaultBrowser", false);
+        options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+        options.addPreference("browser.aboutwelcome.enabled", false);
+        options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+        options.addPreference("extensions.update.enabled", false);
+        // Background tabs run timers at the foreground rate
+        options.addPreference("dom.min_background_timeout_value", 4);
+    }
+
+    /**
+     * Build the user-data-dir template once: a headless Chrome with the throughput switches loads every
+     * warm-up page, leaving a completed first run and a filled disk cache behind
+     * A template from an earlier run is reused as is; delete the directory to refresh it
+     * @param templateDir Template directory
+     * @param viewport Fixed window size
+     * @param warmupUrls Pages to preload
+     * @return Template directory, or null if it could not be built
+     */
+    public static Path prepareTemplate(Path templateDir, Dimension viewport, List<String> warmupUrls) {
+        Path template = preparedTemplate;
+        if (template != null) {
+            return template;
+        }
+        synchronized (templateLock) {
+            if (preparedTemplate != null) {
+                return preparedTemplate;
+            }
+            Path marker = templateDir.resolve(READY_MARKER);
+            if (!Files.exists(marker)) {
+                long startTime = System.currentTimeMillis();
+                WebDriver warmup = null;
+                try {
+                    deleteTree(templateDir);
+                    Files.createDirectories(templateDir);
+
+                    ChromeOptions options = new ChromeOptions();
+                    options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu");
+                    options.addArguments(throughputChromeArguments(viewport));
+                    options.addArguments("--user-data-dir=" + templateDir.toAbsolutePath());
+                    warmup = new ChromeDriver(options);
+                    for (String url : warmupUrls) {
+                        try {
+                            warmup.get(url);
+                        } catch (RuntimeException e) {
+                            System.err.println("Warning: Could not preload " + url + ": " + e.getMessage());
+                        }
+                    }
+                    // Chrome flushes the cache index and profile on a clean shutdown
+                    warmup.quit();
+                    warmup = null;
+                    Files.createFile(marker);
+                    System.out.println(String.format("Browser profile template built in %dms (%d page(s) preloaded): %s",
+                            System.currentTimeMillis() - startTime, warmupUrls.size(), templateDir.toAbsolutePath()));
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Warning: Could not build browser profile template, sessions start empty: "
+                            + e.getMessage());
+                    if (warmup != null) {
+                        warmup.quit();
+                    }
+                    return null;
+                }
+            }
+            preparedTemplate = templateDir;
+            return templateDir;
+        }
+    }
+
+    /**
+     * Remember the user-data-dir of a started session
+     * @param webDriver Session
+     * @param userDataDir Directory returned by applyThroughput, or null
+     */
+    public static void register(WebDriver webDriver, Path userDataDir) {
+        if (userDataDir != null) {
+            userDataDirs.put(webDriver, userDataDir);
+        }
+    }
+
+    /**
+     * Delete the user-data-dir of a session after it quit
+     * @param webDriver Session
+     */
+    public static void release(WebDriver webDriver) {
+        Path userDataDir = userDataDirs.remove(webDriver);
+        if (userDataDir != null) {
+            deleteQuietly(userDataDir);
+        }
+    }
+
+    /**
+     * Delete a session user-data-dir, logging instead of failing
+     * @param userDataDir Directory to delete
+     */
+    public static void deleteQuietly(Path userDataDir) {
+        try {
+            deleteTree(userDataDir);
+        } catch (IOException e) {
+            System.err.println("Warning: Could not delete " + userDataDir + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copy a directory tree, skipping Chrome's process lock files
+     * @param source Directory to copy
+     * @param target Existing target directory
+     * @throws IOException if a file cannot be copied
+     */
+    static void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String name = file.getFileName().toString();
+                if (!name.startsWith("Singleton") && !name.equals(READY_MARKER) && !attrs.isSymbolicLink()) {
+                    Files.copy(file, target.resolve(source.relativize(file).toString()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.config.EnumSettings;
+import com.nba.automation.performance.RegressionDetector;
+import com.nba.automation.proxy.RecordReplayProxy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Enum settings of the shared driver, wait, screenshot, proxy and trend code
+ * Read with ConfigManager.getEnum(key, default) using the same defaults
+ */
+public class CoreEnumSettings implements EnumSettings {
+
+    @Override
+    public Map<String, Enum<?>> getDefaults() {
+        Map<String, Enum<?>> defaults = new LinkedHashMap<>();
+        defaults.put("browser.profile", BrowserProfile.Mode.STANDARD);
+        defaults.put("wait.policy", WaitPolicy.Mode.EXPLICIT);
+        defaults.put("wait.engine", WaitHelper.WaitEngine.POLLING);
+        defaults.put("performance.trend.action", RegressionDetector.Action.WARN);
+        defaults.put("proxy.mode", RecordReplayProxy.Mode.OFF);
+        defaults.put("screenshot.mode", ScreenshotService.Mode.FAILURE);
+        defaults.put("screenshot.format", ScreenshotService.Format.JPEG);
+        return defaults;
+    }
+}
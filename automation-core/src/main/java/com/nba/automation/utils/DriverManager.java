@@ -0,0 +1,216 @@
+package com.nba.automation.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.performance.CommandTimer;
+import com.nba.automation.proxy.RecordReplayProxy;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * WebDriver management utility class
+ * Handles driver initialization, configuration, and cleanup
+ */
+public class DriverManager {
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    // Undecorated session behind the timed driver, keys the pool, proxy and network blocker
+    private static final ThreadLocal<WebDriver> browser = new ThreadLocal<>();
+    private static final ThreadLocal<DriverPool.PooledSession> session = new ThreadLocal<>();
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    /**
+     * Initialize WebDriver for the current thread
+     * Checks out a pre-warmed session from the pool when pooling is enabled, and times its commands
+     * when instrumentation is enabled
+     */
+    public static void initializeDriver() {
+        WebDriver newDriver;
+        if (config.isSessionPoolEnabled()) {
+            DriverPool.PooledSession pooledSession = DriverPool.getInstance().checkout();
+            session.set(pooledSession);
+            newDriver = pooledSession.getDriver();
+        } else {
+            newDriver = createDriver();
+        }
+        browser.set(newDriver);
+        driver.set(CommandTimer.decorate(newDriver));
+    }
+
+    /**
+     * Create a new WebDriver based on configuration
+     * Sets up browser-specific options of the browser.profile and timeouts
+     * @return New WebDriver instance
+     */
+    static WebDriver createDriver() {
+        String browserName = config.getBrowser().toLowerCase();
+        boolean headless = config.isHeadless();
+        boolean throughput = config.getEnum("browser.profile", BrowserProfile.Mode.STANDARD) == BrowserProfile.Mode.THROUGHPUT;
+        WebDriver newDriver;
+        // Per-session copy of the throughput profile's user-data-dir template
+        Path userDataDir = null;
+
+        // Route traffic through the record/replay proxy when proxy.mode is record or replay
+        RecordReplayProxy proxy = RecordReplayProxy.start();
+
+        try {
+            switch (browserName) {
+                case "chrome":
+                    // Setup Chrome WebDriver using WebDriverManager
+                    WebDriverManager.chromedriver().setup();
+                    ChromeOptions chromeOptions = new ChromeOptions();
+
+                    // Add Chrome-specific options for stability
+                    chromeOptions.addArguments("--disable-features=VizDisplayCompositor");
+                    chromeOptions.addArguments("--no-sandbox");
+                    chromeOptions.addArguments("--disable-dev-shm-usage");
+                    chromeOptions.addArguments("--disable-gpu");
+                    chromeOptions.addArguments(config.getBrowserArguments());
+
+                    if (throughput) {
+                        userDataDir = BrowserProfile.applyThroughput(chromeOptions, config.getBrowserViewport(),
+                                Paths.get(config.getBrowserProfileTemplateDir()), config.getBrowserProfileWarmupUrls());
+                    } else {
+                        chromeOptions.addArguments("--start-maximized");
+                        if (headless) {
+                            chromeOptions.addArguments("--headless");
+                        }
+                    }
+
+                    chromeOptions.setPageLoadStrategy(PageLoadStrategy.EAGER); // or NONE
+
+                    if (proxy != null) {
+                        chromeOptions.setProxy(proxy.toSeleniumProxy());
+                        chromeOptions.setAcceptInsecureCerts(true);
+                    }
+
+                    newDriver = new ChromeDriver(chromeOptions);
+
+                    // Block ads, trackers and heavy media before the first navigation
+                    NetworkBlocker.attach(newDriver);
+                    break;
+
+                case "firefox":
+                    // Setup Firefox WebDriver using WebDriverManager
+                    WebDriverManager.firefoxdriver().setup();
+                    FirefoxOptions firefoxOptions = new FirefoxOptions();
+
+                    if (throughput) {
+                        BrowserProfile.applyThroughput(firefoxOptions, config.getBrowserViewport());
+                    } else if (headless) {
+                        firefoxOptions.addArguments("--headless");
+                    }
+
+                    if (proxy != null) {
+                        firefoxOptions.setProxy(proxy.toSeleniumProxy());
+                        firefoxOptions.setAcceptInsecureCerts(true);
+                        // Cached resources would never reach the proxy and be missing from the archive
+                        firefoxOptions.addPreference("browser.cache.disk.enable", false);
+                        firefoxOptions.addPreference("browser.cache.memory.enable", false);
+                    }
+
+                    newDriver = new FirefoxDriver(firefoxOptions);
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Browser '" + browserName + "' is not supported");
+            }
+        } catch (RuntimeException e) {
+            if (proxy != null) {
+                proxy.stop();
+            }
+            if (userDataDir != null) {
+                BrowserProfile.deleteQuietly(userDataDir);
+            }
+            throw e;
+        }
+
+        BrowserProfile.register(newDriver, userDataDir);
+
+        if (proxy != null) {
+            RecordReplayProxy.register(newDriver, proxy);
+        }
+
+        // Configure timeouts
+        newDriver.manage().timeouts().implicitlyWait(WaitPolicy.getImplicitWait());
+        newDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+        // Observer-based waits run as async scripts and must outlive the explicit wait
+        newDriver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getExplicitWait() + 5L));
+        if (!throughput) {
+            // The throughput profile starts at its fixed viewport
+            newDriver.manage().window().maximize();
+        }
+        return newDriver;
+    }
+
+    /**
+     * Get current WebDriver instance
+     * @return WebDriver instance for current thread
+     */
+    public static WebDriver getDriver() {
+        return driver.get();
+    }
+
+    /**
+     * Close current WebDriver instance and clean up
+     * Pooled sessions are reset and returned to the pool instead of quitting the browser
+     */
+    public static void closeDriver() {
+        WebDriver currentDriver = browser.get();
+        DriverPool.PooledSession pooledSession = session.get();
+        if (pooledSession != null) {
+            pooledSession.getPool().release(pooledSession);
+            session.remove();
+        } else if (currentDriver != null) {
+            quitDriver(currentDriver);
+        }
+        browser.remove();
+        driver.remove();
+    }
+
+    /**
+     * Quit a WebDriver and release per-session helpers
+     * @param webDriver WebDriver instance to quit
+     */
+    static void quitDriver(WebDriver webDriver) {
+        NetworkBlocker.detach(webDriver);
+        try {
+            webDriver.quit();
+        } finally {
+            RecordReplayProxy.detach(webDriver);
+            BrowserProfile.release(webDriver);
+        }
+    }
+
+    /**
+     * Get record/replay proxy of the current thread's session
+     * @return Proxy, or null if proxy.mode is off
+     */
+    public static RecordReplayProxy getRecordReplayProxy() {
+        return RecordReplayProxy.forDriver(browser.get());
+    }
+
+    /**
+     * Get network blocker of the current thread's session
+     * @return Network blocker, or null if blocking is disabled or not supported by the browser
+     */
+    public static NetworkBlocker getNetworkBlocker() {
+        return NetworkBlocker.forDriver(browser.get());
+    }
+
+    /**
+     * Quit all pooled browser sessions
+     * Called once at the end of the suite
+     * @return Pool metrics summary, or null if the pool was never started
+     */
+    public static String shutdownPool() {
+        return DriverPool.shutdownInstance();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,399 @@
+package com.nba.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import com.nba.automation.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of pre-warmed browser sessions
+ * Sessions are checked out per test, reset between tests and recycled after a configurable number of uses
+ */
+public class DriverPool {
+    private static volatile DriverPool instance;
+
+    // Slice used while waiting for a free session so that recycled capacity is noticed quickly
+    private static final long WAIT_SLICE_MILLIS = 250;
+
+    private final BlockingQueue<PooledSession> idleSessions = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final int maxReuse;
+    private final long checkoutTimeoutMillis;
+
+    // Pool metrics
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong sessionsCreated = new AtomicLong();
+    private final AtomicLong sessionsRecycled = new AtomicLong();
+    private final AtomicLong healthCheckFailures = new AtomicLong();
+
+    /**
+     * Private constructor to prevent direct instantiation
+     * @param config Configuration holding pool size, reuse cap and checkout timeout
+     */
+    private DriverPool(ConfigManager config) {
+        // Every parallel test thread needs its own session
+        int poolSize = config.getSessionPoolSize();
+        if (!"none".equals(config.getParallelMode())) {
+            poolSize = Math.max(poolSize, config.getParallelThreadCount());
+        }
+        this.capacity = new Semaphore(poolSize, true);
+        this.maxReuse = config.getSessionPoolMaxReuse();
+        this.checkoutTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getSessionPoolCheckoutTimeout());
+    }
+
+    /**
+     * Get singleton instance of DriverPool, pre-warming it on first access
+     * @return DriverPool instance
+     */
+    public static DriverPool getInstance() {
+        DriverPool pool = instance;
+        if (pool == null) {
+            synchronized (DriverPool.class) {
+                pool = instance;
+                if (pool == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    pool = new DriverPool(config);
+                    pool.prewarm(config.getSessionPoolPrewarm());
+                    Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown"));
+                    instance = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Quit all idle sessions and drop the singleton so the next checkout starts a fresh pool
+     * @return Metrics summary of the closed pool, or null if the pool was never started
+     */
+    public static String shutdownInstance() {
+        synchronized (DriverPool.class) {
+            DriverPool pool = instance;
+            if (pool == null) {
+                return null;
+            }
+            instance = null;
+            String metrics = pool.getMetricsSummary();
+            pool.shutdown();
+            return metrics;
+        }
+    }
+
+    /**
+     * Start browser sessions up front so the first tests do not pay the launch cost
+     * @param count Number of sessions to start
+     */
+    private void prewarm(int count) {
+        int sessionsToStart = Math.min(count, capacity.availablePermits());
+        if (sessionsToStart <= 0) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessionsToStart);
+        try {
+            List<Future<PooledSession>> futures = new ArrayList<>();
+            for (int i = 0; i < sessionsToStart; i++) {
+                capacity.acquireUninterruptibly();
+                futures.add(executor.submit(this::createSession));
+            }
+            for (Future<PooledSession> future : futures) {
+                try {
+                    idleSessions.offer(future.get());
+                } catch (Exception e) {
+                    // createSession() already returned the permit
+                    System.err.println("Failed to pre-warm browser session: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        System.out.println("Driver pool pre-warmed with " + idleSessions.size() + " session(s)");
+    }
+
+    /**
+     * Check out a healthy session, starting a new browser if the pool has spare capacity
+     * @return Pooled session reserved for the calling thread
+     */
+    public PooledSession checkout() {
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(checkoutTimeoutMillis);
+
+        while (true) {
+            PooledSession session = idleSessions.poll();
+
+            if (session == null && capacity.tryAcquire()) {
+                session = createSession();
+            }
+
+            if (session == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out after " + checkoutTimeoutMillis
+                            + "ms waiting for a browser session from the pool");
+                }
+                try {
+                    session = idleSessions.poll(Math.min(WAIT_SLICE_MILLIS,
+                            TimeUnit.NANOSECONDS.toMillis(remaining) + 1), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+                }
+                if (session == null) {
+                    continue;
+                }
+            }
+
+            if (!isHealthy(session)) {
+                healthCheckFailures.incrementAndGet();
+                discard(session);
+                continue;
+            }
+
+            recordWait(System.nanoTime() - startTime);
+            session.markCheckedOut();
+            return session;
+        }
+    }
+
+    /**
+     * Check out a healthy session only if one is idle or the pool has spare capacity, without waiting
+     * @return Pooled session reserved for the calling thread, or null if every session is in use
+     */
+    public PooledSession tryCheckout() {
+        long startTime = System.nanoTime();
+
+        while (true) {
+            PooledSession session = idleSessions.poll();
+
+            if (session == null && capacity.tryAcquire()) {
+                session = createSession();
+            }
+
+            if (session == null) {
+                return null;
+            }
+
+            if (!isHealthy(session)) {
+                healthCheckFailures.incrementAndGet();
+                discard(session);
+                continue;
+            }
+
+            recordWait(System.nanoTime() - startTime);
+            session.markCheckedOut();
+            return session;
+        }
+    }
+
+    /**
+     * Return a session to the pool, recycling it if it reached the reuse cap or cannot be reset
+     * @param session Session previously obtained from checkout()
+     */
+    public void release(PooledSession session) {
+        if (session == null) {
+            return;
+        }
+
+        if (session.getUses() >= maxReuse || !reset(session)) {
+            discard(session);
+            return;
+        }
+
+        idleSessions.offer(session);
+    }
+
+    /**
+     * Quit all idle sessions and print pool metrics
+     */
+    public void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>();
+        idleSessions.drainTo(sessions);
+        for (PooledSession session : sessions) {
+            quietQuit(session);
+            capacity.release();
+        }
+        if (!sessions.isEmpty()) {
+            System.out.println(getMetricsSummary());
+        }
+    }
+
+    /**
+     * Get a human readable summary of pool metrics
+     * @return Metrics summary
+     */
+    public String getMetricsSummary() {
+        long count = checkouts.get();
+        double meanWaitMillis = count == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / count;
+        return String.format("Driver Pool Metrics\nCheckouts: %d\nMean checkout wait: %.1fms\n"
+                        + "Max checkout wait: %.1fms\nSessions created: %d\nSessions recycled: %d\n"
+                        + "Health check failures: %d\nIdle sessions: %d",
+                count, meanWaitMillis, maxWaitNanos.get() / 1_000_000.0, sessionsCreated.get(),
+                sessionsRecycled.get(), healthCheckFailures.get(), idleSessions.size());
+    }
+
+    /**
+     * Start a new browser session; caller must hold a capacity permit
+     * @return New pooled session
+     */
+    private PooledSession createSession() {
+        try {
+            WebDriver webDriver = DriverManager.createDriver();
+            sessionsCreated.incrementAndGet();
+            return new PooledSession(this, webDriver);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Check that the browser behind a session still responds
+     * @param session Session to check
+     * @return true if the session can be handed out
+     */
+    private boolean isHealthy(PooledSession session) {
+        try {
+            WebDriver webDriver = session.getDriver();
+            if (webDriver instanceof RemoteWebDriver && ((RemoteWebDriver) webDriver).getSessionId() == null) {
+                return false;
+            }
+            return webDriver.getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reset browser state so the next test starts clean
+     * Closes extra tabs, clears cookies and navigates to a blank page. Chrome also drops its HTTP cache and
+     * the storage of every origin (local storage, IndexedDB, cache storage, service workers); other browsers
+     * only get the last page's local and session storage cleared, so their isolation is partial
+     * @param session Session to reset
+     * @return true if the reset succeeded
+     */
+    private boolean reset(PooledSession session) {
+        WebDriver webDriver = session.getDriver();
+        try {
+            List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+            String keepHandle = handles.contains(session.getPrimaryHandle())
+                    ? session.getPrimaryHandle() : handles.get(0);
+
+            for (String handle : handles) {
+                if (!handle.equals(keepHandle)) {
+                    webDriver.switchTo().window(handle);
+                    webDriver.close();
+                }
+            }
+            webDriver.switchTo().window(keepHandle);
+            session.setPrimaryHandle(keepHandle);
+
+            // Storage is per origin, so clear it before leaving the last visited page
+            Object lastOrigin = null;
+            try {
+                lastOrigin = ((JavascriptExecutor) webDriver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}"
+                                + "return window.location.origin;");
+            } catch (Exception e) {
+                // Pages such as about:blank have no storage
+            }
+
+            if (webDriver instanceof ChromeDriver) {
+                ChromeDriver chrome = (ChromeDriver) webDriver;
+                chrome.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+                chrome.executeCdpCommand("Network.clearBrowserCache", Collections.emptyMap());
+                clearStorage(chrome, lastOrigin);
+            }
+            webDriver.manage().deleteAllCookies();
+            webDriver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to reset pooled browser session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clear the storage of every origin, or at least of the last visited one if Chrome rejects the wildcard
+     * @param chrome Chrome session
+     * @param lastOrigin Origin of the last visited page, e.g. https://www.nba.com, or null
+     */
+    private static void clearStorage(ChromeDriver chrome, Object lastOrigin) {
+        try {
+            chrome.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", "*", "storageTypes", "all"));
+        } catch (Exception e) {
+            if (lastOrigin != null && lastOrigin.toString().startsWith("http")) {
+                chrome.executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", lastOrigin.toString(), "storageTypes", "all"));
+            }
+        }
+    }
+
+    /**
+     * Quit a session and free its slot in the pool
+     * @param session Session to discard
+     */
+    private void discard(PooledSession session) {
+        quietQuit(session);
+        sessionsRecycled.incrementAndGet();
+        capacity.release();
+    }
+
+    private void quietQuit(PooledSession session) {
+        try {
+            DriverManager.quitDriver(session.getDriver());
+        } catch (Exception e) {
+            System.err.println("Failed to quit pooled browser session: " + e.getMessage());
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        checkouts.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Browser session owned by the pool
+     * Tracks how many tests have used it and which window is its primary tab
+     */
+    public static class PooledSession {
+        private final DriverPool pool;
+        private final WebDriver driver;
+        private String primaryHandle;
+        private int uses;
+
+        PooledSession(DriverPool pool, WebDriver driver) {
+            this.pool = pool;
+            this.driver = driver;
+            this.primaryHandle = driver.getWindowHandle();
+        }
+
+        public DriverPool getPool() { return pool; }
+
+        public WebDriver getDriver() { return driver; }
+
+        public int getUses() { return uses; }
+
+        String getPrimaryHandle() { return primaryHandle; }
+
+        void setPrimaryHandle(String primaryHandle) { this.primaryHandle = primaryHandle; }
+
+        void markCheckedOut() { uses++; }
+    }
+}
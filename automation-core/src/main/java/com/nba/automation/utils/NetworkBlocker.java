@@ -0,0 +1,202 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.config.ConfigManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Blocks ads, trackers and heavy media in Chrome sessions through the DevTools protocol
+ * Uses Network.setBlockedURLs with the patterns from config.properties and counts what was blocked per test
+ */
+public class NetworkBlocker {
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final Map<WebDriver, NetworkBlocker> blockers = new ConcurrentHashMap<>();
+
+    private static final List<String> IMAGE_PATTERNS = Arrays.asList(
+            "*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.avif*", "*.svg*", "*.ico*");
+    private static final List<String> FONT_PATTERNS = Arrays.asList(
+            "*.woff*", "*.woff2*", "*.ttf*", "*.otf*", "*.eot*");
+
+    // Event payloads are read as plain maps so the blocker works with any CDP version
+    private static final Function<JsonInput, Map<String, Object>> EVENT_PARAMS = input -> input.read(Json.MAP_TYPE);
+
+    private final DevTools devTools;
+    private final List<String> blockedPatterns;
+
+    // Per-test statistics, updated from the DevTools event thread
+    private final Map<String, String> requestTypes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> loadedBytesByType = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> loadedCountByType = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor, use attach()
+     * @param devTools DevTools connection of the session
+     * @param blockedPatterns URL patterns to block
+     */
+    private NetworkBlocker(DevTools devTools, List<String> blockedPatterns) {
+        this.devTools = devTools;
+        this.blockedPatterns = blockedPatterns;
+    }
+
+    /**
+     * Enable request blocking on a new session if configured
+     * @param driver WebDriver instance, only DevTools capable (Chrome) sessions are supported
+     */
+    public static void attach(WebDriver driver) {
+        if (!config.isNetworkBlockingEnabled() || !(driver instanceof HasDevTools)) {
+            return;
+        }
+
+        List<String> patterns = new ArrayList<>(config.getNetworkBlockPatterns());
+        if (config.isBlockImages()) {
+            patterns.addAll(IMAGE_PATTERNS);
+        }
+        if (config.isBlockFonts()) {
+            patterns.addAll(FONT_PATTERNS);
+        }
+
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+
+            NetworkBlocker blocker = new NetworkBlocker(devTools, patterns);
+            blocker.start();
+            blockers.put(driver, blocker);
+        } catch (Exception e) {
+            System.err.println("Failed to enable network blocking: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the blocker attached to a session
+     * @param driver WebDriver instance
+     * @return Network blocker, or null if blocking is not active for the session
+     */
+    public static NetworkBlocker forDriver(WebDriver driver) {
+        return driver == null ? null : blockers.get(driver);
+    }
+
+    /**
+     * Stop tracking a session that is about to quit
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        NetworkBlocker blocker = blockers.remove(driver);
+        if (blocker != null) {
+            blocker.devTools.clearListeners();
+        }
+    }
+
+    /**
+     * Enable the Network domain, register event listeners and send the blocklist
+     */
+    private void start() {
+        Map<String, Object> noParams = Map.of();
+        devTools.send(new Command<>("Network.enable", noParams));
+
+        devTools.addListener(new Event<>("Network.requestWillBeSent", EVENT_PARAMS),
+                params -> {
+                    Object type = params.get("type");
+                    requestTypes.put(String.valueOf(params.get("requestId")), type == null ? "Other" : type.toString());
+                });
+
+        devTools.addListener(new Event<>("Network.loadingFinished", EVENT_PARAMS),
+                params -> {
+                    String type = requestTypes.getOrDefault(String.valueOf(params.get("requestId")), "Other");
+                    Object bytes = params.get("encodedDataLength");
+                    loadedBytesByType.computeIfAbsent(type, key -> new LongAdder())
+                            .add(bytes instanceof Number ? ((Number) bytes).longValue() : 0);
+                    loadedCountByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+                });
+
+        devTools.addListener(new Event<>("Network.loadingFailed", EVENT_PARAMS),
+                params -> {
+                    if (params.get("blockedReason") == null) {
+                        return;
+                    }
+                    Object type = params.get("type");
+                    blockedByType.computeIfAbsent(type == null ? "Other" : type.toString(), key -> new LongAdder())
+                            .increment();
+                });
+
+        devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", blockedPatterns)));
+        System.out.println("Network blocking enabled for " + blockedPatterns.size() + " URL pattern(s)");
+    }
+
+    /**
+     * Clear per-test statistics, called at test start
+     */
+    public void resetStats() {
+        requestTypes.clear();
+        blockedByType.clear();
+        loadedBytesByType.clear();
+        loadedCountByType.clear();
+    }
+
+    /**
+     * Get number of requests blocked since the last reset
+     * @return Blocked request count
+     */
+    public long getBlockedRequestCount() {
+        return blockedByType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Get bytes transferred by requests that were not blocked since the last reset
+     * @return Transferred bytes
+     */
+    public long getTransferredBytes() {
+        return loadedBytesByType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Estimate bytes saved by blocking
+     * Blocked requests never report a size, so each one is valued at the mean size of loaded requests
+     * of the same resource type (or of all loaded requests when none of that type loaded)
+     * @return Estimated bytes saved
+     */
+    public long getEstimatedBytesSaved() {
+        long totalLoadedCount = loadedCountByType.values().stream().mapToLong(LongAdder::sum).sum();
+        double overallMean = totalLoadedCount == 0 ? 0 : (double) getTransferredBytes() / totalLoadedCount;
+
+        double saved = 0;
+        for (Map.Entry<String, LongAdder> blocked : blockedByType.entrySet()) {
+            LongAdder loadedCount = loadedCountByType.get(blocked.getKey());
+            double mean = overallMean;
+            if (loadedCount != null && loadedCount.sum() > 0) {
+                mean = (double) loadedBytesByType.get(blocked.getKey()).sum() / loadedCount.sum();
+            }
+            saved += mean * blocked.getValue().sum();
+        }
+        return Math.round(saved);
+    }
+
+    /**
+     * Format blocked request counts and bytes for the Allure report
+     * @return Network blocking report
+     */
+    public String getReport() {
+        Map<String, Long> blockedCounts = new TreeMap<>();
+        blockedByType.forEach((type, count) -> blockedCounts.put(type, count.sum()));
+
+        return String.format("Blocked requests: %d %s\nBytes transferred: %d\nEstimated bytes saved: %d\nPatterns: %s",
+                getBlockedRequestCount(), blockedCounts, getTransferredBytes(), getEstimatedBytesSaved(),
+                blockedPatterns);
+    }
+}
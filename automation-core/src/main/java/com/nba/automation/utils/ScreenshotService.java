@@ -0,0 +1,363 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.config.ConfigManager;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Captures screenshots for the Allure report without filling the disk
+ * Decides which tests are captured (failure, sampled, always, off), crops failures to the stats table
+ * read last, skips frames identical to one already stored, downscales and re-encodes on the attachment
+ * writer threads and stops storing screenshots once the per-run budget is used up
+ */
+public class ScreenshotService {
+    private static volatile ScreenshotService instance;
+
+    // Table most recently read on each test thread; failure screenshots are cropped to it
+    private static final ThreadLocal<WebElement> FOCUS = new ThreadLocal<>();
+
+    private final Mode mode;
+    private final int sampleEvery;
+    private final Format format;
+    private final float quality;
+    private final int maxWidth;
+    private final boolean cropToTable;
+    private final long budgetBytes;
+    private final AttachmentPipeline pipeline;
+
+    // Content hash of every stored frame -> name it was first stored under
+    private final Map<String, String> storedFrames = new ConcurrentHashMap<>();
+
+    private final AtomicInteger passedTests = new AtomicInteger();
+    private final AtomicInteger stored = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger overBudget = new AtomicInteger();
+    private final AtomicLong originalBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    /**
+     * Constructor
+     * @param mode Which tests are captured
+     * @param sampleEvery In sampled mode, capture every Nth passing test
+     * @param format Stored image format
+     * @param quality JPEG quality between 0 and 1
+     * @param maxWidth Maximum stored width in pixels, or 0 to keep the captured size
+     * @param cropToTable Crop failure screenshots to the table read last
+     * @param budgetBytes Storage budget for the run, or 0 for unlimited
+     * @param pipeline Pipeline writing the attachments
+     */
+    ScreenshotService(Mode mode, int sampleEvery, Format format, float quality, int maxWidth,
+                      boolean cropToTable, long budgetBytes, AttachmentPipeline pipeline) {
+        this.mode = mode;
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.format = format;
+        this.quality = Math.max(0f, Math.min(1f, quality));
+        this.maxWidth = maxWidth;
+        this.cropToTable = cropToTable;
+        this.budgetBytes = budgetBytes;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Get the service configured by screenshot.* in config.properties
+     * @return Shared service
+     */
+    public static ScreenshotService getInstance() {
+        ScreenshotService service = instance;
+        if (service == null) {
+            synchronized (ScreenshotService.class) {
+                service = instance;
+                if (service == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    service = new ScreenshotService(config.getEnum("screenshot.mode", Mode.FAILURE), config.getScreenshotSampleEvery(),
+                            config.getEnum("screenshot.format", Format.JPEG), config.getScreenshotQuality(),
+                            config.getScreenshotMaxWidth(), config.isScreenshotCropToTable(),
+                            config.getScreenshotBudgetMb() * 1024L * 1024L, AttachmentPipeline.getInstance());
+                    instance = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Remember the table the current test is reading, so a failure screenshot can be cropped to it
+     * @param table Table element or a container holding it
+     */
+    public static void focusOn(WebElement table) {
+        FOCUS.set(table);
+    }
+
+    /**
+     * Forget the table remembered for the current test thread
+     */
+    public static void clearFocus() {
+        FOCUS.remove();
+    }
+
+    /**
+     * Check whether a test ending with the given outcome is captured in the configured mode
+     * @param failed true if the test failed
+     * @return true if a screenshot should be taken
+     */
+    public boolean shouldCapture(boolean failed) {
+        switch (mode) {
+            case ALWAYS:
+                return true;
+            case SAMPLED:
+                return failed || passedTests.incrementAndGet() % sampleEvery == 0;
+            case FAILURE:
+                return failed;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Capture the end of a test if the configured mode asks for it
+     * Failures are cropped to the table read last when it is still on the page
+     * @param name Attachment name
+     * @param driver Driver to capture
+     * @param failed true if the test failed
+     */
+    public void captureTestEnd(String name, WebDriver driver, boolean failed) {
+        if (!shouldCapture(failed)) {
+            return;
+        }
+        WebElement table = FOCUS.get();
+        if (failed && cropToTable && table != null) {
+            try {
+                if (table.isDisplayed()) {
+                    store(name + " (table)", table.getScreenshotAs(OutputType.BYTES));
+                    return;
+                }
+            } catch (WebDriverException e) {
+                // Table went stale or cannot be captured on its own; fall back to the viewport
+            }
+        }
+        capture(name, driver);
+    }
+
+    /**
+     * Capture the browser viewport
+     * @param name Attachment name
+     * @param driver Driver to capture
+     */
+    public void capture(String name, WebDriver driver) {
+        store(name, ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+    }
+
+    /**
+     * Capture a single element, e.g. the stats table a check failed on
+     * @param name Attachment name
+     * @param element Element to capture
+     */
+    public void capture(String name, WebElement element) {
+        store(name, element.getScreenshotAs(OutputType.BYTES));
+    }
+
+    /**
+     * Store a captured PNG frame unless an identical frame was stored or the budget is used up
+     * Downscaling and re-encoding run on the attachment writer threads
+     * @param name Attachment name
+     * @param png Captured PNG bytes
+     */
+    public void store(String name, byte[] png) {
+        originalBytes.addAndGet(png.length);
+
+        // Step 1: Identical frames (e.g. the same error page after every retry) are stored once
+        String first = storedFrames.putIfAbsent(sha256(png), name);
+        if (first != null) {
+            duplicates.incrementAndGet();
+            AttachmentPipeline.attachText(name, "Identical to screenshot '" + first + "', not stored again");
+            return;
+        }
+
+        // Step 2: Reserve the captured size against the budget here, so frames queued before the writers
+        // run cannot overshoot it; once the budget is used up, record that a screenshot was dropped
+        long reserved = png.length;
+        if (!reserve(reserved)) {
+            overBudget.incrementAndGet();
+            AttachmentPipeline.attachText(name, String.format(
+                    "Screenshot not stored: %dMB screenshot budget for this run is used up", budgetBytes / (1024 * 1024)));
+            return;
+        }
+
+        // Step 3: Downscale and re-encode off the test thread, then correct the reservation to the stored size
+        stored.incrementAndGet();
+        pipeline.submit(name, format.getMediaType(), format.getExtension(), () -> {
+            byte[] encoded;
+            try {
+                encoded = encode(png);
+            } catch (RuntimeException e) {
+                // The attachment is already registered; keep the captured frame rather than an empty file
+                System.err.println("Failed to encode screenshot '" + name + "', storing the captured PNG: "
+                        + e.getMessage());
+                encoded = png;
+            }
+            storedBytes.addAndGet(encoded.length - reserved);
+            return encoded;
+        });
+    }
+
+    /**
+     * Reserve storage for a frame unless the budget is already used up
+     * @param bytes Bytes to reserve
+     * @return true if the frame may be stored
+     */
+    private boolean reserve(long bytes) {
+        while (true) {
+            long current = storedBytes.get();
+            if (budgetBytes > 0 && current >= budgetBytes) {
+                return false;
+            }
+            if (storedBytes.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Downscale a PNG frame to the maximum width and re-encode it in the configured format
+     * @param png PNG bytes
+     * @return Encoded image bytes
+     */
+    byte[] encode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                return png;
+            }
+
+            // Step 1: Downscale, dropping the alpha channel JPEG cannot hold
+            int width = image.getWidth();
+            int height = image.getHeight();
+            if (maxWidth > 0 && width > maxWidth) {
+                height = Math.max(1, (int) Math.round((double) height * maxWidth / width));
+                width = maxWidth;
+            }
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+            graphics.dispose();
+
+            // Step 2: Encode with the configured quality
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(format.getFormatName()).next();
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+                writer.setOutput(stream);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (format == Format.JPEG) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(quality);
+                }
+                writer.write(null, new IIOImage(scaled, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode screenshot", e);
+        }
+    }
+
+    /**
+     * Get screenshot counts and disk space saved against storing every captured PNG as-is
+     * Call after AttachmentPipeline.flush() so every reservation is corrected to the stored size
+     * @return Report text, or null when nothing was captured
+     */
+    public String getReport() {
+        int captured = stored.get() + duplicates.get() + overBudget.get();
+        if (captured == 0) {
+            return null;
+        }
+        long original = originalBytes.get();
+        long written = storedBytes.get();
+        return String.format("Screenshot mode: %s (%s, quality %.2f, max width %s)%n"
+                        + "Screenshots captured: %d (%d stored, %d duplicates, %d over budget)%n"
+                        + "Captured PNG size: %dKB%n"
+                        + "Stored size: %dKB%n"
+                        + "Disk saved: %dKB (%.0f%%)",
+                mode.name().toLowerCase(), format.name().toLowerCase(), quality,
+                maxWidth > 0 ? maxWidth + "px" : "unchanged",
+                captured, stored.get(), duplicates.get(), overBudget.get(),
+                original / 1024, written / 1024, (original - written) / 1024,
+                original > 0 ? 100.0 * (original - written) / original : 0.0);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Which tests get a screenshot
+     */
+    public enum Mode {
+        OFF,
+        FAILURE,
+        SAMPLED,
+        ALWAYS
+    }
+
+    /**
+     * Stored image format
+     */
+    public enum Format {
+        JPEG("jpeg", "image/jpeg", ".jpg"),
+        PNG("png", "image/png", ".png");
+
+        private final String formatName;
+        private final String mediaType;
+        private final String extension;
+
+        Format(String formatName, String mediaType, String extension) {
+            this.formatName = formatName;
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String getFormatName() {
+            return formatName;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+}
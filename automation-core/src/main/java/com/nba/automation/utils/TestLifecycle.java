@@ -0,0 +1,150 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.performance.CommandTimings;
+import com.nba.automation.performance.SuiteTimeline;
+import com.nba.automation.proxy.RecordReplayProxy;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Session lifecycle shared by the base test classes of the test projects
+ * Checks out the thread's browser session per test, resets and reports per-test measurements (waits, command
+ * timings, network blocking, record/replay) and writes the suite reports, so pooling, parallel runs and
+ * instrumentation behave the same in every project
+ */
+public class TestLifecycle {
+
+    // Results older than this belong to previous runs and are left out of the timeline
+    private static volatile long suiteStartMillis;
+
+    private TestLifecycle() {
+    }
+
+    /**
+     * Start the suite's measurements empty; called from @BeforeSuite
+     */
+    public static void beginSuite() {
+        suiteStartMillis = System.currentTimeMillis();
+        CommandTimings.reset();
+    }
+
+    /**
+     * Initialize the current thread's WebDriver and reset per-test measurements; called from @BeforeMethod
+     * @param testName Test name such as TopPlayersTest.verifyFullLeaderboard, names the command timings and
+     *                 record/replay archive
+     */
+    public static void beginTest(String testName) {
+        DriverManager.initializeDriver();
+        WaitPolicy.resetStats();
+        ScreenshotService.clearFocus();
+        CommandTimings.beginTest(testName);
+
+        NetworkBlocker networkBlocker = DriverManager.getNetworkBlocker();
+        if (networkBlocker != null) {
+            networkBlocker.resetStats();
+        }
+
+        RecordReplayProxy proxy = DriverManager.getRecordReplayProxy();
+        if (proxy != null) {
+            proxy.beginTest(testName, DriverManager.getDriver());
+        }
+    }
+
+    /**
+     * Attach the test's reports and return its WebDriver to the session pool or close it; called from @AfterMethod
+     */
+    public static void endTest() {
+        // Report time spent waiting on elements that never appeared
+        String waitReport = WaitPolicy.getReport();
+        if (waitReport != null) {
+            AttachmentPipeline.attachText("Wait Report", waitReport);
+            System.out.println(waitReport);
+        }
+
+        // Rank the slowest WebDriver commands, locators and steps of this test
+        String timingReport = CommandTimings.endTest(ConfigManager.getInstance().getInstrumentationReportTop());
+        if (timingReport != null) {
+            AttachmentPipeline.attachText("Command Timings", timingReport);
+            System.out.println(timingReport);
+        }
+
+        // Report requests blocked by the DevTools blocklist
+        NetworkBlocker networkBlocker = DriverManager.getNetworkBlocker();
+        if (networkBlocker != null) {
+            String networkReport = networkBlocker.getReport();
+            AttachmentPipeline.attachText("Network Blocking", networkReport);
+            System.out.println(networkReport);
+        }
+
+        // Save the recorded traffic or report replay misses
+        RecordReplayProxy proxy = DriverManager.getRecordReplayProxy();
+        if (proxy != null) {
+            String proxyReport = proxy.endTest();
+            if (proxyReport != null) {
+                AttachmentPipeline.attachText("Record/Replay", proxyReport);
+                System.out.println(proxyReport);
+            }
+        }
+
+        // Close WebDriver
+        DriverManager.closeDriver();
+    }
+
+    /**
+     * Quit pooled browser sessions, wait for pending attachments and report pool metrics, command timings,
+     * the run's timeline and screenshot storage; called from @AfterSuite
+     */
+    public static void endSuite() {
+        String poolMetrics = DriverManager.shutdownPool();
+        if (poolMetrics != null) {
+            AttachmentPipeline.attachText("Driver Pool Metrics", poolMetrics);
+            System.out.println(poolMetrics);
+        }
+
+        // Attachments queued by the last tests must be on disk before the report is generated
+        String attachmentReport = AttachmentPipeline.getInstance().flush();
+        if (attachmentReport != null) {
+            AttachmentPipeline.attachText("Attachment Writer", attachmentReport);
+            System.out.println(attachmentReport);
+        }
+
+        // Suite command timings as JSON and Prometheus files, with the slowest locators and steps
+        ConfigManager config = ConfigManager.getInstance();
+        Path timingDir = Paths.get(config.getInstrumentationOutputDir());
+        try {
+            String timingReport = CommandTimings.writeSuiteFiles(timingDir, config.getInstrumentationReportTop());
+            if (timingReport != null) {
+                AttachmentPipeline.attachText("Suite Command Timings", timingReport);
+                AttachmentPipeline.attachText("Suite Command Timings (Prometheus)", "text/plain",
+                        CommandTimings.suite().toPrometheus(), "prom");
+                System.out.println(timingReport);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write command timings: " + e.getMessage());
+        }
+
+        // Where the run's time went per thread: critical path, idle time, predicted speedup, caching candidates
+        try {
+            Path resultsDir = Paths.get(PropertiesUtils.loadAllureProperties()
+                    .getProperty("allure.results.directory", "allure-results"));
+            SuiteTimeline timeline = SuiteTimeline.load(resultsDir, timingDir.resolve("command-timings.json"),
+                    suiteStartMillis);
+            int top = config.getInstrumentationReportTop();
+            timeline.writeHtml(timingDir.resolve("timeline.html"), top);
+            AttachmentPipeline.attachText("Suite Timeline", "text/html", timeline.toHtml(top), "html");
+            System.out.println(timeline.getReport(top));
+        } catch (IOException e) {
+            System.err.println("Failed to build suite timeline: " + e.getMessage());
+        }
+
+        String screenshotReport = ScreenshotService.getInstance().getReport();
+        if (screenshotReport != null) {
+            AttachmentPipeline.attachText("Screenshot Storage", screenshotReport);
+            System.out.println(screenshotReport);
+        }
+    }
+}
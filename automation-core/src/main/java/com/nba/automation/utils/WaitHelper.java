@@ -0,0 +1,331 @@
+package com.nba.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import com.nba.automation.config.ConfigManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WebDriver wait utility class
+ * Provides common wait operations for element interactions
+ * Waits run either by polling the driver or by an in-page MutationObserver (wait.engine in config.properties)
+ */
+public class WaitHelper {
+    private static ConfigManager config = ConfigManager.getInstance();
+
+    // Interval between probe lookups for optional elements
+    private static final long PROBE_INTERVAL_MILLIS = 100;
+
+    /**
+     * Strategy used to wait for elements
+     */
+    public enum WaitEngine {
+        // WebDriverWait polling every 500ms
+        POLLING,
+        // MutationObserver installed with executeAsyncScript, resolves on the DOM change that satisfies the wait
+        OBSERVER
+    }
+
+    // Resolves with the first visible match (or all matches) as soon as the DOM satisfies the locator
+    private static final String OBSERVER_WAIT_SCRIPT =
+            "var type = arguments[0], value = arguments[1], timeout = arguments[2], visibleOnly = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + "var isVisible = function (el) {"
+            + "  if (!el.getClientRects || el.getClientRects().length === 0) { return false; }"
+            + "  var style = window.getComputedStyle(el);"
+            + "  return style.visibility !== 'hidden' && style.display !== 'none' && parseFloat(style.opacity) > 0;"
+            + "};"
+            + "var find = function () {"
+            + "  var nodes = [];"
+            + "  if (type === 'xpath') {"
+            + "    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }"
+            + "  } else {"
+            + "    nodes = Array.prototype.slice.call(document.querySelectorAll(value));"
+            + "  }"
+            + "  if (!visibleOnly) { return nodes.length > 0 ? nodes : null; }"
+            + "  for (var j = 0; j < nodes.length; j++) { if (isVisible(nodes[j])) { return nodes[j]; } }"
+            + "  return null;"
+            + "};"
+            + "var initial = find();"
+            + "if (initial) { done(initial); return; }"
+            + "var finished = false, observer, timer;"
+            + "var finish = function (result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true; observer.disconnect(); clearTimeout(timer); done(result);"
+            + "};"
+            + "observer = new MutationObserver(function () { var match = find(); if (match) { finish(match); } });"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true});"
+            + "timer = setTimeout(function () { finish(null); }, timeout);";
+
+    /**
+     * Wait for element to be visible and return it
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return WebElement when visible
+     */
+    public static WebElement waitForElementToBeVisible(WebDriver driver, By locator) {
+        return waitForElementToBeVisible(driver, locator, config.getEnum("wait.engine", WaitEngine.POLLING));
+    }
+
+    /**
+     * Wait for element to be visible using a specific wait engine
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param engine Wait engine to use
+     * @return WebElement when visible
+     */
+    public static WebElement waitForElementToBeVisible(WebDriver driver, By locator, WaitEngine engine) {
+        long startTime = System.currentTimeMillis();
+        try {
+            Duration timeout = config.getExplicitWaitDuration();
+
+            if (engine == WaitEngine.OBSERVER) {
+                long deadline = System.currentTimeMillis() + timeout.toMillis();
+                Object result = observe(driver, locator, timeout, true);
+                if (result instanceof WebElement) {
+                    return (WebElement) result;
+                }
+                if (result != ObserverResult.UNAVAILABLE) {
+                    throw new TimeoutException("Expected condition failed: waiting for visibility of element located by "
+                            + locator + " (tried for " + timeout.getSeconds() + " second(s) with MutationObserver)");
+                }
+                // Fall back to polling for the remaining time
+                timeout = Duration.ofMillis(Math.max(0, deadline - System.currentTimeMillis()));
+            }
+
+            WebDriverWait wait = new WebDriverWait(driver, timeout);
+            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        } catch (TimeoutException e) {
+            WaitPolicy.recordMiss(locator, System.currentTimeMillis() - startTime);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for elements to be present and return them
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return List of WebElements when present
+     */
+    public static List<WebElement> waitForElementsToBePresent(WebDriver driver, By locator) {
+        return waitForElementsToBePresent(driver, locator, config.getEnum("wait.engine", WaitEngine.POLLING));
+    }
+
+    /**
+     * Wait for elements to be present using a specific wait engine
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param engine Wait engine to use
+     * @return List of WebElements when present
+     */
+    public static List<WebElement> waitForElementsToBePresent(WebDriver driver, By locator, WaitEngine engine) {
+        long startTime = System.currentTimeMillis();
+        try {
+            Duration timeout = config.getExplicitWaitDuration();
+
+            if (engine == WaitEngine.OBSERVER) {
+                long deadline = System.currentTimeMillis() + timeout.toMillis();
+                Object result = observe(driver, locator, timeout, false);
+                if (result instanceof List) {
+                    List<WebElement> elements = new ArrayList<>();
+                    for (Object element : (List<?>) result) {
+                        elements.add((WebElement) element);
+                    }
+                    return elements;
+                }
+                if (result != ObserverResult.UNAVAILABLE) {
+                    throw new TimeoutException("Expected condition failed: waiting for presence of any elements located by "
+                            + locator + " (tried for " + timeout.getSeconds() + " second(s) with MutationObserver)");
+                }
+                // Fall back to polling for the remaining time
+                timeout = Duration.ofMillis(Math.max(0, deadline - System.currentTimeMillis()));
+            }
+
+            WebDriverWait wait = new WebDriverWait(driver, timeout);
+            return wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        } catch (TimeoutException e) {
+            WaitPolicy.recordMiss(locator, System.currentTimeMillis() - startTime);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for element to be visible, answering false instead of throwing when it never appears
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return true if the element became visible within the explicit wait
+     */
+    public static boolean isElementVisible(WebDriver driver, By locator) {
+        try {
+            return waitForElementToBeVisible(driver, locator).isDisplayed();
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait for element to be visible and enabled, e.g. before clicking it
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return WebElement when clickable
+     */
+    public static WebElement waitForElementToBeClickable(WebDriver driver, By locator) {
+        long startTime = System.currentTimeMillis();
+        try {
+            WebDriverWait wait = new WebDriverWait(driver, config.getExplicitWaitDuration());
+            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        } catch (TimeoutException e) {
+            WaitPolicy.recordMiss(locator, System.currentTimeMillis() - startTime);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for a frame to be available and switch the driver to it
+     * @param driver WebDriver instance
+     * @param frameLocator Frame element locator
+     */
+    public static void waitForFrameAndSwitch(WebDriver driver, By frameLocator) {
+        long startTime = System.currentTimeMillis();
+        try {
+            WebDriverWait wait = new WebDriverWait(driver, config.getExplicitWaitDuration());
+            wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(frameLocator));
+        } catch (TimeoutException e) {
+            WaitPolicy.recordMiss(frameLocator, System.currentTimeMillis() - startTime);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for the current document to finish loading (document.readyState is complete)
+     * @param driver WebDriver instance
+     */
+    public static void waitForPageLoad(WebDriver driver) {
+        WebDriverWait wait = new WebDriverWait(driver, config.getExplicitWaitDuration());
+        wait.until(webDriver -> "complete".equals(
+                ((JavascriptExecutor) webDriver).executeScript("return document.readyState")));
+    }
+
+    /**
+     * Probe for an optional element within the configured probe budget
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @return Element if it appeared within the budget
+     */
+    public static Optional<WebElement> probe(WebDriver driver, By locator) {
+        return probe(driver, locator, WaitPolicy.getProbeBudget());
+    }
+
+    /**
+     * Probe for an optional element, returning within a bounded budget
+     * Never throws when the element is absent; time spent on a miss is recorded by WaitPolicy
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param budget Maximum time to look for the element
+     * @return Element if it appeared within the budget
+     */
+    public static Optional<WebElement> probe(WebDriver driver, By locator, Duration budget) {
+        long startTime = System.currentTimeMillis();
+        boolean implicitWaitEnabled = WaitPolicy.getMode() != WaitPolicy.Mode.EXPLICIT;
+
+        try {
+            // A stacked implicit wait would stretch every findElements call past the budget
+            if (implicitWaitEnabled) {
+                driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            }
+
+            while (true) {
+                List<WebElement> elements = driver.findElements(locator);
+                if (!elements.isEmpty()) {
+                    return Optional.of(elements.get(0));
+                }
+                if (System.currentTimeMillis() - startTime >= budget.toMillis()) {
+                    break;
+                }
+                Thread.sleep(PROBE_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (implicitWaitEnabled) {
+                driver.manage().timeouts().implicitlyWait(WaitPolicy.getImplicitWait());
+            }
+        }
+
+        WaitPolicy.recordMiss(locator, System.currentTimeMillis() - startTime);
+        return Optional.empty();
+    }
+
+    /**
+     * Marker returned when the observer cannot run and the caller should poll instead
+     */
+    private enum ObserverResult { UNAVAILABLE }
+
+    /**
+     * Wait in the page with a MutationObserver
+     * @param driver WebDriver instance
+     * @param locator Element locator
+     * @param timeout Maximum wait
+     * @param visibleOnly true to resolve on the first visible match, false on any matches
+     * @return Matched element(s), null on timeout, or UNAVAILABLE if async scripts cannot run
+     */
+    private static Object observe(WebDriver driver, By locator, Duration timeout, boolean visibleOnly) {
+        String[] jsLocator = toJsLocator(locator);
+        if (jsLocator == null || !(driver instanceof JavascriptExecutor)) {
+            return ObserverResult.UNAVAILABLE;
+        }
+
+        try {
+            return ((JavascriptExecutor) driver).executeAsyncScript(OBSERVER_WAIT_SCRIPT,
+                    jsLocator[0], jsLocator[1], timeout.toMillis(), visibleOnly);
+        } catch (WebDriverException e) {
+            // Blocked async scripts, navigation during the wait or a script timeout
+            System.out.println("MutationObserver wait unavailable, falling back to polling: "
+                    + e.getClass().getSimpleName());
+            return ObserverResult.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Translate a Selenium locator to a CSS selector or XPath the page (or an HTML snapshot) can evaluate
+     * @param locator Element locator
+     * @return {"css"|"xpath", expression}, or null for locators that cannot be translated
+     */
+    public static String[] toJsLocator(By locator) {
+        String description = locator.toString();
+        int separator = description.indexOf(": ");
+        if (separator < 0) {
+            return null;
+        }
+        String type = description.substring(0, separator);
+        String value = description.substring(separator + 2);
+
+        switch (type) {
+            case "By.cssSelector":
+                return new String[] {"css", value};
+            case "By.xpath":
+                return new String[] {"xpath", value};
+            case "By.id":
+                return new String[] {"css", "[id=\"" + value.replace("\"", "\\\"") + "\"]"};
+            case "By.name":
+                return new String[] {"css", "[name=\"" + value.replace("\"", "\\\"") + "\"]"};
+            case "By.className":
+                return new String[] {"css", "." + value};
+            case "By.tagName":
+                return new String[] {"css", value};
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.config.ConfigManager;
+import org.openqa.selenium.By;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Wait policy for browser sessions
+ * EXPLICIT mode (default) disables the implicit wait so explicit waits and probes are not stacked on top of it;
+ * LEGACY mode keeps the implicit wait from config.properties
+ * Also tracks, per test thread, how long was spent waiting for elements that never appeared
+ */
+public class WaitPolicy {
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    // Synchronized because worker threads of a test (see inheritContext) record into the test's list
+    private static final ThreadLocal<List<MissedWait>> missedWaits =
+            ThreadLocal.withInitial(() -> Collections.synchronizedList(new ArrayList<>()));
+
+    /**
+     * Supported wait policy modes
+     */
+    public enum Mode {
+        EXPLICIT,
+        LEGACY
+    }
+
+    /**
+     * Get the configured policy mode
+     * @return Wait policy mode
+     */
+    public static Mode getMode() {
+        return config.getEnum("wait.policy", Mode.EXPLICIT);
+    }
+
+    /**
+     * Get implicit wait to apply to new sessions
+     * @return Zero in explicit mode, the configured implicit wait in legacy mode
+     */
+    public static Duration getImplicitWait() {
+        return getMode() == Mode.EXPLICIT ? Duration.ZERO : Duration.ofSeconds(config.getImplicitWait());
+    }
+
+    /**
+     * Get time budget for probing optional elements
+     * @return Probe budget
+     */
+    public static Duration getProbeBudget() {
+        return Duration.ofMillis(config.getWaitProbeBudgetMillis());
+    }
+
+    /**
+     * Record time spent waiting for an element that never appeared
+     * @param locator Element locator
+     * @param waitedMillis Time spent waiting
+     */
+    public static void recordMiss(By locator, long waitedMillis) {
+        missedWaits.get().add(new MissedWait(locator.toString(), waitedMillis));
+    }
+
+    /**
+     * Wrap a task so that waits it misses on another thread are reported with the calling test
+     * @param task Task to run on a worker thread
+     * @return Task recording into the calling thread's wait statistics
+     */
+    public static Runnable inheritContext(Runnable task) {
+        List<MissedWait> testMisses = missedWaits.get();
+        return () -> {
+            List<MissedWait> workerMisses = missedWaits.get();
+            missedWaits.set(testMisses);
+            try {
+                task.run();
+            } finally {
+                missedWaits.set(workerMisses);
+            }
+        };
+    }
+
+    /**
+     * Clear wait statistics of the current thread, called at test start
+     */
+    public static void resetStats() {
+        missedWaits.get().clear();
+    }
+
+    /**
+     * Get total time the current test spent waiting for elements that never appeared
+     * @return Wasted wait time in milliseconds
+     */
+    public static long getWastedWaitMillis() {
+        List<MissedWait> misses = missedWaits.get();
+        synchronized (misses) {
+            return misses.stream().mapToLong(MissedWait::getWaitedMillis).sum();
+        }
+    }
+
+    /**
+     * Format the current test's missed waits for the Allure report
+     * @return Wait report, or null if no wait missed
+     */
+    public static String getReport() {
+        List<MissedWait> misses = missedWaits.get();
+        synchronized (misses) {
+            if (misses.isEmpty()) {
+                return null;
+            }
+            StringBuilder report = new StringBuilder(String.format("Wait policy: %s\nMissed waits: %d\nTime wasted: %dms\n",
+                    getMode(), misses.size(), getWastedWaitMillis()));
+            for (MissedWait miss : misses) {
+                report.append(String.format("  %dms  %s\n", miss.getWaitedMillis(), miss.getLocator()));
+            }
+            return report.toString();
+        }
+    }
+
+    /**
+     * Wait on an element that never appeared
+     */
+    private static class MissedWait {
+        private final String locator;
+        private final long waitedMillis;
+
+        MissedWait(String locator, long waitedMillis) {
+            this.locator = locator;
+            this.waitedMillis = waitedMillis;
+        }
+
+        String getLocator() { return locator; }
+
+        long getWaitedMillis() { return waitedMillis; }
+    }
+}
@@ -0,0 +1,163 @@
+package com.nba.automation.config;
+
+import com.nba.automation.proxy.RecordReplayProxy;
+import com.nba.automation.utils.BrowserProfile;
+import com.nba.automation.utils.WaitHelper;
+import io.qameta.allure.*;
+import org.openqa.selenium.Dimension;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layered, typed configuration snapshots and the file watcher used for hot reload
+ * Runs without a browser: mvn test -Dtest=ConfigSnapshotTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Configuration")
+public class ConfigSnapshotTest {
+
+    /**
+     * Test that system properties beat environment variables, which beat suite overrides, which beat the file
+     */
+    @Test(description = "Layers resolve in precedence order")
+    @Story("Layered Configuration")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyLayerPrecedence() {
+        Properties file = new Properties();
+        file.setProperty("explicit.wait", "30");
+        file.setProperty("implicit.wait", "10");
+        file.setProperty("browser", "chrome");
+        file.setProperty("headless", "false");
+        file.setProperty("config.env.prefix", "NBA_");
+
+        Properties system = new Properties();
+        system.setProperty("explicit.wait", "60");
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(file,
+                Map.of("explicit.wait", "40", "implicit.wait", "5", "browser", "firefox"),
+                Map.of("NBA_EXPLICIT_WAIT", "50", "NBA_IMPLICIT_WAIT", "7"),
+                system);
+
+        Assert.assertEquals(snapshot.getExplicitWait(), 60);
+        Assert.assertEquals(snapshot.getExplicitWaitDuration(), Duration.ofSeconds(60));
+        Assert.assertEquals(snapshot.getImplicitWait(), 7);
+        Assert.assertEquals(snapshot.getBrowser(), "firefox");
+        Assert.assertFalse(snapshot.isHeadless());
+        Assert.assertEquals(snapshot.getEnvironmentVariable("session.pool.size"), "NBA_SESSION_POOL_SIZE");
+
+        // Another project's prefix ignores these variables
+        Properties otherSystem = new Properties();
+        otherSystem.setProperty("config.env.prefix", "QA_");
+        ConfigSnapshot otherProject = new ConfigSnapshot(file, Collections.emptyMap(),
+                Map.of("NBA_EXPLICIT_WAIT", "50", "QA_EXPLICIT_WAIT", "20"), otherSystem);
+        Assert.assertEquals(otherProject.getExplicitWait(), 20);
+    }
+
+    /**
+     * Test that values are parsed into typed settings with defaults for missing keys
+     */
+    @Test(description = "Settings are parsed once into typed values")
+    @Story("Layered Configuration")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyTypedSettings() {
+        Properties file = new Properties();
+        file.setProperty("wait.engine", " observer ");
+        file.setProperty("network.block.patterns", "*ads*, ,*.mp4*");
+        file.setProperty("performance.threshold", "4000");
+        file.setProperty("performance.threshold.p90", "4500");
+        file.setProperty("base.url", "https://stats.nba.com");
+        file.setProperty("browser.profile", "Throughput");
+        file.setProperty("browser.viewport", "1366X768");
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(file, Collections.emptyMap(), Collections.emptyMap(), new Properties());
+
+        Assert.assertEquals(snapshot.getEnum("wait.engine", WaitHelper.WaitEngine.POLLING), WaitHelper.WaitEngine.OBSERVER);
+        Assert.assertEquals(snapshot.getNetworkBlockPatterns(), List.of("*ads*", "*.mp4*"));
+        Assert.assertEquals(snapshot.getPercentileThreshold("p90"), 4500);
+        Assert.assertEquals(snapshot.getPercentileThreshold("p99"), 4000);
+        Assert.assertEquals(snapshot.getSessionPoolSize(), 4);
+        Assert.assertEquals(snapshot.getEnum("browser.profile", BrowserProfile.Mode.STANDARD), BrowserProfile.Mode.THROUGHPUT);
+        Assert.assertEquals(snapshot.getEnum("proxy.mode", RecordReplayProxy.Mode.OFF), RecordReplayProxy.Mode.OFF);
+        Assert.assertEquals(snapshot.getBrowserViewport(), new Dimension(1366, 768));
+        Assert.assertEquals(snapshot.getBrowserProfileWarmupUrls(), List.of("https://stats.nba.com"));
+    }
+
+    /**
+     * Test that a declared enum setting with an unknown value fails the snapshot, so reload keeps the old one
+     */
+    @Test(description = "Invalid enum settings are rejected when the snapshot is built")
+    @Story("Layered Configuration")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyInvalidEnumRejected() {
+        Properties file = new Properties();
+        file.setProperty("wait.engine", "observr");
+
+        IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class, () ->
+                new ConfigSnapshot(file, Collections.emptyMap(), Collections.emptyMap(), new Properties()));
+        Assert.assertTrue(error.getMessage().startsWith("wait.engine must be one of"), error.getMessage());
+    }
+
+    /**
+     * Test that declared integer, long and boolean settings are parsed with their declared defaults
+     * and that a bad value or an undeclared key is rejected
+     */
+    @Test(description = "Declared typed settings are parsed and validated when the snapshot is built")
+    @Story("Layered Configuration")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyDeclaredTypedSettings() {
+        Properties file = new Properties();
+        file.setProperty("sample.count", " 5 ");
+        file.setProperty("sample.enabled", "FALSE");
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(file, Collections.emptyMap(), Collections.emptyMap(), new Properties());
+        Assert.assertEquals(snapshot.getInt("sample.count"), 5);
+        Assert.assertEquals(snapshot.getLong("sample.ttl.seconds"), 900L);
+        Assert.assertFalse(snapshot.getBoolean("sample.enabled"));
+        Assert.expectThrows(IllegalArgumentException.class, () -> snapshot.getLong("sample.count"));
+        Assert.expectThrows(IllegalArgumentException.class, () -> snapshot.getInt("undeclared.count"));
+
+        Properties badNumber = new Properties();
+        badNumber.setProperty("sample.ttl.seconds", "15m");
+        IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class, () ->
+                new ConfigSnapshot(badNumber, Collections.emptyMap(), Collections.emptyMap(), new Properties()));
+        Assert.assertTrue(error.getMessage().startsWith("sample.ttl.seconds must be a whole number"), error.getMessage());
+
+        Properties badBoolean = new Properties();
+        badBoolean.setProperty("sample.enabled", "yes");
+        error = Assert.expectThrows(IllegalArgumentException.class, () ->
+                new ConfigSnapshot(badBoolean, Collections.emptyMap(), Collections.emptyMap(), new Properties()));
+        Assert.assertTrue(error.getMessage().startsWith("sample.enabled must be true or false"), error.getMessage());
+    }
+
+    /**
+     * Test that the watcher reports a change to the watched file and ignores other files
+     */
+    @Test(description = "File watcher fires when the config file changes")
+    @Story("Hot Reload")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyWatcherFiresOnChange() throws Exception {
+        Path dir = Files.createTempDirectory("config-watch");
+        Path configFile = dir.resolve("config.properties");
+        Files.write(configFile, "explicit.wait=30\n".getBytes(StandardCharsets.UTF_8));
+
+        CountDownLatch reloaded = new CountDownLatch(1);
+        try (ConfigFileWatcher watcher = new ConfigFileWatcher(configFile, reloaded::countDown)) {
+            Files.write(dir.resolve("other.properties"), "a=b\n".getBytes(StandardCharsets.UTF_8));
+            Assert.assertFalse(reloaded.await(1, TimeUnit.SECONDS), "Unrelated file should not trigger a reload");
+
+            Files.write(configFile, "explicit.wait=45\n".getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(reloaded.await(10, TimeUnit.SECONDS), "Change to the config file was not reported");
+        }
+    }
+}
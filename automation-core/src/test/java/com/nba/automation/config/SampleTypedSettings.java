@@ -0,0 +1,19 @@
+package com.nba.automation.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Typed settings declared only on the test classpath, for ConfigSnapshotTest
+ */
+public class SampleTypedSettings implements TypedSettings {
+
+    @Override
+    public Map<String, Object> getDefaults() {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("sample.count", 3);
+        defaults.put("sample.ttl.seconds", 900L);
+        defaults.put("sample.enabled", true);
+        return defaults;
+    }
+}
@@ -0,0 +1,140 @@
+package com.nba.automation.performance;
+
+import io.qameta.allure.*;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.StepResult;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command timing and step attribution against an in-memory WebDriver
+ * Runs without a browser: mvn test -Dtest=CommandTimingsTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Command Timing")
+public class CommandTimingsTest {
+
+    /**
+     * Test that commands are recorded by type, by the locator that found the element and by the open step
+     */
+    @Test(description = "Commands are attributed to their locator and step")
+    @Story("Command Attribution")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyCommandAttribution() {
+        CommandTimings.reset();
+        CommandTimings.beginTest("CommandTimingsTest.verifyCommandAttribution");
+        WebDriver driver = new EventFiringDecorator<>(new CommandTimer()).decorate(fakeDriver());
+        StepTracker steps = new StepTracker();
+
+        // Step 1: Commands inside a parameterized step
+        StepResult step = new StepResult().setName("Get player page URL for: LeBron James")
+                .setParameters(List.of(new Parameter().setName("playerName").setValue("LeBron James")));
+        steps.beforeStepStart(step);
+        WebElement table = driver.findElement(By.id("stats"));
+        table.getText();
+        Assert.assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+        steps.afterStepStop(step);
+
+        // Step 2: A command outside any step
+        ((JavascriptExecutor) driver).executeScript("return document.readyState;");
+
+        CommandTimings timings = CommandTimings.currentTest();
+        Assert.assertEquals(timings.getCommand("WebDriver.findElement").getTotalCount(), 1);
+        Assert.assertEquals(timings.getCommand("WebDriver.findElement [error]").getTotalCount(), 1);
+        Assert.assertEquals(timings.getCommand("WebElement.getText").getTotalCount(), 1);
+        Assert.assertEquals(timings.getLocator("By.id: stats").getTotalCount(), 2);
+        Assert.assertEquals(timings.getLocator("script: return document.readyState;").getTotalCount(), 1);
+
+        String stepKey = "Get player page URL for: {playerName}";
+        Assert.assertEquals(timings.getStep(stepKey).getTotalCount(), 1);
+        Assert.assertEquals(timings.getStepCommands(stepKey).getTotalCount(), 3);
+        Assert.assertEquals(timings.getStepCommands(CommandTimings.NO_STEP).getTotalCount(), 1);
+
+        String report = CommandTimings.endTest(5);
+        Assert.assertTrue(report.startsWith("WebDriver commands: 4 taking"), report);
+        Assert.assertTrue(report.contains("Slowest locators:"), report);
+        Assert.assertNull(CommandTimings.currentTest());
+    }
+
+    /**
+     * Test that suite timings export as JSON with per-test summaries and as cumulative Prometheus histograms
+     */
+    @Test(description = "Suite timings export as JSON and Prometheus text")
+    @Story("Timing Export")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifySuiteExport() throws Exception {
+        CommandTimings.reset();
+        CommandTimings.beginTest("PerformanceTest.verifyPlayerPageLoadTime");
+        CommandTimings.recordCommand("Navigation.to", "https://www.nba.com/stats/leaders", null, 1_200_000);
+        CommandTimings.recordCommand("WebElement.click", "By.id: \"quoted\"", "Navigate to leaders page", 3_000);
+        CommandTimings.recordCommand("WebElement.click", "By.id: \"quoted\"", "Navigate to leaders page", 40_000);
+        CommandTimings.recordStep("Navigate to leaders page", 1_300_000);
+        CommandTimings.endTest(5);
+
+        Path outputDir = Files.createTempDirectory("command-timings");
+        String report = CommandTimings.writeSuiteFiles(outputDir, 5);
+        Assert.assertTrue(report.contains("https://www.nba.com/stats/leaders"), report);
+
+        String json = new String(Files.readAllBytes(outputDir.resolve("command-timings.json")), StandardCharsets.UTF_8);
+        Assert.assertTrue(json.contains("\"PerformanceTest.verifyPlayerPageLoadTime\""), json);
+        Assert.assertTrue(json.contains("\"slowestSteps\""), json);
+
+        // Buckets are cumulative: 3ms falls in le=0.005, 40ms joins it by le=0.05
+        String prometheus = new String(Files.readAllBytes(outputDir.resolve("command-timings.prom")), StandardCharsets.UTF_8);
+        Assert.assertTrue(prometheus.contains("# TYPE webdriver_command_duration_seconds histogram"), prometheus);
+        Assert.assertTrue(prometheus.contains(
+                "webdriver_command_duration_seconds_bucket{command=\"WebElement.click\",le=\"0.005\"} 1"), prometheus);
+        Assert.assertTrue(prometheus.contains(
+                "webdriver_command_duration_seconds_bucket{command=\"WebElement.click\",le=\"0.05\"} 2"), prometheus);
+        Assert.assertTrue(prometheus.contains(
+                "webdriver_locator_duration_seconds_count{locator=\"By.id: \\\"quoted\\\"\"} 2"), prometheus);
+        Assert.assertTrue(prometheus.contains("allure_step_duration_seconds_count{step=\"Navigate to leaders page\"} 1"),
+                prometheus);
+    }
+
+    private static WebDriver fakeDriver() {
+        WebElement element = (WebElement) Proxy.newProxyInstance(CommandTimingsTest.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getText":
+                            return "Team Stats";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+        return (WebDriver) Proxy.newProxyInstance(CommandTimingsTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findElement":
+                            if (args[0].toString().contains("missing")) {
+                                throw new NoSuchElementException("No element " + args[0]);
+                            }
+                            return element;
+                        case "executeScript":
+                            return "complete";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,90 @@
+package com.nba.automation.performance;
+
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Timeline, critical path and speedup estimates built from synthetic allure-results
+ * Runs without a browser: mvn test -Dtest=SuiteTimelineTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Suite Timeline")
+public class SuiteTimelineTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    /**
+     * Test idle time, critical path, predicted speedup and caching candidates of a two-thread run
+     */
+    @Test(description = "Timeline analysis of a two-thread run")
+    @Story("Critical Path")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyTimelineAnalysis() throws Exception {
+        // Step 1: Thread 1 runs a setup and two tests loading the same page, thread 2 one test
+        Path resultsDir = Files.createTempDirectory("allure-results");
+        writeResult(resultsDir, "t1", "verifyTop3PlayersStatsConsistency", "main(1)", 1000, 5000,
+                step("Navigate to leaders page", 1000, 3000));
+        writeResult(resultsDir, "t2", "verifyPlayerPageLoadTime", "main(1)", 6000, 8000,
+                step("Navigate to leaders page", 6000, 7500));
+        writeResult(resultsDir, "t3", "verifyFullLeaderboard", "main(2)", 0, 3000);
+        Files.write(resultsDir.resolve("c1-container.json"), ("{\"uuid\":\"c1\",\"children\":[\"t1\"],"
+                + "\"befores\":[{\"name\":\"setUp\",\"status\":\"passed\",\"start\":" + T0 + ",\"stop\":" + (T0 + 1000)
+                + "}]}").getBytes(StandardCharsets.UTF_8));
+        // A result left over from an earlier run
+        writeResult(resultsDir, "old", "verifyTeamWins", "main(1)", -100_000, -90_000);
+
+        Path commandTimings = resultsDir.resolve("command-timings.json.txt");
+        Files.write(commandTimings, ("{\"tests\":{\"TopPlayersTest.verifyTop3PlayersStatsConsistency\":"
+                + "{\"stepCommands\":{\"Navigate to leaders page\":{\"totalMs\":1500.0}}}}}").getBytes(StandardCharsets.UTF_8));
+
+        SuiteTimeline timeline = SuiteTimeline.load(resultsDir, commandTimings, T0);
+
+        // Step 2: Wall, work and idle time
+        Assert.assertEquals(timeline.getWallMillis(), 8000);
+        Assert.assertEquals(timeline.getWorkMillis(), 10_000);
+        Assert.assertEquals(timeline.getIdleMillisByWorker().get("main(1)").longValue(), 1000);
+        Assert.assertEquals(timeline.getIdleMillisByWorker().get("main(2)").longValue(), 5000);
+
+        // Step 3: Thread 1 finishes last, so its setup and tests are the critical path
+        List<String> criticalPath = timeline.getCriticalPath().stream()
+                .map(SuiteTimeline.Span::getName).collect(Collectors.toList());
+        Assert.assertEquals(criticalPath, List.of("setUp", "verifyTop3PlayersStatsConsistency", "verifyPlayerPageLoadTime"));
+
+        // Step 4: The first test with its setup (5s) bounds the speedup at 10s / 5s
+        Assert.assertEquals(timeline.getIdealSpeedup(), 2.0, 0.001);
+        Assert.assertEquals(timeline.predictWallMillis(1), 10_000);
+        Assert.assertEquals(timeline.predictWallMillis(2), 5000);
+        Assert.assertEquals(timeline.predictWallMillis(8), 5000);
+
+        // Step 5: Loading the leaders page once would save the 1.5s of its shorter run
+        Assert.assertEquals(timeline.getRepeatedSteps().get("Navigate to leaders page").size(), 2);
+        String report = timeline.getReport(5);
+        Assert.assertTrue(report.contains("2.0s saved if run once, 2 run(s)  Navigate to leaders page"), report);
+        Assert.assertTrue(report.contains("(WebDriver commands 1.5s)"), report);
+
+        String html = timeline.toHtml(5);
+        Assert.assertTrue(html.contains("<svg") && html.contains("verifyFullLeaderboard"), "Timeline HTML");
+    }
+
+    private static String step(String name, long start, long stop) {
+        return "{\"name\":\"" + name + "\",\"status\":\"passed\",\"start\":" + (T0 + start) + ",\"stop\":" + (T0 + stop) + "}";
+    }
+
+    private static void writeResult(Path dir, String uuid, String method, String thread, long start, long stop,
+                                    String... steps) throws Exception {
+        String json = "{\"uuid\":\"" + uuid + "\",\"name\":\"" + method + "\",\"status\":\"passed\","
+                + "\"start\":" + (T0 + start) + ",\"stop\":" + (T0 + stop) + ","
+                + "\"labels\":[{\"name\":\"thread\",\"value\":\"" + thread + "\"},"
+                + "{\"name\":\"testClass\",\"value\":\"com.nba.automation.tests.TopPlayersTest\"},"
+                + "{\"name\":\"testMethod\",\"value\":\"" + method + "\"}],"
+                + "\"steps\":[" + String.join(",", steps) + "]}";
+        Files.write(dir.resolve(uuid + "-result.json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,160 @@
+package com.nba.automation.performance;
+
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trend store history and Mann-Whitney regression detection on synthetic timings
+ * Runs without a browser: mvn test -Dtest=TrendStoreTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Performance Trends")
+public class TrendStoreTest {
+
+    private static final String TEST = "PerformanceTest.verifyPlayerPageLoadPercentiles";
+
+    /**
+     * Test that a shifted run is flagged while a stable run or a short history is not
+     */
+    @Test(description = "Regression detection against earlier runs")
+    @Story("Regression Detection")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyRegressionDetection() {
+        RegressionDetector detector = new RegressionDetector(50, 5, 0.01, 10);
+
+        // Step 1: A run around 1000ms with run-to-run noise stays unflagged
+        RegressionDetector.Result stableResult = detector.detect("statsTableVisible",
+                noisySeries(50, 1000), noisySeries(10, 1000));
+        Assert.assertTrue(stableResult.isTested(), "Stable series should be tested");
+        Assert.assertFalse(stableResult.isRegression(), "Stable series: " + stableResult);
+
+        // Step 2: A run 30% slower is flagged with a small p-value
+        RegressionDetector.Result shiftedResult = detector.detect("statsTableVisible",
+                noisySeries(50, 1000), noisySeries(10, 1300));
+        Assert.assertTrue(shiftedResult.isRegression(), "Shifted series: " + shiftedResult);
+        Assert.assertTrue(shiftedResult.getPValue() < 0.001, "p-value: " + shiftedResult.getPValue());
+        Assert.assertTrue(shiftedResult.toString().startsWith("REGRESSION statsTableVisible"), shiftedResult.toString());
+
+        // Step 3: A significant but small slowdown stays below the minimum change
+        Assert.assertFalse(detector.detect("statsTableVisible", noisySeries(50, 1000), noisySeries(10, 1050))
+                .isRegression(), "5% slowdown");
+
+        // Step 4: Only the latest baseline window of earlier runs is used
+        List<Double> earlier = noisySeries(30, 2000);
+        earlier.addAll(noisySeries(50, 1000));
+        RegressionDetector.Result windowResult = detector.detect("statsTableVisible", earlier, noisySeries(10, 1300));
+        Assert.assertEquals(windowResult.getBaselineCount(), 50);
+        Assert.assertTrue(windowResult.isRegression(), "Older samples outside the window: " + windowResult);
+
+        // Step 5: Too little history is left untested
+        RegressionDetector.Result shortResult = detector.detect("statsTableVisible", noisySeries(2, 1000), noisySeries(10, 1000));
+        Assert.assertFalse(shortResult.isTested(), "Two baseline samples should not be tested");
+        Assert.assertFalse(shortResult.isRegression());
+
+        // Step 6: Identical samples have no spread and cannot be significant
+        Assert.assertEquals(RegressionDetector.mannWhitneyGreaterPValue(List.of(5.0, 5.0, 5.0), List.of(5.0, 5.0, 5.0)), 1.0);
+        Assert.assertEquals(RegressionDetector.normalCdf(1.96), 0.975, 0.0001);
+    }
+
+    /**
+     * Test that samples of earlier runs form the baseline of the samples recorded in this run
+     */
+    @Test(description = "Trend store history across runs")
+    @Story("Trend Store")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyTrendStoreAcrossRuns() throws Exception {
+        Path file = Files.createTempDirectory("trends").resolve("history/timings.tsv");
+        RegressionDetector detector = new RegressionDetector(50, 5, 0.01, 10);
+
+        // Step 1: Two earlier runs at ~1000ms on alternating pages, negative (unreported) values skipped
+        List<Double> earlier = noisySeries(30, 1000);
+        for (int run = 0; run < 2; run++) {
+            TrendStore store = new TrendStore(file, "run-" + run, "abc123" + run, detector);
+            for (int i = 0; i < 15; i++) {
+                store.record(TEST, "/stats/player/" + (i % 3), Map.of("statsTableVisible", earlier.get(run * 15 + i)));
+            }
+            store.record(TEST, "/stats/player/0", Map.of("firstContentfulPaint", -1L));
+        }
+        Assert.assertTrue(Files.readAllLines(file).get(0).startsWith("# time"), "Header line");
+        Assert.assertEquals(Files.readAllLines(file).size(), 31);
+
+        // Step 2: This run is 40% slower with more samples than a fixed recent window would hold, so none of
+        // them may leak into the baseline; another test's samples do not mix in
+        TrendStore current = new TrendStore(file, "run-2", "def456", detector);
+        current.record("PerformanceTest.verifyPlayerPageStatsLoadingPerformance", "/stats/player/0",
+                Map.of("statsTableVisible", 100));
+        for (double value : noisySeries(20, 1400)) {
+            current.record(TEST, "/stats/player/1", Map.of("statsTableVisible", value));
+        }
+
+        List<RegressionDetector.Result> results = current.check(TEST);
+        Assert.assertEquals(results.size(), 1, "Only metrics recorded in this run are checked");
+        Assert.assertEquals(results.get(0).getSeries(), "statsTableVisible");
+        Assert.assertEquals(results.get(0).getBaselineCount(), 30);
+        Assert.assertEquals(results.get(0).getRecentCount(), 20);
+        Assert.assertTrue(results.get(0).isRegression(), results.get(0).toString());
+
+        String report = current.formatReport(TEST, results);
+        Assert.assertTrue(report.contains("commit def456, run run-2"), report);
+        Assert.assertTrue(report.contains("REGRESSION statsTableVisible"), report);
+
+        // Step 3: A run that recorded nothing for the test has nothing to check
+        Assert.assertTrue(new TrendStore(file, "run-3", "def456", detector).check(TEST).isEmpty());
+    }
+
+    /**
+     * Test that a test recording one sample per run is checked on its per-run medians
+     */
+    @Test(description = "Single-shot tests are checked across runs")
+    @Story("Trend Store")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifySingleShotRunMedians() throws Exception {
+        Path file = Files.createTempDirectory("trends").resolve("timings.tsv");
+        RegressionDetector detector = new RegressionDetector(50, 5, 0.01, 10);
+        String test = "PerformanceTest.verifyPlayerPageStatsLoadingPerformance";
+
+        // Step 1: Twenty runs around 1000ms, one sample each
+        List<Double> history = noisySeries(20, 1000);
+        for (int run = 0; run < 20; run++) {
+            new TrendStore(file, String.format("run-%02d", run), "abc123", detector)
+                    .record(test, "/stats/player/0", Map.of("statsTableVisible", history.get(run)));
+        }
+
+        // Step 2: One slow run alone is not a regression, but it is tested
+        TrendStore firstSlow = new TrendStore(file, "run-20", "def456", detector);
+        firstSlow.record(test, "/stats/player/0", Map.of("statsTableVisible", 1400));
+        RegressionDetector.Result single = firstSlow.check(test).get(0);
+        Assert.assertEquals(single.getSeries(), "statsTableVisible (run medians)");
+        Assert.assertTrue(single.isTested(), single.toString());
+        Assert.assertFalse(single.isRegression(), single.toString());
+
+        // Step 3: Five slow runs in a row are flagged against the runs before them
+        TrendStore current = null;
+        for (int run = 21; run < 25; run++) {
+            current = new TrendStore(file, "run-" + run, "def456", detector);
+            current.record(test, "/stats/player/0", Map.of("statsTableVisible", 1400 + run));
+        }
+        RegressionDetector.Result sustained = current.check(test).get(0);
+        Assert.assertEquals(sustained.getRecentCount(), 5);
+        Assert.assertEquals(sustained.getBaselineCount(), 20);
+        Assert.assertTrue(sustained.isRegression(), sustained.toString());
+    }
+
+    /**
+     * Deterministic series spread +/-5% around a median, in a shuffled order
+     */
+    private static List<Double> noisySeries(int count, double median) {
+        List<Double> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(median * (1 + ((i * 7) % 11 - 5) / 100.0));
+        }
+        return values;
+    }
+}
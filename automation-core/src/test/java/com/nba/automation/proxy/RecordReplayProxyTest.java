@@ -0,0 +1,168 @@
+package com.nba.automation.proxy;
+
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Record/replay round trip against a local stub server, no browser or network required
+ * Run with: mvn test -Dtest=RecordReplayProxyTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Record/Replay Proxy")
+public class RecordReplayProxyTest {
+
+    private HttpServer server;
+    private Path archiveDir;
+    private final AtomicInteger serverHits = new AtomicInteger();
+
+    /**
+     * Start a stub site serving a numbered response per request
+     * @throws IOException if the server cannot be started
+     */
+    @BeforeMethod
+    public void startServer() throws IOException {
+        archiveDir = Files.createTempDirectory("replay-archives");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/stats", exchange -> {
+            byte[] body = ("response " + serverHits.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Test that recorded responses are replayed in order once the site is gone
+     */
+    @Test(description = "Replay serves recorded responses without contacting the site")
+    @Story("Offline Replay")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyRecordThenReplay() throws Exception {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/stats?season=2024-25";
+
+        // Step 1: Record two requests to the same URL
+        RecordReplayProxy recorder = RecordReplayProxy.start(RecordReplayProxy.Mode.RECORD, archiveDir, 0);
+        try {
+            recorder.beginTest("RecordReplayProxyTest.roundTrip");
+            Assert.assertEquals(get(recorder, url).body(), "response 1");
+            Assert.assertEquals(get(recorder, url).body(), "response 2");
+            Assert.assertTrue(recorder.endTest().contains("Recorded responses: 2"));
+        } finally {
+            recorder.stop();
+        }
+        Assert.assertTrue(Files.exists(archiveDir.resolve("RecordReplayProxyTest.roundTrip.har")),
+                "Archive should be written when the test ends");
+
+        // Step 2: Take the site down and replay
+        server.stop(0);
+        server = null;
+
+        RecordReplayProxy player = RecordReplayProxy.start(RecordReplayProxy.Mode.REPLAY, archiveDir, 50);
+        try {
+            player.beginTest("RecordReplayProxyTest.roundTrip");
+
+            long startTime = System.currentTimeMillis();
+            Assert.assertEquals(get(player, url).body(), "response 1");
+            Assert.assertTrue(System.currentTimeMillis() - startTime >= 50, "Simulated latency should apply");
+            Assert.assertEquals(get(player, url).body(), "response 2");
+            // Exhausted sequence keeps serving the last response
+            Assert.assertEquals(get(player, url).body(), "response 2");
+
+            HttpResponse<String> missing = get(player, url.replace("/stats", "/unrecorded"));
+            Assert.assertEquals(missing.statusCode(), 404);
+
+            String report = player.endTest();
+            Assert.assertTrue(report.contains("Replayed responses: 3"), report);
+            Assert.assertTrue(report.contains("Missing from archive: 1"), report);
+        } finally {
+            player.stop();
+        }
+        Assert.assertEquals(serverHits.get(), 2, "Replay must not reach the site");
+    }
+
+    /**
+     * Test that HTTPS is terminated with a certificate generated in memory rather than a bundled key
+     */
+    @Test(description = "HTTPS is intercepted with a generated certificate")
+    @Story("Offline Replay")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyHttpsWithGeneratedCertificate() throws Exception {
+        // Step 1: Trust any certificate, as browsers do with acceptInsecureCerts, and record what was served
+        X509Certificate[] served = new X509Certificate[1];
+        SSLContext insecure = SSLContext.getInstance("TLS");
+        insecure.init(null, new TrustManager[]{new X509ExtendedTrustManager() {
+            public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) { served[0] = chain[0]; }
+            public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) { served[0] = chain[0]; }
+            public void checkServerTrusted(X509Certificate[] chain, String authType) { served[0] = chain[0]; }
+            public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) { }
+            public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) { }
+            public void checkClientTrusted(X509Certificate[] chain, String authType) { }
+            public X509Certificate[] getAcceptedIssuers() { return new X509Certificate[0]; }
+        }}, null);
+
+        // Step 2: An unrecorded HTTPS request is answered by the proxy through the TLS tunnel
+        RecordReplayProxy player = RecordReplayProxy.start(RecordReplayProxy.Mode.REPLAY, archiveDir, 0);
+        try {
+            player.beginTest("RecordReplayProxyTest.https");
+            HttpClient client = HttpClient.newBuilder()
+                    .proxy(ProxySelector.of(new InetSocketAddress("127.0.0.1", player.getPort())))
+                    .sslContext(insecure)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                    URI.create("https://stats.example.test/stats")).build(), HttpResponse.BodyHandlers.ofString());
+            Assert.assertEquals(response.statusCode(), 404);
+            Assert.assertTrue(player.endTest().contains("Missing from archive: 1"));
+        } finally {
+            player.stop();
+        }
+
+        // Step 3: The served certificate is self-signed and currently valid
+        Assert.assertNotNull(served[0], "Proxy should present a certificate");
+        Assert.assertEquals(served[0].getSubjectX500Principal(), served[0].getIssuerX500Principal());
+        served[0].verify(served[0].getPublicKey());
+        served[0].checkValidity();
+    }
+
+    private HttpResponse<String> get(RecordReplayProxy proxy, String url) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .proxy(ProxySelector.of(new InetSocketAddress("127.0.0.1", proxy.getPort())))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,154 @@
+package com.nba.automation.utils;
+
+import io.qameta.allure.*;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AttachmentPipeline against a private Allure lifecycle writing to a temporary directory
+ * Runs without a browser: mvn test -Dtest=AttachmentPipelineTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Attachment Pipeline")
+public class AttachmentPipelineTest {
+
+    private AllureLifecycle originalLifecycle;
+    private Path resultsDir;
+
+    @BeforeMethod
+    public void useTemporaryLifecycle() throws Exception {
+        originalLifecycle = Allure.getLifecycle();
+        resultsDir = Files.createTempDirectory("allure-results");
+        Allure.setLifecycle(new AllureLifecycle(new FileSystemResultsWriter(resultsDir)));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreLifecycle() {
+        Allure.setLifecycle(originalLifecycle);
+    }
+
+    /**
+     * Test that attachments from parallel tests are registered with their own test and written after flush
+     */
+    @Test(description = "Parallel tests keep their own attachments")
+    @Story("Asynchronous Attachments")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyParallelAttachments() throws Exception {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        ExecutorService testThreads = Executors.newFixedThreadPool(4);
+        Map<String, TestResult> results = new ConcurrentHashMap<>();
+
+        // Step 1: Four concurrent "tests", each attaching ten text bodies naming their own test
+        List<Future<?>> tests = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String testName = "test-" + t;
+            tests.add(testThreads.submit(() -> {
+                String uuid = UUID.randomUUID().toString();
+                TestResult result = new TestResult().setUuid(uuid).setName(testName);
+                lifecycle.scheduleTestCase(result);
+                lifecycle.startTestCase(uuid);
+                for (int i = 0; i < 10; i++) {
+                    AttachmentPipeline.attachText("Body " + i, testName + " body " + i);
+                }
+                lifecycle.stopTestCase(uuid);
+                results.put(testName, result);
+                lifecycle.writeTestCase(uuid);
+            }));
+        }
+        for (Future<?> test : tests) {
+            test.get();
+        }
+        testThreads.shutdown();
+
+        // Step 2: Flush and check every attachment file holds its own test's content
+        AttachmentPipeline.getInstance().flush();
+        Assert.assertEquals(results.size(), 4);
+        for (Map.Entry<String, TestResult> entry : results.entrySet()) {
+            List<Attachment> attachments = entry.getValue().getAttachments();
+            Assert.assertEquals(attachments.size(), 10, "Attachments of " + entry.getKey());
+            for (int i = 0; i < attachments.size(); i++) {
+                Attachment attachment = attachments.get(i);
+                Path file = resultsDir.resolve(attachment.getSource());
+                Assert.assertTrue(Files.exists(file), "Attachment file missing: " + file);
+                Assert.assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                        entry.getKey() + " body " + i);
+            }
+        }
+        Assert.assertNotNull(AttachmentPipeline.getInstance().getReport());
+    }
+
+    /**
+     * Test that a write the test thread does itself under backpressure is not reported as writer thread time
+     */
+    @Test(description = "Inline writes are not counted as time saved")
+    @Story("Asynchronous Attachments")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyInlineWriteReport() throws Exception {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        AttachmentPipeline pipeline = new AttachmentPipeline(true, 1, 1, 0);
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("backpressure"));
+        lifecycle.startTestCase(uuid);
+
+        // Step 1: The only writer is held on the first attachment and the second fills the queue
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        pipeline.submit("Held", "text/plain", ".txt", () -> {
+            writerBusy.countDown();
+            try {
+                releaseWriter.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new byte[0];
+        });
+        Assert.assertTrue(writerBusy.await(5, TimeUnit.SECONDS), "Writer should take the first attachment");
+        pipeline.submit("Queued", "text/plain", ".txt", () -> new byte[0]);
+
+        // Step 2: The third is written on the test thread, which frees the writer and then takes 300ms
+        pipeline.submit("Inline", "text/plain", ".txt", () -> {
+            releaseWriter.countDown();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new byte[0];
+        });
+        String report = pipeline.flush();
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+
+        // Step 3: The 300ms count as test thread time, not as writer time saved
+        Assert.assertTrue(report.contains("3 (1 inline under backpressure, 0 failed)"), report);
+        Assert.assertTrue(reportedMillis(report, "Time spent on test threads: \\d+ms \\((\\d+)ms writing inline") >= 300, report);
+        Assert.assertTrue(reportedMillis(report, "Encode/write time on writer threads: (\\d+)ms") < 300, report);
+        Assert.assertTrue(reportedMillis(report, "Test thread time saved: (\\d+)ms") < 300, report);
+    }
+
+    private static long reportedMillis(String report, String pattern) {
+        Matcher matcher = Pattern.compile(pattern).matcher(report);
+        Assert.assertTrue(matcher.find(), "'" + pattern + "' in " + report);
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,192 @@
+package com.nba.automation.utils;
+
+import io.qameta.allure.*;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Screenshot re-encoding, deduplication and storage budget on synthetic frames
+ * Runs without a browser: mvn test -Dtest=ScreenshotServiceTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Screenshots")
+public class ScreenshotServiceTest {
+
+    private AllureLifecycle originalLifecycle;
+    private Path resultsDir;
+
+    @BeforeMethod
+    public void useTemporaryLifecycle() throws Exception {
+        originalLifecycle = Allure.getLifecycle();
+        resultsDir = Files.createTempDirectory("allure-results");
+        Allure.setLifecycle(new AllureLifecycle(new FileSystemResultsWriter(resultsDir)));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreLifecycle() {
+        Allure.setLifecycle(originalLifecycle);
+    }
+
+    /**
+     * Test that a full-HD frame is downscaled to the maximum width and stored smaller as JPEG
+     */
+    @Test(description = "Frames are downscaled and re-encoded")
+    @Story("Screenshot Storage")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyDownscaleAndEncode() throws Exception {
+        ScreenshotService service = newService(ScreenshotService.Mode.FAILURE, 0);
+        byte[] png = frame(1920, 1080, Color.WHITE);
+
+        BufferedImage stored = ImageIO.read(new ByteArrayInputStream(service.encode(png)));
+        Assert.assertEquals(stored.getWidth(), 1280);
+        Assert.assertEquals(stored.getHeight(), 720);
+        Assert.assertTrue(service.encode(png).length < png.length, "JPEG should be smaller than the captured PNG");
+    }
+
+    /**
+     * Test that identical frames are stored once and frames past the budget are not stored
+     */
+    @Test(description = "Duplicate frames and frames over budget are not stored")
+    @Story("Screenshot Storage")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyDeduplicationAndBudget() throws Exception {
+        // Step 1: A 1 byte budget is used up by the first stored frame
+        ScreenshotService service = newService(ScreenshotService.Mode.FAILURE, 1);
+        byte[] blue = frame(800, 600, Color.BLUE);
+        byte[] red = frame(800, 600, Color.RED);
+        TestResult result = runTestCase(() -> {
+            service.store("First", blue);
+            AttachmentPipeline.getInstance().flush();
+            service.store("Same as first", blue.clone());
+            service.store("Different", red);
+        });
+        AttachmentPipeline.getInstance().flush();
+
+        // Step 2: One image, two text notes explaining why the others were not stored
+        List<Attachment> attachments = result.getAttachments();
+        Assert.assertEquals(attachments.size(), 3);
+        Assert.assertEquals(attachments.get(0).getType(), "image/jpeg");
+        Assert.assertTrue(Files.exists(resultsDir.resolve(attachments.get(0).getSource())));
+        Assert.assertEquals(attachments.get(1).getType(), "text/plain");
+        Assert.assertEquals(attachments.get(2).getType(), "text/plain");
+
+        String report = service.getReport();
+        Assert.assertTrue(report.contains("3 (1 stored, 1 duplicates, 1 over budget)"), report);
+    }
+
+    /**
+     * Test that frames queued before any is encoded count against the budget
+     */
+    @Test(description = "Queued frames cannot overshoot the budget")
+    @Story("Screenshot Storage")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyBudgetReservedWhenQueued() throws Exception {
+        ScreenshotService service = newService(ScreenshotService.Mode.FAILURE, 1);
+        byte[] blue = frame(800, 600, Color.BLUE);
+        byte[] red = frame(800, 600, Color.RED);
+        runTestCase(() -> {
+            service.store("First", blue);
+            service.store("Second", red);
+        });
+        AttachmentPipeline.getInstance().flush();
+
+        String report = service.getReport();
+        Assert.assertTrue(report.contains("2 (1 stored, 0 duplicates, 1 over budget)"), report);
+    }
+
+    /**
+     * Test that a frame that cannot be re-encoded is stored as captured instead of leaving an empty attachment
+     */
+    @Test(description = "Encoding failures fall back to the captured PNG")
+    @Story("Screenshot Storage")
+    @Severity(SeverityLevel.MINOR)
+    public void verifyEncodeFailureStoresOriginal() throws Exception {
+        ScreenshotService service = new ScreenshotService(ScreenshotService.Mode.FAILURE, 10,
+                ScreenshotService.Format.JPEG, 0.7f, 1280, true, 0, AttachmentPipeline.getInstance()) {
+            @Override
+            byte[] encode(byte[] png) {
+                throw new IllegalStateException("No JPEG writer");
+            }
+        };
+        byte[] png = frame(320, 240, Color.GREEN);
+        TestResult result = runTestCase(() -> service.store("Unencodable", png));
+        AttachmentPipeline.getInstance().flush();
+
+        Attachment attachment = result.getAttachments().get(0);
+        Assert.assertEquals(Files.readAllBytes(resultsDir.resolve(attachment.getSource())), png);
+    }
+
+    /**
+     * Test which test outcomes are captured in each mode
+     */
+    @Test(description = "Capture modes select failing and sampled tests")
+    @Story("Capture Modes")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyCaptureModes() {
+        ScreenshotService failure = newService(ScreenshotService.Mode.FAILURE, 0);
+        Assert.assertTrue(failure.shouldCapture(true));
+        Assert.assertFalse(failure.shouldCapture(false));
+
+        ScreenshotService sampled = newService(ScreenshotService.Mode.SAMPLED, 0);
+        int capturedPasses = 0;
+        for (int i = 0; i < 30; i++) {
+            if (sampled.shouldCapture(false)) {
+                capturedPasses++;
+            }
+        }
+        Assert.assertEquals(capturedPasses, 3);
+        Assert.assertTrue(sampled.shouldCapture(true));
+
+        Assert.assertFalse(newService(ScreenshotService.Mode.OFF, 0).shouldCapture(true));
+    }
+
+    private static ScreenshotService newService(ScreenshotService.Mode mode, long budgetBytes) {
+        return new ScreenshotService(mode, 10, ScreenshotService.Format.JPEG, 0.7f, 1280, true, budgetBytes,
+                AttachmentPipeline.getInstance());
+    }
+
+    private static TestResult runTestCase(Runnable body) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        TestResult result = new TestResult().setUuid(uuid).setName("screenshots");
+        lifecycle.scheduleTestCase(result);
+        lifecycle.startTestCase(uuid);
+        body.run();
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+        return result;
+    }
+
+    private static byte[] frame(int width, int height, Color background) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        // Gradient and text, like a rendered page with a header image over a stats table
+        graphics.setPaint(new GradientPaint(0, 0, background, width, height, background.darker()));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.BLACK);
+        for (int y = 20; y < height; y += 24) {
+            graphics.drawString("LeBron James  LAL  27.1  7.5  7.4  " + y, 20, y);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
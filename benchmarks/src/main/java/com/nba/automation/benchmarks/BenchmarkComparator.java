@@ -0,0 +1,122 @@
+package com.nba.automation.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, e.g. from the previous and the current commit
+ * Usage: java -cp target/benchmarks.jar com.nba.automation.benchmarks.BenchmarkComparator
+ *        results/baseline.json results/current.json [threshold percent, default 10]
+ * Exits with status 1 when any benchmark got slower by more than the threshold
+ */
+public class BenchmarkComparator {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    /**
+     * Compare baseline and current results and print a report
+     * @param args Baseline file, current file and optional threshold percent
+     * @throws IOException if a results file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparator <baseline.json> <current.json> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Score> baseline = readScores(new File(args[0]));
+        Map<String, Score> current = readScores(new File(args[1]));
+
+        List<String> regressions = compare(baseline, current, threshold);
+        if (!regressions.isEmpty()) {
+            System.err.println(String.format("%d benchmark(s) regressed by more than %.1f%%:", regressions.size(), threshold));
+            regressions.forEach(name -> System.err.println("  " + name));
+            System.exit(1);
+        }
+        System.out.println(String.format("No regressions above %.1f%%", threshold));
+    }
+
+    /**
+     * Print a line per benchmark present in both runs and collect the regressions
+     * @param baseline Baseline scores by benchmark key
+     * @param current Current scores by benchmark key
+     * @param thresholdPercent Allowed slowdown in percent
+     * @return Keys of benchmarks that got slower than allowed
+     */
+    static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double thresholdPercent) {
+        List<String> regressions = new ArrayList<>();
+        System.out.println(String.format("%-70s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change"));
+
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.println(String.format("%-70s %14s %14.3f %9s", entry.getKey(), "-", after.value, "new"));
+                continue;
+            }
+
+            // Positive change means slower, whatever the mode
+            double change = (after.value - before.value) / before.value * 100;
+            if (after.higherIsBetter) {
+                change = -change;
+            }
+            boolean regressed = change > thresholdPercent;
+            System.out.println(String.format("%-70s %14.3f %14.3f %+8.1f%%%s", entry.getKey(), before.value,
+                    after.value, change, regressed ? "  REGRESSION" : ""));
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Read primary scores from a JMH JSON results file
+     * @param file Results file
+     * @return Scores keyed by benchmark name and parameters
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, Score> readScores(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : mapper.readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace(BenchmarkComparator.class.getPackage().getName() + ".", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(key.indexOf("[") < 0 ? " [" : ", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            if (key.indexOf("[") >= 0) {
+                key.append(']');
+            }
+
+            JsonNode metric = result.path("primaryMetric");
+            String mode = result.path("mode").asText();
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(),
+                    "thrpt".equals(mode)));
+        }
+        return scores;
+    }
+
+    /**
+     * Primary metric of one benchmark
+     */
+    static class Score {
+        final double value;
+        final boolean higherIsBetter;
+
+        Score(double value, boolean higherIsBetter) {
+            this.value = value;
+            this.higherIsBetter = higherIsBetter;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.nba.automation.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Runs the benchmarks and writes JMH results as JSON, one file per run, for BenchmarkComparator
+ * Usage: java -cp target/benchmarks.jar com.nba.automation.benchmarks.BenchmarkRunner [include regex ...]
+ * System properties: benchmark.results.dir (default results), benchmark.label (default timestamp),
+ * e.g. -Dbenchmark.label=$(git rev-parse --short HEAD)
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Run the selected benchmarks
+     * @param args Regular expressions of benchmarks to include, all benchmarks when empty
+     * @throws RunnerException if JMH fails
+     * @throws IOException if the results directory cannot be created
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        // Step 1: Resolve the results file
+        Path resultsDir = Paths.get(System.getProperty("benchmark.results.dir", "results"));
+        Files.createDirectories(resultsDir);
+        String label = System.getProperty("benchmark.label",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Path resultsFile = resultsDir.resolve(label + ".json");
+
+        // Step 2: Select benchmarks
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultsFile.toString());
+        if (args.length == 0) {
+            options.include(BenchmarkRunner.class.getPackage().getName() + "\\..*Benchmark");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+
+        // Step 3: Run; JMH prints where the results were saved
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.nba.automation.benchmarks;
+
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.config.ConfigSnapshot;
+import com.nba.automation.proxy.RecordReplayProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigManager lookups made on every page object construction and wait, read from the
+ * config.properties the test suite uses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigManagerBenchmark {
+
+    private final ConfigSnapshot snapshot = ConfigManager.getInstance().snapshot();
+
+    /**
+     * Singleton access on the double-checked fast path
+     * @return Instance
+     */
+    @Benchmark
+    public ConfigManager getInstance() {
+        return ConfigManager.getInstance();
+    }
+
+    /**
+     * Plain string property
+     * @return Base URL
+     */
+    @Benchmark
+    public String getBaseUrl() {
+        return ConfigManager.getInstance().getBaseUrl();
+    }
+
+    /**
+     * Integer setting, read by every WaitHelper wait
+     * @return Explicit wait
+     */
+    @Benchmark
+    public int getExplicitWait() {
+        return ConfigManager.getInstance().getExplicitWait();
+    }
+
+    /**
+     * Setting read straight from a snapshot held by the caller
+     * @return Explicit wait
+     */
+    @Benchmark
+    public int snapshotExplicitWait() {
+        return snapshot.getExplicitWait();
+    }
+
+    /**
+     * Property with a system property override
+     * @return Proxy mode
+     */
+    @Benchmark
+    public Object getProxyMode() {
+        return ConfigManager.getInstance().getEnum("proxy.mode", RecordReplayProxy.Mode.OFF);
+    }
+
+    /**
+     * Comma-separated list setting
+     * @return Network block patterns
+     */
+    @Benchmark
+    public List<String> getNetworkBlockPatterns() {
+        return ConfigManager.getInstance().getNetworkBlockPatterns();
+    }
+}
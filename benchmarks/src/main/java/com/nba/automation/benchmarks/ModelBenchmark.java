@@ -0,0 +1,72 @@
+package com.nba.automation.benchmarks;
+
+import com.nba.automation.models.Player;
+import com.nba.automation.models.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player and Team construction through the constructors and through the setters StatsRowMapper uses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    // Non-final so the JIT cannot fold the values into the benchmark methods
+    private String playerName = "Shai Gilgeous-Alexander";
+    private String playerTeam = "OKC";
+    private double points = 32.7;
+    private double assists = 6.4;
+    private double rebounds = 5.0;
+
+    private String teamName = "Oklahoma City Thunder";
+    private String conference = "Western";
+    private int wins = 68;
+    private int losses = 14;
+
+    /**
+     * Player through the all-fields constructor, as the API client builds it
+     * @return Player
+     */
+    @Benchmark
+    public Player playerConstructor() {
+        return new Player(playerName, playerTeam, points, assists, rebounds);
+    }
+
+    /**
+     * Player through the setters, as StatsRowMapper builds it
+     * @return Player
+     */
+    @Benchmark
+    public Player playerSetters() {
+        Player player = new Player();
+        player.setName(playerName);
+        player.setTeam(playerTeam);
+        player.setPointsPerGame(points);
+        player.setAssistsPerGame(assists);
+        player.setReboundsPerGame(rebounds);
+        return player;
+    }
+
+    /**
+     * Team with its win percentage, as StatsRowMapper builds it
+     * @return Team
+     */
+    @Benchmark
+    public Team teamConstructor() {
+        return new Team(teamName, conference, wins, losses, (double) wins / (wins + losses));
+    }
+}
@@ -0,0 +1,60 @@
+package com.nba.automation.benchmarks;
+
+import com.nba.automation.models.Player;
+import com.nba.automation.utils.ReportFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of the text the tests attach to the Allure report
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportFormatterBenchmark {
+
+    private Player leaderPlayer = new Player("Nikola Jokić", "DEN", 29.6, 10.2, 12.7);
+    private Player pagePlayer = new Player("Nikola Jokić", "DEN", 29.6, 10.2, 12.7);
+    private long navigationTime = 1840;
+    private long statsLoadTime = 612;
+
+    /**
+     * Player stats comparison attached by TopPlayersTest
+     * @return Attachment text
+     */
+    @Benchmark
+    public String statsComparison() {
+        return ReportFormatter.statsComparison(leaderPlayer, "Leaders", pagePlayer, "Player Page");
+    }
+
+    /**
+     * Load times attached by PerformanceTest
+     * @return Attachment text
+     */
+    @Benchmark
+    public String performanceData() {
+        return ReportFormatter.performanceData(navigationTime, statsLoadTime, navigationTime + statsLoadTime, 5000);
+    }
+
+    /**
+     * Failure details attached by AllureTestListener
+     * @return Attachment text
+     */
+    @Benchmark
+    public String failureDetails() {
+        return ReportFormatter.failureDetails("verifyTop3PlayersStatsConsistency",
+                "PPG mismatch for Nikola Jokić: Leaders page=29.6, Player page=29.5");
+    }
+}
@@ -0,0 +1,113 @@
+package com.nba.automation.benchmarks;
+
+import com.nba.automation.models.Player;
+import com.nba.automation.models.Team;
+import com.nba.automation.utils.StatsRowMapper;
+import com.nba.automation.utils.TableData;
+import com.nba.automation.utils.TableRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row parsing done by LeadersPage and TeamStatsPage once a table has been extracted:
+ * building TableData, parsing cell text as numbers and mapping rows to Player/Team
+ * Each operation processes a whole recorded table (40 leaders or 30 teams)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsParsingBenchmark {
+
+    private StatsTableFixture leadersFixture;
+    private StatsTableFixture teamStatsFixture;
+    private TableData leadersTable;
+    private TableData teamStatsTable;
+    private String[] pointsCells;
+    private String[] winsCells;
+
+    /**
+     * Load the recorded leaders and team stats tables
+     */
+    @Setup
+    public void loadFixtures() {
+        leadersFixture = StatsTableFixture.load(StatsTableFixture.LEADERS);
+        teamStatsFixture = StatsTableFixture.load(StatsTableFixture.TEAM_STATS);
+        leadersTable = leadersFixture.toTableData();
+        teamStatsTable = teamStatsFixture.toTableData();
+        pointsCells = leadersFixture.column(StatsRowMapper.POINTS_COLUMN);
+        winsCells = teamStatsFixture.column(StatsRowMapper.WINS_COLUMN);
+    }
+
+    /**
+     * Header index and row wrappers for the leaders table
+     * @return Table
+     */
+    @Benchmark
+    public TableData buildLeadersTable() {
+        return leadersFixture.toTableData();
+    }
+
+    /**
+     * Double parsing of the PTS column
+     * @return Sum of the parsed values
+     */
+    @Benchmark
+    public double parsePointsCells() {
+        double total = 0;
+        for (String cell : pointsCells) {
+            total += Double.parseDouble(cell);
+        }
+        return total;
+    }
+
+    /**
+     * Integer parsing of the W column
+     * @return Sum of the parsed values
+     */
+    @Benchmark
+    public int parseWinsCells() {
+        int total = 0;
+        for (String cell : winsCells) {
+            total += Integer.parseInt(cell);
+        }
+        return total;
+    }
+
+    /**
+     * Leaders rows to Player models, as LeadersPage.getTopPlayersWithAllStats does
+     * @param blackhole Sink for results
+     */
+    @Benchmark
+    public void mapLeadersRows(Blackhole blackhole) {
+        for (TableRow row : leadersTable.getRows()) {
+            Player player = StatsRowMapper.toPlayer(row);
+            blackhole.consume(player);
+        }
+    }
+
+    /**
+     * Team stats rows to Team models including the conference lookup, as TeamStatsPage.getAllTeams does
+     * @param blackhole Sink for results
+     */
+    @Benchmark
+    public void mapTeamStatsRows(Blackhole blackhole) {
+        for (TableRow row : teamStatsTable.getRows()) {
+            Team team = StatsRowMapper.toTeam(row);
+            blackhole.consume(team);
+        }
+    }
+}
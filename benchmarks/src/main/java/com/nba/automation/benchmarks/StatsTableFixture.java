@@ -0,0 +1,89 @@
+package com.nba.automation.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.automation.utils.TableData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stats table recorded from the site, as StatsTable reads it: header text and cell text per row
+ * Fixtures live in src/main/resources/fixtures
+ */
+public class StatsTableFixture {
+    public static final String LEADERS = "fixtures/leaders-table.json";
+    public static final String TEAM_STATS = "fixtures/team-stats-table.json";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final List<String> headers;
+    private final List<List<String>> rows;
+
+    private StatsTableFixture(List<String> headers, List<List<String>> rows) {
+        this.headers = Collections.unmodifiableList(headers);
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Load a recorded table from the classpath
+     * @param resource Fixture path, e.g. LEADERS
+     * @return Fixture with headers and cell text
+     */
+    public static StatsTableFixture load(String resource) {
+        try (InputStream input = StatsTableFixture.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Fixture not found in classpath: " + resource);
+            }
+            JsonNode root = mapper.readTree(input);
+
+            List<String> headers = new ArrayList<>();
+            for (JsonNode header : root.path("headers")) {
+                headers.add(header.asText());
+            }
+            List<List<String>> rows = new ArrayList<>();
+            for (JsonNode row : root.path("rows")) {
+                List<String> cells = new ArrayList<>(headers.size());
+                for (JsonNode cell : row) {
+                    cells.add(cell.asText());
+                }
+                rows.add(Collections.unmodifiableList(cells));
+            }
+            return new StatsTableFixture(headers, rows);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load fixture " + resource, e);
+        }
+    }
+
+    /**
+     * Build the TableData a page snapshot of the table would return
+     * @return Table without links
+     */
+    public TableData toTableData() {
+        return new TableData(headers, rows, Collections.emptyList());
+    }
+
+    /**
+     * Get the cell text of one column for every row
+     * @param header Header name as recorded
+     * @return Cell text in row order
+     */
+    public String[] column(String header) {
+        int index = headers.indexOf(header);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column '" + header + "' not found in fixture headers: " + headers);
+        }
+        String[] values = new String[rows.size()];
+        for (int r = 0; r < rows.size(); r++) {
+            values[r] = rows.get(r).get(index);
+        }
+        return values;
+    }
+
+    public List<String> getHeaders() { return headers; }
+
+    public List<List<String>> getRows() { return rows; }
+}
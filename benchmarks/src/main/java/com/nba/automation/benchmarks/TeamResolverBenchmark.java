@@ -0,0 +1,97 @@
+package com.nba.automation.benchmarks;
+
+import com.nba.automation.models.NbaTeam;
+import com.nba.automation.utils.TeamResolver;
+import com.nba.automation.utils.TestDataHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Team name lookups: TeamResolver against the linear scans it replaced
+ * Inputs mimic the team column of the stats tables and other pages: exact names, case and
+ * whitespace noise, abbreviations, aliases, playoff markers and a few names that match nothing
+ * Run with: java -jar target/benchmarks.jar TeamResolverBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamResolverBenchmark {
+
+    static final String[] DIRTY_INPUTS = {
+            "Boston Celtics",
+            "Oklahoma City Thunder",
+            "LA Clippers",
+            "Los Angeles Lakers",
+            "  Denver Nuggets ",
+            "Golden State Warriors\n",
+            "NEW YORK KNICKS",
+            "philadelphia 76ers",
+            "Portland Trailblazers",
+            "L.A. Clippers",
+            "BOS",
+            "gsw",
+            "Sixers",
+            "Mavs",
+            "Blazers",
+            "x-Milwaukee Bucks",
+            "Cleveland Cavaliers (1)",
+            "San Antonio Spurs*",
+            "Minnesota T-Wolves",
+            "Utah",
+            "Seattle SuperSonics",
+            "TBD",
+    };
+
+    private static final int INPUT_COUNT = 22;
+
+    /**
+     * Indexed lookup returning the typed team
+     * @param blackhole Sink for results
+     */
+    @Benchmark
+    @OperationsPerInvocation(INPUT_COUNT)
+    public void resolver(Blackhole blackhole) {
+        for (String input : DIRTY_INPUTS) {
+            NbaTeam team = TeamResolver.resolve(input);
+            blackhole.consume(team);
+        }
+    }
+
+    /**
+     * Conference string through the current TestDataHelper, as TeamStatsPage uses it
+     * @param blackhole Sink for results
+     */
+    @Benchmark
+    @OperationsPerInvocation(INPUT_COUNT)
+    public void determineConference(Blackhole blackhole) {
+        for (String input : DIRTY_INPUTS) {
+            blackhole.consume(TestDataHelper.determineConference(input));
+        }
+    }
+
+    /**
+     * Conference string through the original linear-scan implementation
+     * @param blackhole Sink for results
+     */
+    @Benchmark
+    @OperationsPerInvocation(INPUT_COUNT)
+    public void legacyDetermineConference(Blackhole blackhole) {
+        for (String input : DIRTY_INPUTS) {
+            blackhole.consume(LegacyConferenceLookup.determineConference(input));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.nba.automation.api;
+
+import com.nba.automation.config.TypedSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Numeric settings of the stats API client, validated with every configuration snapshot
+ * Read with ConfigManager.getLong(key)
+ */
+public class ApiTypedSettings implements TypedSettings {
+
+    @Override
+    public Map<String, Object> getDefaults() {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("api.timeout", 30L);
+        return defaults;
+    }
+}
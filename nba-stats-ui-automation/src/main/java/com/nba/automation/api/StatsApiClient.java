@@ -0,0 +1,306 @@
+package com.nba.automation.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.models.Player;
+import com.nba.automation.models.Team;
+import com.nba.automation.utils.StatsRowMapper;
+import com.nba.automation.utils.TableData;
+import com.nba.automation.utils.TableRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Browser-free client for the stats.nba.com JSON API
+ * Fetches the datasets behind the leaders, team stats and player pages and maps them to the
+ * same TableData/Player/Team models the page objects produce, so tests can cross-check UI values
+ */
+public class StatsApiClient {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    // One client for the whole run so connections (and TLS sessions) are reused between requests
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    // API column names that differ from the stats table headers StatsRowMapper expects
+    private static final Map<String, String> COLUMN_ALIASES = Map.of(
+            "TEAM_NAME", StatsRowMapper.TEAM_COLUMN,
+            "PLAYER_NAME", StatsRowMapper.PLAYER_COLUMN);
+
+    // The API rejects requests that do not look like they come from nba.com
+    private static final Map<String, String> DEFAULT_HEADERS = Map.of(
+            "Accept", "application/json, text/plain, */*",
+            "Accept-Encoding", "gzip",
+            "User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/119.0 Safari/537.36",
+            "Referer", "https://www.nba.com/",
+            "Origin", "https://www.nba.com",
+            "x-nba-stats-origin", "stats",
+            "x-nba-stats-token", "true");
+
+    private final String baseUrl;
+    private final String season;
+    private final String seasonType;
+    private final Duration timeout;
+
+    /**
+     * Constructor using api.* settings from config.properties
+     * An empty api.season follows the current season, as the leaders page does
+     */
+    public StatsApiClient() {
+        this(ConfigManager.getInstance().getProperty("api.base.url", "https://stats.nba.com/stats"),
+                ConfigManager.getInstance().getProperty("api.season", ""),
+                ConfigManager.getInstance().getProperty("api.season.type", "Regular Season"),
+                Duration.ofSeconds(ConfigManager.getInstance().getLong("api.timeout")));
+    }
+
+    /**
+     * Constructor
+     * @param baseUrl API root, e.g. https://stats.nba.com/stats
+     * @param season Season in API format, e.g. 2024-25; null or empty for the current season
+     * @param seasonType Season type, e.g. Regular Season
+     * @param timeout Per-request timeout
+     */
+    public StatsApiClient(String baseUrl, String season, String seasonType, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.season = season == null || season.isEmpty() ? null : season;
+        this.seasonType = seasonType;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the season in progress, or the one about to start, on a given date
+     * Seasons start in October, so from October on the date belongs to the season ending the next year
+     * @param date Date to get the season for
+     * @return Season in API format, e.g. 2025-26
+     */
+    public static String currentSeason(LocalDate date) {
+        int startYear = date.getMonthValue() >= Month.OCTOBER.getValue() ? date.getYear() : date.getYear() - 1;
+        return String.format("%d-%02d", startYear, (startYear + 1) % 100);
+    }
+
+    /**
+     * Get per-game league leaders for a stat category, as shown on the leaders page
+     * @param statCategory Stat to rank by (PTS, AST, REB)
+     * @param count Number of leaders to return
+     * @return Leaders in rank order with PPG, APG and RPG
+     */
+    public List<Player> getLeaders(String statCategory, int count) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("LeagueID", "00");
+        params.put("PerMode", "PerGame");
+        params.put("Scope", "S");
+        params.put("Season", getSeason());
+        params.put("SeasonType", seasonType);
+        params.put("StatCategory", statCategory);
+
+        TableData leaders = fetchResultSet("leagueLeaders", params, "LeagueLeaders");
+
+        List<Player> players = new ArrayList<>();
+        for (TableRow row : leaders.getRows()) {
+            if (players.size() >= count) {
+                break;
+            }
+            players.add(StatsRowMapper.toPlayer(row));
+        }
+        return players;
+    }
+
+    /**
+     * Get all teams with wins and losses, as shown on the team stats page
+     * @return Teams with conference, wins, losses and win percentage
+     */
+    public List<Team> getTeams() {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("LeagueID", "00");
+        params.put("MeasureType", "Base");
+        params.put("PerMode", "PerGame");
+        params.put("Season", getSeason());
+        params.put("SeasonType", seasonType);
+
+        TableData teams = fetchResultSet("leaguedashteamstats", params, "LeagueDashTeamStats");
+
+        List<Team> result = new ArrayList<>();
+        for (TableRow row : teams.getRows()) {
+            result.add(StatsRowMapper.toTeam(row));
+        }
+        return result;
+    }
+
+    /**
+     * Get a player's per-game averages for the configured season, as shown on the player page
+     * Without a configured season the player's latest season is used, which is the one the leaders page shows
+     * even before the new season's first game
+     * @param playerId NBA player ID (the number in /stats/player/{id}/ links)
+     * @param playerName Player name to set on the result (the career endpoint does not return it)
+     * @return Player with PPG, APG and RPG, or null if the player has no row for the season
+     */
+    public Player getPlayerSeasonStats(String playerId, String playerName) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("LeagueID", "00");
+        params.put("PerMode", "PerGame");
+        params.put("PlayerID", playerId);
+
+        String resultSetName = "Regular Season".equalsIgnoreCase(seasonType)
+                ? "SeasonTotalsRegularSeason" : "SeasonTotalsPostSeason";
+        TableData seasons = fetchResultSet("playercareerstats", params, resultSetName);
+
+        String wantedSeason = season;
+        if (wantedSeason == null) {
+            for (TableRow row : seasons.getRows()) {
+                String rowSeason = row.getText("SEASON_ID");
+                if (wantedSeason == null || rowSeason.compareTo(wantedSeason) > 0) {
+                    wantedSeason = rowSeason;
+                }
+            }
+        }
+
+        // Traded players have one row per team plus a combined TOT row, which is listed last
+        Player player = null;
+        for (TableRow row : seasons.getRows()) {
+            if (row.getText("SEASON_ID").equals(wantedSeason)) {
+                player = new Player(playerName, row.getText("TEAM_ABBREVIATION"), row.getDouble("PTS"),
+                        row.getDouble("AST"), row.getDouble("REB"));
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Get the season leaders and team requests ask for
+     * @return Configured season, or the current one
+     */
+    public String getSeason() {
+        return season != null ? season : currentSeason(LocalDate.now());
+    }
+
+    /**
+     * Extract the player ID from a player page URL
+     * @param playerPageUrl URL such as https://www.nba.com/stats/player/2544/
+     * @return Player ID, or null if the URL is not a player page
+     */
+    public static String playerIdFromUrl(String playerPageUrl) {
+        if (playerPageUrl == null) {
+            return null;
+        }
+        String[] parts = playerPageUrl.split("/");
+        for (int i = 0; i < parts.length - 1; i++) {
+            if ("player".equals(parts[i]) && parts[i + 1].matches("\\d+")) {
+                return parts[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fetch an endpoint and convert one of its result sets to a table
+     * @param endpoint Endpoint name under the API root
+     * @param params Query parameters
+     * @param resultSetName Name of the result set to convert
+     * @return Result set as TableData, with header names aligned to the stats tables
+     */
+    public TableData fetchResultSet(String endpoint, Map<String, String> params, String resultSetName) {
+        JsonNode root = getJson(endpoint, params);
+
+        // Most endpoints return a resultSets array; leagueLeaders returns a single resultSet object
+        JsonNode resultSet = null;
+        if (root.has("resultSet")) {
+            resultSet = root.get("resultSet");
+        } else {
+            for (JsonNode candidate : root.path("resultSets")) {
+                if (resultSetName.equalsIgnoreCase(candidate.path("name").asText())) {
+                    resultSet = candidate;
+                    break;
+                }
+            }
+        }
+        if (resultSet == null) {
+            throw new IllegalStateException("Result set '" + resultSetName + "' not found in " + endpoint + " response");
+        }
+
+        List<String> headers = new ArrayList<>();
+        for (JsonNode header : resultSet.path("headers")) {
+            String name = header.asText();
+            headers.add(COLUMN_ALIASES.getOrDefault(name, name));
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        for (JsonNode row : resultSet.path("rowSet")) {
+            List<String> cells = new ArrayList<>(headers.size());
+            for (JsonNode cell : row) {
+                cells.add(cell.isNull() ? "" : cell.asText());
+            }
+            rows.add(cells);
+        }
+        return new TableData(headers, rows, Collections.emptyList());
+    }
+
+    /**
+     * Send a GET request and parse the (possibly gzip encoded) JSON body
+     * @param endpoint Endpoint name under the API root
+     * @param params Query parameters
+     * @return Parsed JSON
+     */
+    private JsonNode getJson(String endpoint, Map<String, String> params) {
+        URI uri = URI.create(baseUrl + "/" + endpoint + "?" + toQueryString(params));
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(timeout).GET();
+        for (Map.Entry<String, String> header : DEFAULT_HEADERS.entrySet()) {
+            request.header(header.getKey(), header.getValue());
+        }
+
+        try {
+            // Read the whole body so the connection goes back to the pool; a gzip or JSON reader stopping
+            // before the end of the stream would make the client close it
+            HttpResponse<byte[]> response = HTTP_CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            try (InputStream body = decode(response)) {
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Stats API returned HTTP " + response.statusCode() + " for " + uri);
+                }
+                return mapper.readTree(body);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to fetch " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching " + uri, e);
+        }
+    }
+
+    private static InputStream decode(HttpResponse<byte[]> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+        InputStream body = new ByteArrayInputStream(response.body());
+        return "gzip".equalsIgnoreCase(encoding) ? new GZIPInputStream(body) : body;
+    }
+
+    private static String toQueryString(Map<String, String> params) {
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.nba.automation.fixtures;
+
+import com.nba.automation.config.TypedSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Leaders fixture settings, validated with every configuration snapshot
+ * Read with ConfigManager.getInt, getLong and getBoolean
+ */
+public class FixtureTypedSettings implements TypedSettings {
+
+    @Override
+    public Map<String, Object> getDefaults() {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("players.verify.count", 3);
+        defaults.put("fixtures.reuse.enabled", true);
+        defaults.put("fixtures.ttl.seconds", 900L);
+        defaults.put("fixtures.invalidate.on.failure", true);
+        return defaults;
+    }
+}
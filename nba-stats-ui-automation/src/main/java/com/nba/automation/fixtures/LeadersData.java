@@ -0,0 +1,87 @@
+package com.nba.automation.fixtures;
+
+import com.nba.automation.models.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable result of one leaders page load, shared by every test that needs the top players
+ * Players are copied on the way in and on the way out, so no test can change what another test sees
+ */
+public final class LeadersData {
+    private final List<Player> players;
+    private final Map<String, String> playerUrls;
+    private final long loadMillis;
+    private final long loadedAtMillis;
+
+    /**
+     * Constructor
+     * @param players Leaders in table order
+     * @param playerUrls Player name to player page URL, in table order
+     * @param loadMillis Time the load took, counted as saved each time the data is reused
+     * @param loadedAtMillis Wall-clock time of the load
+     */
+    public LeadersData(List<Player> players, Map<String, String> playerUrls, long loadMillis, long loadedAtMillis) {
+        List<Player> copies = new ArrayList<>(players.size());
+        for (Player player : players) {
+            copies.add(copy(player));
+        }
+        this.players = Collections.unmodifiableList(copies);
+        this.playerUrls = Collections.unmodifiableMap(new LinkedHashMap<>(playerUrls));
+        this.loadMillis = loadMillis;
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    /**
+     * Get the top leaders
+     * @param count Number of leaders
+     * @return Copies of the first count leaders in table order
+     */
+    public List<Player> getTopPlayers(int count) {
+        List<Player> top = new ArrayList<>();
+        for (int i = 0; i < Math.min(count, players.size()); i++) {
+            top.add(copy(players.get(i)));
+        }
+        return top;
+    }
+
+    /**
+     * Get player page URLs of the top leaders
+     * @param count Number of leaders
+     * @return Player name to player page URL, in table order
+     */
+    public Map<String, String> getPlayerUrls(int count) {
+        Map<String, String> top = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : playerUrls.entrySet()) {
+            if (top.size() == count) {
+                break;
+            }
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+
+    /**
+     * Get the player page URL of a leader
+     * @param playerName Player name as shown on the leaders page
+     * @return URL, or null if the player is not among the loaded leaders
+     */
+    public String getPlayerUrl(String playerName) {
+        return playerUrls.get(playerName);
+    }
+
+    public int size() { return players.size(); }
+
+    public long getLoadMillis() { return loadMillis; }
+
+    public long getLoadedAtMillis() { return loadedAtMillis; }
+
+    private static Player copy(Player player) {
+        return new Player(player.getName(), player.getTeam(), player.getPointsPerGame(),
+                player.getAssistsPerGame(), player.getReboundsPerGame());
+    }
+}
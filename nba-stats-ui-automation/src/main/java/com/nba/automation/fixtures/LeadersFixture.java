@@ -0,0 +1,292 @@
+package com.nba.automation.fixtures;
+
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.models.Player;
+import com.nba.automation.pages.LeadersPage;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Suite-scoped leaders data: the leaders page is loaded once and the immutable result handed to every test
+ * that needs the top players and their page URLs
+ * The data is reloaded, on the next request, when
+ * - it is older than fixtures.ttl.seconds
+ * - a test asks for more leaders than the last load asked for (a page holding fewer rows is not reloaded)
+ * - a test that used it failed (fixtures.invalidate.on.failure), in case the data itself was stale
+ * - invalidate() is called, e.g. by a test that changes site state
+ * The page is loaded outside the fixture's lock: tests that need a load already in progress wait for it,
+ * while tests the cached data covers are served without waiting
+ * With fixtures.reuse.enabled=false every request loads the page, as before
+ */
+public class LeadersFixture {
+    private static volatile LeadersFixture instance;
+
+    // Tests that read the fixture on the current thread since the last test started
+    private static final ThreadLocal<Boolean> USED_BY_CURRENT_TEST = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Loader loader;
+    private final boolean reuseEnabled;
+    private final long ttlMillis;
+    private final boolean invalidateOnFailure;
+    private final int minimumCount;
+
+    private LeadersData data;
+    // Leaders the load behind data asked for; data holds fewer if the page has fewer
+    private int dataCount;
+    private CompletableFuture<LeadersData> pendingLoad;
+    private int pendingCount;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger reuses = new AtomicInteger();
+    private final AtomicInteger invalidations = new AtomicInteger();
+    private final AtomicLong loadMillis = new AtomicLong();
+    private final AtomicLong savedMillis = new AtomicLong();
+
+    /**
+     * Loads leaders data with the calling test's browser
+     */
+    public interface Loader {
+        /**
+         * Load the top leaders
+         * @param driver Browser of the test that triggered the load
+         * @param count Number of leaders to load
+         * @return Loaded data
+         */
+        LeadersData load(WebDriver driver, int count);
+    }
+
+    /**
+     * Constructor
+     * @param loader Loads the data when there is nothing valid to reuse
+     * @param reuseEnabled Reuse loaded data across tests
+     * @param ttlMillis Maximum age of reused data
+     * @param invalidateOnFailure Drop the data when a test that used it fails
+     * @param minimumCount Leaders loaded at least, so tests asking for fewer share one load
+     */
+    LeadersFixture(Loader loader, boolean reuseEnabled, long ttlMillis, boolean invalidateOnFailure, int minimumCount) {
+        this.loader = loader;
+        this.reuseEnabled = reuseEnabled;
+        this.ttlMillis = ttlMillis;
+        this.invalidateOnFailure = invalidateOnFailure;
+        this.minimumCount = minimumCount;
+    }
+
+    /**
+     * Get the number of leaders the stats checks verify (players.verify.count)
+     * @return Player count
+     */
+    public static int getVerifyPlayerCount() {
+        return ConfigManager.getInstance().getInt("players.verify.count");
+    }
+
+    /**
+     * Get the fixture configured by fixtures.* in config.properties
+     * @return Shared fixture
+     */
+    public static LeadersFixture getInstance() {
+        LeadersFixture fixture = instance;
+        if (fixture == null) {
+            synchronized (LeadersFixture.class) {
+                fixture = instance;
+                if (fixture == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    // Enough leaders for the stats checks and the performance sampling
+                    int minimumCount = Math.max(getVerifyPlayerCount(), config.getSamplingPlayerCount());
+                    fixture = new LeadersFixture(LeadersFixture::loadFromLeadersPage,
+                            config.getBoolean("fixtures.reuse.enabled"),
+                            TimeUnit.SECONDS.toMillis(config.getLong("fixtures.ttl.seconds")),
+                            config.getBoolean("fixtures.invalidate.on.failure"),
+                            minimumCount);
+                    instance = fixture;
+                }
+            }
+        }
+        return fixture;
+    }
+
+    /**
+     * Get leaders data, loading it with the given browser only when nothing valid is cached
+     * @param driver Browser of the calling test, used if a load is needed
+     * @param count Number of leaders the test needs
+     * @return Immutable leaders data with at least count leaders (fewer if the page has fewer)
+     */
+    public LeadersData get(WebDriver driver, int count) {
+        USED_BY_CURRENT_TEST.set(Boolean.TRUE);
+
+        CompletableFuture<LeadersData> load;
+        int loadCount = Math.max(count, minimumCount);
+        boolean ownLoad;
+        synchronized (this) {
+            // Step 1: Reuse valid data
+            String reloadReason = reloadReason(count);
+            if (reloadReason == null) {
+                reuses.incrementAndGet();
+                savedMillis.addAndGet(data.getLoadMillis());
+                return data;
+            }
+
+            // Step 2: Wait for a load in progress that covers the request
+            if (reuseEnabled && pendingLoad != null && pendingCount >= count) {
+                load = pendingLoad;
+                ownLoad = false;
+            } else {
+                if (data != null) {
+                    invalidations.incrementAndGet();
+                    System.out.println("Reloading leaders fixture: " + reloadReason);
+                }
+                load = new CompletableFuture<>();
+                ownLoad = true;
+                if (reuseEnabled) {
+                    pendingLoad = load;
+                    pendingCount = loadCount;
+                }
+            }
+        }
+
+        if (!ownLoad) {
+            LeadersData loaded = await(load);
+            reuses.incrementAndGet();
+            savedMillis.addAndGet(loaded.getLoadMillis());
+            return loaded;
+        }
+
+        // Step 3: Load without holding the lock, and keep it for the next tests unless invalidated meanwhile
+        LeadersData loaded;
+        try {
+            loaded = loader.load(driver, loadCount);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                if (pendingLoad == load) {
+                    pendingLoad = null;
+                }
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+        loads.incrementAndGet();
+        loadMillis.addAndGet(loaded.getLoadMillis());
+        synchronized (this) {
+            if (pendingLoad == load) {
+                pendingLoad = null;
+                data = loaded;
+                dataCount = loadCount;
+            }
+        }
+        load.complete(loaded);
+        return loaded;
+    }
+
+    /**
+     * Drop the cached data; the next request loads the leaders page again
+     * @param reason Why the data is no longer valid, logged with the reload
+     */
+    public synchronized void invalidate(String reason) {
+        if (data != null) {
+            System.out.println("Leaders fixture invalidated: " + reason);
+            data = null;
+            invalidations.incrementAndGet();
+        }
+        // A load already in progress may have read the stale data, so do not keep its result
+        pendingLoad = null;
+    }
+
+    /**
+     * Mark the start of a test on the current thread
+     */
+    public static void beginTest() {
+        USED_BY_CURRENT_TEST.set(Boolean.FALSE);
+    }
+
+    /**
+     * Invalidate the data if the failed test on the current thread used it
+     * @param testName Name of the failed test
+     */
+    public void onTestFailure(String testName) {
+        if (invalidateOnFailure && USED_BY_CURRENT_TEST.get()) {
+            invalidate("test " + testName + " failed after reading it");
+        }
+    }
+
+    /**
+     * Forget cached data and counters, at suite start
+     */
+    public synchronized void reset() {
+        data = null;
+        pendingLoad = null;
+        loads.set(0);
+        reuses.set(0);
+        invalidations.set(0);
+        loadMillis.set(0);
+        savedMillis.set(0);
+    }
+
+    /**
+     * Get loads, reuses and the navigations and time reuse saved
+     * @return Report text, or null when the fixture was not used
+     */
+    public String getReport() {
+        if (loads.get() == 0) {
+            return null;
+        }
+        return String.format("Leaders fixture: %d load(s) taking %.1fs, %d reuse(s), %d invalidation(s)%n"
+                        + "Saved: %d leaders page navigation(s), %.1fs",
+                loads.get(), loadMillis.get() / 1000.0, reuses.get(), invalidations.get(),
+                reuses.get(), savedMillis.get() / 1000.0);
+    }
+
+    public int getLoadCount() { return loads.get(); }
+
+    public int getReuseCount() { return reuses.get(); }
+
+    private String reloadReason(int count) {
+        if (data == null) {
+            return "not loaded";
+        }
+        if (System.currentTimeMillis() - data.getLoadedAtMillis() > ttlMillis) {
+            return "older than " + TimeUnit.MILLISECONDS.toSeconds(ttlMillis) + "s";
+        }
+        if (count > dataCount) {
+            return count + " leaders requested, last load asked for " + dataCount;
+        }
+        return null;
+    }
+
+    /**
+     * Wait for another test's load of the leaders page
+     * @param load Load in progress
+     * @return Loaded data
+     */
+    private static LeadersData await(CompletableFuture<LeadersData> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Load the leaders page and read the top players and their page URLs
+     * @param driver Browser to load the page with
+     * @param count Number of leaders
+     * @return Loaded data
+     */
+    private static LeadersData loadFromLeadersPage(WebDriver driver, int count) {
+        long startTime = System.currentTimeMillis();
+        LeadersPage leadersPage = new LeadersPage(driver);
+        leadersPage.navigateToLeadersPage();
+
+        List<Player> players = leadersPage.getTopPlayersWithAllStats(count);
+        Map<String, String> playerUrls = leadersPage.getLeaderPlayerUrls(count);
+        return new LeadersData(players, playerUrls, System.currentTimeMillis() - startTime, startTime);
+    }
+}
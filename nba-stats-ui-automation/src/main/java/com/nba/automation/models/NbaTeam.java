@@ -0,0 +1,146 @@
+package com.nba.automation.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Identity of the 30 NBA franchises
+ * Holds the stats.nba.com team ID, names used across the site, conference and division
+ */
+public enum NbaTeam {
+    // Eastern Conference - Atlantic
+    BOS(1610612738L, "Boston", "Celtics", "Boston Celtics", Division.ATLANTIC),
+    BKN(1610612751L, "Brooklyn", "Nets", "Brooklyn Nets", Division.ATLANTIC, "BRK", "NJN"),
+    NYK(1610612752L, "New York", "Knicks", "New York Knicks", Division.ATLANTIC, "NY"),
+    PHI(1610612755L, "Philadelphia", "76ers", "Philadelphia 76ers", Division.ATLANTIC, "Sixers", "Philadelphia Sixers"),
+    TOR(1610612761L, "Toronto", "Raptors", "Toronto Raptors", Division.ATLANTIC),
+
+    // Eastern Conference - Central
+    CHI(1610612741L, "Chicago", "Bulls", "Chicago Bulls", Division.CENTRAL),
+    CLE(1610612739L, "Cleveland", "Cavaliers", "Cleveland Cavaliers", Division.CENTRAL, "Cavs"),
+    DET(1610612765L, "Detroit", "Pistons", "Detroit Pistons", Division.CENTRAL),
+    IND(1610612754L, "Indiana", "Pacers", "Indiana Pacers", Division.CENTRAL),
+    MIL(1610612749L, "Milwaukee", "Bucks", "Milwaukee Bucks", Division.CENTRAL),
+
+    // Eastern Conference - Southeast
+    ATL(1610612737L, "Atlanta", "Hawks", "Atlanta Hawks", Division.SOUTHEAST),
+    CHA(1610612766L, "Charlotte", "Hornets", "Charlotte Hornets", Division.SOUTHEAST, "CHO"),
+    MIA(1610612748L, "Miami", "Heat", "Miami Heat", Division.SOUTHEAST),
+    ORL(1610612753L, "Orlando", "Magic", "Orlando Magic", Division.SOUTHEAST),
+    WAS(1610612764L, "Washington", "Wizards", "Washington Wizards", Division.SOUTHEAST, "WSH"),
+
+    // Western Conference - Northwest
+    DEN(1610612743L, "Denver", "Nuggets", "Denver Nuggets", Division.NORTHWEST),
+    MIN(1610612750L, "Minnesota", "Timberwolves", "Minnesota Timberwolves", Division.NORTHWEST, "Wolves", "T-Wolves"),
+    OKC(1610612760L, "Oklahoma City", "Thunder", "Oklahoma City Thunder", Division.NORTHWEST),
+    POR(1610612757L, "Portland", "Trail Blazers", "Portland Trail Blazers", Division.NORTHWEST, "Blazers"),
+    UTA(1610612762L, "Utah", "Jazz", "Utah Jazz", Division.NORTHWEST, "UTH"),
+
+    // Western Conference - Pacific
+    GSW(1610612744L, "Golden State", "Warriors", "Golden State Warriors", Division.PACIFIC, "GS"),
+    // Both Los Angeles teams claim the city names, which leaves "LA" and "Los Angeles" alone unresolved
+    LAC(1610612746L, "LA", "Clippers", "LA Clippers", Division.PACIFIC, "Los Angeles Clippers", "Los Angeles"),
+    LAL(1610612747L, "Los Angeles", "Lakers", "Los Angeles Lakers", Division.PACIFIC, "LA Lakers", "LA"),
+    PHX(1610612756L, "Phoenix", "Suns", "Phoenix Suns", Division.PACIFIC, "PHO"),
+    SAC(1610612758L, "Sacramento", "Kings", "Sacramento Kings", Division.PACIFIC),
+
+    // Western Conference - Southwest
+    DAL(1610612742L, "Dallas", "Mavericks", "Dallas Mavericks", Division.SOUTHWEST, "Mavs"),
+    HOU(1610612745L, "Houston", "Rockets", "Houston Rockets", Division.SOUTHWEST),
+    MEM(1610612763L, "Memphis", "Grizzlies", "Memphis Grizzlies", Division.SOUTHWEST, "Grizz"),
+    NOP(1610612740L, "New Orleans", "Pelicans", "New Orleans Pelicans", Division.SOUTHWEST, "NO", "NOLA", "Pels"),
+    SAS(1610612759L, "San Antonio", "Spurs", "San Antonio Spurs", Division.SOUTHWEST, "SA");
+
+    /**
+     * NBA conferences
+     */
+    public enum Conference {
+        EASTERN("Eastern"),
+        WESTERN("Western");
+
+        private final String displayName;
+
+        Conference(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    /**
+     * NBA divisions and the conference each belongs to
+     */
+    public enum Division {
+        ATLANTIC(Conference.EASTERN),
+        CENTRAL(Conference.EASTERN),
+        SOUTHEAST(Conference.EASTERN),
+        NORTHWEST(Conference.WESTERN),
+        PACIFIC(Conference.WESTERN),
+        SOUTHWEST(Conference.WESTERN);
+
+        private final Conference conference;
+
+        Division(Conference conference) {
+            this.conference = conference;
+        }
+
+        public Conference getConference() { return conference; }
+    }
+
+    private final long id;
+    private final String city;
+    private final String nickname;
+    private final String fullName;
+    private final Division division;
+    private final List<String> aliases;
+
+    /**
+     * Constructor
+     * @param id stats.nba.com team ID
+     * @param city City or region as written on the site
+     * @param nickname Team nickname
+     * @param fullName Full team name as shown in the stats tables
+     * @param division Division
+     * @param aliases Other names and abbreviations seen in the wild
+     */
+    NbaTeam(long id, String city, String nickname, String fullName, Division division, String... aliases) {
+        this.id = id;
+        this.city = city;
+        this.nickname = nickname;
+        this.fullName = fullName;
+        this.division = division;
+        this.aliases = Collections.unmodifiableList(Arrays.asList(aliases));
+    }
+
+    public long getId() { return id; }
+
+    public String getAbbreviation() { return name(); }
+
+    public String getCity() { return city; }
+
+    public String getNickname() { return nickname; }
+
+    public String getFullName() { return fullName; }
+
+    public Division getDivision() { return division; }
+
+    public Conference getConference() { return division.getConference(); }
+
+    public List<String> getAliases() { return aliases; }
+
+    /**
+     * Get every name this team can be referred to by
+     * @return Full name, abbreviation, nickname, city and aliases
+     */
+    public List<String> getAllNames() {
+        List<String> names = new ArrayList<>();
+        names.add(fullName);
+        names.add(name());
+        names.add(nickname);
+        names.add(city);
+        names.addAll(aliases);
+        return names;
+    }
+}
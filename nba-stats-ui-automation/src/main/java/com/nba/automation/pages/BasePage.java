@@ -3,27 +3,35 @@ package com.nba.automation.pages;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.PageFactory;
 import com.nba.automation.config.ConfigManager;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import com.nba.automation.utils.TableRow;
+import com.nba.automation.utils.WaitHelper;
 
-import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Base page class containing common functionality
  * All page objects should extend this class
+ * Reads go to the live browser, or to a PageSnapshot of the DOM after useSnapshot() (or with
+ * page.read.mode=snapshot, taken automatically once a page is ready)
  */
 public abstract class BasePage {
+    private static final By COOKIE_ACCEPT_BUTTON = By.xpath("//*[contains(@id,'accept')]");
+
     protected WebDriver driver;
     protected ConfigManager config;
+    protected PageSnapshot snapshot;
 
     /**
      * Constructor to initialize page elements
-     * @param driver WebDriver instance
+     * @param driver WebDriver instance, or null for a page object reading a loaded snapshot offline
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.config = ConfigManager.getInstance();
-        PageFactory.initElements(driver, this);
+        if (driver != null) {
+            PageFactory.initElements(driver, this);
+        }
     }
 
     /**
@@ -31,39 +39,107 @@ public abstract class BasePage {
      * @param url Target URL
      */
     protected void navigateTo(String url) {
+        snapshot = null;
         driver.get(url);
     }
 
+    /**
+     * Navigate to a leaders page and accept the cookie banner if it shows up
+     * @param url Target URL
+     */
     protected void navigateToLeaderPage(String url) {
+        snapshot = null;
         driver.get(url);
-        try {
-            try {
-                explicit_wait(driver.findElement(By.xpath("//*[contains(@id,'accept')]"))).click();
-            } catch (NoSuchElementException e) {
-                // Element not found within 3 seconds — safely ignore
-                System.out.println("Element not found or not clickable: " + By.xpath("//*[contains(@id,'accept')]"));
-            }
-        } catch (Exception e) {
-            System.out.println("Element not found or not clickable: " + By.xpath("//*[contains(@id,'accept')]"));
+        clickIfPresent(COOKIE_ACCEPT_BUTTON);
+    }
+
+    /**
+     * Switch to snapshot mode: capture the DOM once, later reads run against it in-process
+     * Call after the page is ready; navigating away switches back to live mode
+     * @return Captured snapshot
+     */
+    public PageSnapshot useSnapshot() {
+        snapshot = PageSnapshot.capture(driver);
+        System.out.println("Page snapshot captured in " + snapshot.getCaptureMillis() + "ms: " + snapshot.getUrl());
+        return snapshot;
+    }
+
+    /**
+     * Switch to snapshot mode on an existing snapshot, e.g. one loaded from a failure artifact
+     * @param snapshot Snapshot to read from
+     */
+    public void useSnapshot(PageSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Switch back to reading from the live browser
+     */
+    public void useLive() {
+        snapshot = null;
+    }
+
+    /**
+     * Check whether reads run against a snapshot
+     * @return true in snapshot mode
+     */
+    public boolean isSnapshotMode() {
+        return snapshot != null;
+    }
+
+    public PageSnapshot getSnapshot() { return snapshot; }
+
+    /**
+     * Take a snapshot if page.read.mode=snapshot; called by page objects once their ready-condition holds
+     */
+    protected void onPageReady() {
+        if (config.getEnum("page.read.mode", PageSnapshot.Mode.LIVE) == PageSnapshot.Mode.SNAPSHOT) {
+            useSnapshot();
+        }
+    }
+
+    /**
+     * Read trimmed text of an element from the snapshot or the live page
+     * @param locator Element locator
+     * @return Element text
+     */
+    protected String readText(By locator) {
+        if (isSnapshotMode()) {
+            return snapshot.getText(locator);
         }
+        return WaitHelper.waitForElementToBeVisible(driver, locator).getText().trim();
     }
 
+    /**
+     * Read table rows from the snapshot or, column by column in batches, from the live page
+     * @param tableLocator Locator of the table or of a container holding it
+     * @param maxRows Maximum number of rows, or -1 for all rows
+     * @param columns Header names the caller reads (live mode fetches only these)
+     * @return Rows in table order
+     */
+    protected Stream<TableRow> readRows(By tableLocator, int maxRows, String... columns) {
+        if (isSnapshotMode()) {
+            return snapshot.getTable(tableLocator, maxRows).getRows().stream();
+        }
+        return new StatsTable(driver, tableLocator).rows(maxRows, columns);
+    }
+
+    /**
+     * Click an optional element if it appears within the probe budget
+     * @param locator Element locator
+     */
     public void clickIfPresent(By locator) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(3));
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            element.click();
-            System.out.println("Element clicked: " + locator);
-        } catch (TimeoutException | NoSuchElementException e) {
-            // Element not found within 3 seconds — safely ignore
-            System.out.println("Element not found or not clickable: " + locator);
-        } catch (Exception e) {
+            Optional<WebElement> element = WaitHelper.probe(driver, locator);
+            if (element.isPresent()) {
+                element.get().click();
+                System.out.println("Element clicked: " + locator);
+            } else {
+                // Element not found within the probe budget — safely ignore
+                System.out.println("Element not found or not clickable: " + locator);
+            }
+        } catch (WebDriverException e) {
             System.out.println("Unexpected exception: " + e.getMessage());
         }
     }
-
-    private WebElement explicit_wait(WebElement elem) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
-        return wait.until(ExpectedConditions.visibilityOf(elem));
-    }
 }
\ No newline at end of file
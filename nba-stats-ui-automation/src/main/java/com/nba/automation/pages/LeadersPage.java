@@ -2,14 +2,14 @@ package com.nba.automation.pages;
 
 import org.openqa.selenium.*;
 import com.nba.automation.models.Player;
+import com.nba.automation.utils.StatsRowMapper;
 import com.nba.automation.utils.WaitHelper;
 import io.qameta.allure.Step;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object for NBA Leaders page
@@ -22,13 +22,6 @@ public class LeadersPage extends BasePage {
 
     // Locators for leaders elements
     private static final By LEADERS_TABLE = By.xpath("//*[contains(@class,'nba-stats')]//*[contains(@class,'crom-container')]");
-    private static final By PLAYER_ROWS = By.cssSelector("tbody tr");
-    private static final By PLAYER_NAME_CELL = By.cssSelector("td:nth-child(2) a");
-    private static final By PLAYER_TEAM_CELL = By.cssSelector("td:nth-child(3)");
-    private static final By POINTS_STAT_VALUE_CELL = By.cssSelector("td:nth-child(6)");
-    private static final By ASSISTS_STAT_VALUE_CELL = By.cssSelector("td:nth-child(19)");
-    private static final By REBOUND_STAT_VALUE_CELL = By.cssSelector("td:nth-child(18)");
-    private static final By PLAYER_LINK = By.cssSelector("td:nth-child(2) a");
 
     /**
      * Constructor
@@ -49,6 +42,7 @@ public class LeadersPage extends BasePage {
         // Wait for leaders tables to load
         WaitHelper.waitForElementToBeVisible(driver, LEADERS_TABLE);
         System.out.println("Leader Page loaded successfully...");
+        onPageReady();
     }
 
     /**
@@ -70,63 +64,24 @@ public class LeadersPage extends BasePage {
         List<Player> players = new ArrayList<>();
 
         // Wait for table to be visible
-        WaitHelper.waitForElementToBeVisible(driver, tableLocator);
-
-        // Get table rows
-        WebElement table = driver.findElement(tableLocator);
-        List<WebElement> rows = table.findElements(PLAYER_ROWS);
-
-        // Limit to requested count
-        int playersToProcess = Math.min(count, rows.size());
+        if (!isSnapshotMode()) {
+            WaitHelper.waitForElementToBeVisible(driver, tableLocator);
+        }
 
-        for (int i = 0; i < playersToProcess; i++) {
-            WebElement row = rows.get(i);
+        // Read only the columns a Player needs, for the requested rows
+        readRows(tableLocator, count, StatsRowMapper.PLAYER_COLUMNS).forEach(row -> {
             try {
-                // Extract player data from each row
-                String playerName = row.findElement(PLAYER_NAME_CELL).getText().trim();
-                String teamName = row.findElement(PLAYER_TEAM_CELL).getText().trim();
-                String pointsStatValueText = row.findElement(POINTS_STAT_VALUE_CELL).getText().trim();
-                String assistsStatValueText = row.findElement(ASSISTS_STAT_VALUE_CELL).getText().trim();
-                String reboundStatValueText = row.findElement(REBOUND_STAT_VALUE_CELL).getText().trim();
-
-                // Parse stat value
-                double pointsStatValue = Double.parseDouble(pointsStatValueText);
-                double assistsStatValue = Double.parseDouble(assistsStatValueText);
-                double reboundStatValue = Double.parseDouble(reboundStatValueText);
-
-                // Create player object with appropriate stat
-                Player player = new Player();
-                player.setName(playerName);
-                player.setTeam(teamName);
-                player.setPointsPerGame(pointsStatValue);
-                player.setAssistsPerGame(assistsStatValue);
-                player.setReboundsPerGame(reboundStatValue);
-
-                players.add(player);
-
+                // Map columns by header name to a player object
+                players.add(StatsRowMapper.toPlayer(row));
             } catch (Exception e) {
                 // Log error and continue with next row
                 System.err.println("Error parsing player data from leaders row: " + e.getMessage());
             }
-        }
+        });
 
         return players;
     }
 
-    public void clickIfPresent(By locator) {
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(3));
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            element.click();
-            System.out.println("Element clicked: " + locator);
-        } catch (TimeoutException | NoSuchElementException e) {
-            // Element not found within 3 seconds — safely ignore
-            System.out.println("Element not found or not clickable: " + locator);
-        } catch (Exception e) {
-            System.out.println("Unexpected exception: " + e.getMessage());
-        }
-    }
-
     /**
      * Get combined top 3 players with all stats
      * This method combines data from all three leader tables
@@ -134,15 +89,25 @@ public class LeadersPage extends BasePage {
      */
     @Step("Get top 3 players with combined statistics")
     public List<Player> getTop3PlayersWithAllStats() {
+        return getTopPlayersWithAllStats(3);
+    }
+
+    /**
+     * Get combined top players with all stats
+     * @param count Number of leaders to read
+     * @return List of top players with complete stats, in leader order
+     */
+    @Step("Get top {count} players with combined statistics")
+    public List<Player> getTopPlayersWithAllStats(int count) {
 
         System.out.println("Leadership Stats");
 
-        List<Player> pointsLeaders = getTop3Leaders();
+        List<Player> pointsLeaders = getTopPlayersFromTable(LEADERS_TABLE, count);
 
-        // Create combined player objects (this assumes the same top 3 players)
+        // Create combined player objects (this assumes the same top players)
         List<Player> combinedPlayers = new ArrayList<>();
 
-        for (int i = 0; i < Math.min(3, pointsLeaders.size()); i++) {
+        for (int i = 0; i < Math.min(count, pointsLeaders.size()); i++) {
             Player pointsPlayer = pointsLeaders.get(i);
             Player combinedPlayer = new Player();
 
@@ -165,6 +130,15 @@ public class LeadersPage extends BasePage {
         return combinedPlayers;
     }
 
+    /**
+     * Get a crawler over the whole leaderboard, every page rather than the top rows
+     * Stream players with crawler.records(StatsRowMapper::toPlayer, StatsRowMapper.PLAYER_COLUMNS)
+     * @return Crawler of the leaders table
+     */
+    public TableCrawler crawlLeaders() {
+        return new TableCrawler(driver, LEADERS_TABLE);
+    }
+
     /**
      * Get player page URL from leaders table
      * @param playerName Player name to find
@@ -173,44 +147,41 @@ public class LeadersPage extends BasePage {
     @Step("Get player page URL for: {playerName}")
     public String getPlayerPageUrl(String playerName) {
 
-        // Search for player in points leaders table first
-        WebElement table = driver.findElement(LEADERS_TABLE);
-        List<WebElement> rows = table.findElements(PLAYER_ROWS);
+        // Search the player column only; batches stop once the player is found
+        return readRows(LEADERS_TABLE, -1, StatsRowMapper.PLAYER_COLUMN)
+                .filter(row -> playerName.equals(row.getText(StatsRowMapper.PLAYER_COLUMN)))
+                .map(row -> row.getLink(StatsRowMapper.PLAYER_COLUMN))
+                .findFirst()
+                .orElse(null); // Player not found
+    }
 
-        for (WebElement row : rows) {
-            try {
-                WebElement nameCell = row.findElement(PLAYER_NAME_CELL);
-                if (nameCell.getText().trim().equals(playerName)) {
-                    WebElement playerLink = row.findElement(PLAYER_LINK);
-                    return playerLink.getAttribute("href");
-                }
-            } catch (Exception e) {
-                // Continue searching
-            }
+    /**
+     * Get page URLs of the top leaders in table order
+     * @param count Number of leaders to read
+     * @return Player name to player page URL, in leader order
+     */
+    @Step("Get player page URLs for top {count} leaders")
+    public Map<String, String> getLeaderPlayerUrls(int count) {
+        Map<String, String> playerUrls = new LinkedHashMap<>();
+
+        if (!isSnapshotMode()) {
+            WaitHelper.waitForElementToBeVisible(driver, LEADERS_TABLE);
         }
+        readRows(LEADERS_TABLE, count, StatsRowMapper.PLAYER_COLUMN).forEach(row -> {
+            String playerUrl = row.getLink(StatsRowMapper.PLAYER_COLUMN);
+            if (playerUrl != null) {
+                playerUrls.put(row.getText(StatsRowMapper.PLAYER_COLUMN), playerUrl);
+            }
+        });
 
-        return null; // Player not found
+        return playerUrls;
     }
 
     @Step("Get player page URL for: {playerName}")
     public WebElement getPlayerPageUrlLink(String playerName) {
 
-        // Search for player in points leaders table first
-        WebElement table = driver.findElement(LEADERS_TABLE);
-        List<WebElement> rows = table.findElements(PLAYER_ROWS);
-
-        for (WebElement row : rows) {
-            try {
-                WebElement nameCell = row.findElement(PLAYER_NAME_CELL);
-                if (nameCell.getText().trim().equals(playerName)) {
-                    WebElement playerLink = row.findElement(PLAYER_LINK);
-                    return playerLink;
-                }
-            } catch (Exception e) {
-                // Continue searching
-            }
-        }
-
-        return null; // Player not found
+        // Player names are the only links in the table carrying the name as their text
+        List<WebElement> links = driver.findElement(LEADERS_TABLE).findElements(By.linkText(playerName));
+        return links.isEmpty() ? null : links.get(0); // null if player not found
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.nba.automation.pages;
+
+import com.nba.automation.config.EnumSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Enum settings of the NBA page objects, validated with every configuration snapshot
+ * Read with ConfigManager.getEnum(key, default) using the same defaults
+ */
+public class PageEnumSettings implements EnumSettings {
+
+    @Override
+    public Map<String, Enum<?>> getDefaults() {
+        Map<String, Enum<?>> defaults = new LinkedHashMap<>();
+        defaults.put("page.read.mode", PageSnapshot.Mode.LIVE);
+        defaults.put("fanout.mode", PlayerPageFanOut.Mode.TABS);
+        return defaults;
+    }
+}
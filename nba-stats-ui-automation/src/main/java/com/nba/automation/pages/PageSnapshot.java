@@ -0,0 +1,197 @@
+package com.nba.automation.pages;
+
+import com.nba.automation.utils.TableData;
+import com.nba.automation.utils.WaitHelper;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTML dump of a rendered page, queried in-process with jsoup
+ * One outerHTML transfer replaces a driver round-trip per locator. Snapshots can be saved as a failure
+ * artifact and loaded again to re-run page object reads offline
+ */
+public class PageSnapshot {
+
+    // Snapshot taken last on each test thread, attached to the report when the test fails
+    private static final ThreadLocal<PageSnapshot> LATEST = new ThreadLocal<>();
+
+    private final String url;
+    private final String html;
+    private final Document document;
+    private final long captureMillis;
+
+    /**
+     * Constructor, parses the HTML
+     * @param url Page URL, used to resolve relative links
+     * @param html Page HTML
+     * @param captureMillis Time spent transferring the HTML from the browser
+     */
+    public PageSnapshot(String url, String html, long captureMillis) {
+        this.url = url;
+        this.html = html;
+        this.captureMillis = captureMillis;
+        this.document = Jsoup.parse(html, url == null ? "" : url);
+    }
+
+    /**
+     * Capture the current DOM of the browser in one round-trip
+     * @param driver WebDriver instance
+     * @return Parsed snapshot
+     */
+    public static PageSnapshot capture(WebDriver driver) {
+        long startTime = System.currentTimeMillis();
+        String html = (String) ((JavascriptExecutor) driver).executeScript("return document.documentElement.outerHTML;");
+        PageSnapshot snapshot = new PageSnapshot(driver.getCurrentUrl(), html, System.currentTimeMillis() - startTime);
+        LATEST.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Load a snapshot saved by save()
+     * @param file Saved HTML file
+     * @param url Original page URL, used to resolve relative links
+     * @return Parsed snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static PageSnapshot load(Path file, String url) throws IOException {
+        return new PageSnapshot(url, new String(Files.readAllBytes(file), StandardCharsets.UTF_8), 0);
+    }
+
+    /**
+     * Get the snapshot taken last on the current test thread
+     * @return Snapshot, or null if none was taken
+     */
+    public static PageSnapshot latest() {
+        return LATEST.get();
+    }
+
+    /**
+     * Forget the snapshot remembered for the current test thread
+     */
+    public static void clearLatest() {
+        LATEST.remove();
+    }
+
+    /**
+     * Save the HTML, e.g. to re-run assertions offline
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Files.write(file, html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Find all elements matching a Selenium locator
+     * @param locator CSS, XPath, id, name, class name or tag name locator
+     * @return Matching elements in document order
+     */
+    public Elements findAll(By locator) {
+        String[] query = WaitHelper.toJsLocator(locator);
+        if (query == null) {
+            throw new IllegalArgumentException("Locator cannot be evaluated on a snapshot: " + locator);
+        }
+        return "xpath".equals(query[0]) ? document.selectXpath(query[1]) : document.select(query[1]);
+    }
+
+    /**
+     * Find the first element matching a Selenium locator
+     * @param locator Element locator
+     * @return First match
+     * @throws IllegalStateException if nothing matches
+     */
+    public Element find(By locator) {
+        Elements elements = findAll(locator);
+        if (elements.isEmpty()) {
+            throw new IllegalStateException("Element not found in page snapshot: " + locator);
+        }
+        return elements.first();
+    }
+
+    /**
+     * Check whether any element matches a locator
+     * @param locator Element locator
+     * @return true if present
+     */
+    public boolean isPresent(By locator) {
+        return !findAll(locator).isEmpty();
+    }
+
+    /**
+     * Get trimmed text of the first element matching a locator
+     * @param locator Element locator
+     * @return Element text
+     */
+    public String getText(By locator) {
+        return find(locator).text().trim();
+    }
+
+    /**
+     * Read the first rows of a table the same way StatsTable reads it from the live page
+     * @param tableLocator Locator of the table or of a container holding it
+     * @param maxRows Maximum number of body rows to read, or -1 for all rows
+     * @return Table data
+     */
+    public TableData getTable(By tableLocator, int maxRows) {
+        Element root = find(tableLocator);
+        Element table = "table".equals(root.tagName()) ? root : root.selectFirst("table");
+        if (table == null) {
+            throw new IllegalStateException("No table found in page snapshot for " + tableLocator);
+        }
+
+        // Step 1: Header cells of the last header row
+        List<String> headers = new ArrayList<>();
+        Elements headerRows = table.select("thead tr");
+        if (!headerRows.isEmpty()) {
+            for (Element cell : headerRows.last().select("th, td")) {
+                headers.add(cell.text().trim());
+            }
+        }
+
+        // Step 2: Body cell text and link targets
+        Elements bodyRows = table.select("tbody tr");
+        int count = maxRows < 0 ? bodyRows.size() : Math.min(maxRows, bodyRows.size());
+        List<List<String>> rows = new ArrayList<>(count);
+        List<List<String>> links = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            List<String> values = new ArrayList<>();
+            List<String> hrefs = new ArrayList<>();
+            for (Element cell : bodyRows.get(r).select("td")) {
+                values.add(cell.text().trim());
+                Element anchor = cell.selectFirst("a[href]");
+                hrefs.add(anchor == null ? null : anchor.absUrl("href"));
+            }
+            rows.add(values);
+            links.add(hrefs);
+        }
+        return new TableData(headers, rows, links);
+    }
+
+    public String getUrl() { return url; }
+
+    public String getHtml() { return html; }
+
+    public long getCaptureMillis() { return captureMillis; }
+
+    /**
+     * Where page objects read from
+     */
+    public enum Mode {
+        // Query the browser for every read
+        LIVE,
+        // Capture the DOM once when the page is ready and read it in-process
+        SNAPSHOT
+    }
+}
@@ -0,0 +1,20 @@
+package com.nba.automation.pages;
+
+import com.nba.automation.config.TypedSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Numeric settings of the NBA page objects, validated with every configuration snapshot
+ * Read with ConfigManager.getInt(key)
+ */
+public class PageTypedSettings implements TypedSettings {
+
+    @Override
+    public Map<String, Object> getDefaults() {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("fanout.concurrency", 8);
+        return defaults;
+    }
+}
@@ -6,12 +6,13 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import com.nba.automation.models.Player;
+import com.nba.automation.performance.BrowserTimingCollector;
+import com.nba.automation.performance.PageTimings;
+import com.nba.automation.utils.StatsRowMapper;
 import com.nba.automation.utils.WaitHelper;
 import io.qameta.allure.Step;
 import org.openqa.selenium.interactions.Actions;
 
-import java.util.ArrayList;
-
 /**
  * Page Object for individual NBA Player pages
  * Handles interactions with player statistics and information
@@ -21,11 +22,14 @@ public class PlayerPage extends BasePage {
     // Locators for player page elements
     private static final By PLAYER_NAME_HEADER = By.cssSelector("h1.PlayerSummary_playerNameText___MhqC");
     private static final By PLAYER_TEAM_INFO = By.cssSelector("h1.PlayerSummary_playerNameText___MhqC");
-    private static final By TRADITIONAL_STATS_TABLE = By.cssSelector("table.Crom_table__p1iZz");
-    private static final By STATS_ROWS = By.cssSelector("tbody tr");
-    private static final By POINTS_CELL = By.cssSelector("td:nth-child(4)"); // PPG column
-    private static final By ASSISTS_CELL = By.cssSelector("td:nth-child(17)"); // APG column
-    private static final By REBOUNDS_CELL = By.cssSelector("td:nth-child(16)"); // RPG column
+    private static final String TRADITIONAL_STATS_TABLE_CSS = "table.Crom_table__p1iZz";
+    private static final By TRADITIONAL_STATS_TABLE = By.cssSelector(TRADITIONAL_STATS_TABLE_CSS);
+
+    // Game-by-game box scores, relative to the player page URL
+    private static final String GAME_LOG_PATH = "boxscores-traditional/";
+
+    // Performance mark set in the page when the stats table first becomes visible
+    public static final String STATS_TABLE_VISIBLE_MARK = "stats-table-visible";
 
     /**
      * Constructor
@@ -41,7 +45,12 @@ public class PlayerPage extends BasePage {
      */
     @Step("Navigate to player page: {playerUrl}")
     public void navigateToPlayerPage(String playerUrl) {
+        // Record when the stats table first appears, measured by the browser itself from the start of the document
+        String markScript = BrowserTimingCollector.prepareVisibilityMark(driver, TRADITIONAL_STATS_TABLE_CSS,
+                STATS_TABLE_VISIBLE_MARK);
         navigateTo(playerUrl);
+        BrowserTimingCollector.completeVisibilityMark(driver, markScript, TRADITIONAL_STATS_TABLE_CSS,
+                STATS_TABLE_VISIBLE_MARK);
 
         // Wait for player name header to load
         WaitHelper.waitForElementToBeVisible(driver, PLAYER_NAME_HEADER);
@@ -59,6 +68,17 @@ public class PlayerPage extends BasePage {
         System.out.println("Player link opened successfully");
     }
 
+    /**
+     * Navigate to a player's game log and get a crawler over all its games
+     * @param playerUrl Player page URL
+     * @return Crawler of the game log table
+     */
+    @Step("Open game log of player: {playerUrl}")
+    public TableCrawler crawlGameLog(String playerUrl) {
+        navigateTo(playerUrl.endsWith("/") ? playerUrl + GAME_LOG_PATH : playerUrl + "/" + GAME_LOG_PATH);
+        return new TableCrawler(driver, TRADITIONAL_STATS_TABLE);
+    }
+
     /**
      * Wait for stats section to load completely
      * @return Time taken to load stats section in milliseconds
@@ -74,14 +94,22 @@ public class PlayerPage extends BasePage {
         return endTime - startTime;
     }
 
+    /**
+     * Collect browser-side timing breakdown of the current player page
+     * @return Navigation, paint and stats-table-visible timings with bytes transferred
+     */
+    @Step("Collect browser timing for player page")
+    public PageTimings getPageTimings() {
+        return BrowserTimingCollector.collect(driver, STATS_TABLE_VISIBLE_MARK);
+    }
+
     /**
      * Get player name from header
      * @return Player name
      */
     @Step("Get player name from header")
     public String getPlayerName() {
-        WebElement nameHeader = WaitHelper.waitForElementToBeVisible(driver, PLAYER_NAME_HEADER);
-        return nameHeader.getText().trim();
+        return readText(PLAYER_NAME_HEADER);
     }
 
     /**
@@ -90,52 +118,32 @@ public class PlayerPage extends BasePage {
      */
     @Step("Get player team information")
     public String getPlayerTeam() {
-        WebElement teamInfo = WaitHelper.waitForElementToBeVisible(driver, PLAYER_TEAM_INFO);
-        return teamInfo.getText().trim();
+        return readText(PLAYER_TEAM_INFO);
     }
 
     /**
-     * Get player statistics from traditional stats table
+     * Get player statistics from traditional stats table of the current window
+     * Callers loading several players select the window (or session) first, see PlayerPageFanOut
      * @return Player object with current season stats
      */
     @Step("Extract player statistics from stats table")
-    public Player getPlayerStats(int i, Player leaderPlayer) {
-
-        ArrayList<String> tabs = new ArrayList<>(driver.getWindowHandles());
-
-        for (int j=1;j<=3;j++) {
-            driver.switchTo().window(tabs.get(j));
-            if (driver.getTitle().contains(leaderPlayer.getName())) {
-                break;
-            }
-            else {
-                continue;
-            }
-        }
+    public Player getPlayerStats() {
 
-        // Wait for stats table to be visible
-        WaitHelper.waitForElementToBeVisible(driver, TRADITIONAL_STATS_TABLE);
+        // Wait for stats table to be visible; the page is ready for a snapshot from here
+        if (!isSnapshotMode()) {
+            WaitHelper.waitForElementToBeVisible(driver, TRADITIONAL_STATS_TABLE);
+            onPageReady();
+        }
 
         Player player = new Player();
         player.setName(getPlayerName());
         player.setTeam(getPlayerTeam());
 
         try {
-            // Get stats table
-            WebElement statsTable = driver.findElement(TRADITIONAL_STATS_TABLE);
-
-            // Get the first row (current season stats)
-            WebElement firstRow = statsTable.findElement(STATS_ROWS);
-
-            // Extract statistical values
-            String pointsText = firstRow.findElement(POINTS_CELL).getText().trim();
-            String assistsText = firstRow.findElement(ASSISTS_CELL).getText().trim();
-            String reboundsText = firstRow.findElement(REBOUNDS_CELL).getText().trim();
-
-            // Parse and set stats
-            player.setPointsPerGame(Double.parseDouble(pointsText));
-            player.setAssistsPerGame(Double.parseDouble(assistsText));
-            player.setReboundsPerGame(Double.parseDouble(reboundsText));
+            // First row holds the current season; read only the PTS, AST and REB cells
+            readRows(TRADITIONAL_STATS_TABLE, 1, StatsRowMapper.PLAYER_STATS_COLUMNS)
+                    .findFirst()
+                    .ifPresent(row -> StatsRowMapper.toPlayerStats(row, player));
 
         } catch (Exception e) {
             System.err.println("Error parsing player stats: " + e.getMessage());
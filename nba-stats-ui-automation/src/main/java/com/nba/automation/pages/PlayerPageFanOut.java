@@ -0,0 +1,267 @@
+package com.nba.automation.pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.models.Player;
+import com.nba.automation.utils.DriverPool;
+import com.nba.automation.utils.WaitPolicy;
+import io.qameta.allure.Step;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads many player pages concurrently and extracts their stats
+ * Pages load in parallel either as tabs of the current session or in separate pooled sessions;
+ * results always come back in the order of the given URLs
+ */
+public class PlayerPageFanOut {
+
+    /**
+     * Where the player pages are loaded
+     */
+    public enum Mode {
+        // Background tabs of the calling session, stats read tab by tab once loaded
+        TABS,
+        // Pooled browser sessions free at the time of the call, read by one worker thread each
+        SESSIONS
+    }
+
+    private final WebDriver driver;
+    private final ConfigManager config;
+
+    /**
+     * Constructor
+     * @param driver WebDriver of the calling test, used for TABS mode
+     */
+    public PlayerPageFanOut(WebDriver driver) {
+        this.driver = driver;
+        this.config = ConfigManager.getInstance();
+    }
+
+    /**
+     * Load player pages using the configured mode and concurrency
+     * @param playerUrls Player page URLs in leader order
+     * @return One result per URL, in the same order
+     */
+    public List<Result> loadAll(List<String> playerUrls) {
+        return loadAll(playerUrls, config.getEnum("fanout.mode", Mode.TABS),
+                config.getInt("fanout.concurrency"));
+    }
+
+    /**
+     * Load player pages concurrently and extract their stats
+     * @param playerUrls Player page URLs in leader order
+     * @param mode TABS or SESSIONS
+     * @param maxConcurrency Maximum number of pages loading at the same time
+     * @return One result per URL, in the same order
+     */
+    @Step("Load player pages concurrently ({mode}, up to {maxConcurrency} at a time)")
+    public List<Result> loadAll(List<String> playerUrls, Mode mode, int maxConcurrency) {
+        int concurrency = Math.max(1, maxConcurrency);
+
+        if (mode == Mode.SESSIONS && !config.isSessionPoolEnabled()) {
+            System.out.println("Session pool disabled, loading player pages in tabs instead");
+            mode = Mode.TABS;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<Result> results = mode == Mode.SESSIONS
+                ? loadInSessions(playerUrls, concurrency)
+                : loadInTabs(playerUrls, concurrency);
+
+        System.out.println(String.format("Loaded %d player page(s) in %s mode in %dms",
+                playerUrls.size(), mode, System.currentTimeMillis() - startTime));
+        return results;
+    }
+
+    /**
+     * Open each wave of URLs in new tabs without waiting, then read the tabs by handle
+     * @param playerUrls Player page URLs
+     * @param concurrency Tabs open at the same time
+     * @return Results in URL order
+     */
+    private List<Result> loadInTabs(List<String> playerUrls, int concurrency) {
+        List<Result> results = new ArrayList<>();
+        String originalHandle = driver.getWindowHandle();
+
+        try {
+            for (int waveStart = 0; waveStart < playerUrls.size(); waveStart += concurrency) {
+                List<String> wave = playerUrls.subList(waveStart, Math.min(waveStart + concurrency, playerUrls.size()));
+                List<String> handles = new ArrayList<>();
+                List<Long> openedAt = new ArrayList<>();
+
+                // Step 1: Start every navigation of the wave; assigning location returns immediately
+                for (String playerUrl : wave) {
+                    driver.switchTo().newWindow(WindowType.TAB);
+                    handles.add(driver.getWindowHandle());
+                    openedAt.add(System.currentTimeMillis());
+                    ((JavascriptExecutor) driver).executeScript("window.location.href = arguments[0];", playerUrl);
+                }
+
+                // Step 2: Read each tab by its handle while the others keep loading
+                for (int i = 0; i < wave.size(); i++) {
+                    driver.switchTo().window(handles.get(i));
+                    results.add(readPlayer(driver, wave.get(i), handles.get(i), openedAt.get(i)));
+                }
+
+                // Step 3: Close the wave before opening the next one
+                for (String handle : handles) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+                driver.switchTo().window(originalHandle);
+            }
+        } finally {
+            driver.switchTo().window(originalHandle);
+        }
+        return results;
+    }
+
+    /**
+     * Load the URLs in the pooled sessions that are free right now, one worker thread per session
+     * The calling test keeps its own session, so this never waits on the pool; with no free session
+     * (e.g. every session held by a parallel test thread) the pages load in tabs instead
+     * @param playerUrls Player page URLs
+     * @param concurrency Maximum number of sessions to use
+     * @return Results in URL order
+     */
+    private List<Result> loadInSessions(List<String> playerUrls, int concurrency) {
+        DriverPool pool = DriverPool.getInstance();
+
+        // Step 1: Reserve idle sessions (or spare capacity) without blocking
+        List<DriverPool.PooledSession> sessions = new ArrayList<>();
+        try {
+            while (sessions.size() < Math.min(concurrency, playerUrls.size())) {
+                DriverPool.PooledSession session = pool.tryCheckout();
+                if (session == null) {
+                    break;
+                }
+                sessions.add(session);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Failed to start a pooled session for player pages: " + e.getMessage());
+        }
+
+        if (sessions.isEmpty()) {
+            System.out.println("No free pooled session, loading player pages in tabs instead");
+            return loadInTabs(playerUrls, concurrency);
+        }
+
+        // Step 2: Each worker owns one session and takes the next URL until none are left
+        Result[] results = new Result[playerUrls.size()];
+        AtomicInteger nextUrl = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(sessions.size());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (DriverPool.PooledSession session : sessions) {
+                workers.add(executor.submit(WaitPolicy.inheritContext(() -> {
+                    try {
+                        for (int i = nextUrl.getAndIncrement(); i < playerUrls.size(); i = nextUrl.getAndIncrement()) {
+                            results[i] = loadInSession(session.getDriver(), playerUrls.get(i));
+                        }
+                    } finally {
+                        pool.release(session);
+                    }
+                })));
+            }
+
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    System.err.println("Player page worker failed: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    // Workers stop after their current page and still release their sessions
+                    nextUrl.set(playerUrls.size());
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while loading player pages", e);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Step 3: Report URLs a failed worker never reached
+        List<Result> ordered = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            ordered.add(results[i] != null ? results[i]
+                    : new Result(playerUrls.get(i), null, null, 0, "Player page was not loaded"));
+        }
+        System.out.println(String.format("Loaded player pages in %d pooled session(s)", sessions.size()));
+        return ordered;
+    }
+
+    /**
+     * Load one player page in a pooled session
+     * @param sessionDriver Driver of a session owned by the calling worker
+     * @param playerUrl Player page URL
+     * @return Result for the page
+     */
+    private Result loadInSession(WebDriver sessionDriver, String playerUrl) {
+        long startTime = System.currentTimeMillis();
+        try {
+            sessionDriver.get(playerUrl);
+        } catch (Exception e) {
+            System.err.println("Failed to load player page " + playerUrl + ": " + e.getMessage());
+            return new Result(playerUrl, null, null, System.currentTimeMillis() - startTime, e.getMessage());
+        }
+        return readPlayer(sessionDriver, playerUrl, sessionDriver.getWindowHandle(), startTime);
+    }
+
+    /**
+     * Extract stats from a loaded player page, turning failures into an error result
+     * @param pageDriver Driver focused on the player page
+     * @param playerUrl Page URL
+     * @param handle Window handle the page was loaded in
+     * @param startTime Time the navigation started
+     * @return Result for the page
+     */
+    private Result readPlayer(WebDriver pageDriver, String playerUrl, String handle, long startTime) {
+        try {
+            Player player = new PlayerPage(pageDriver).getPlayerStats();
+            return new Result(playerUrl, handle, player, System.currentTimeMillis() - startTime, null);
+        } catch (Exception e) {
+            System.err.println("Failed to read player page " + playerUrl + ": " + e.getMessage());
+            return new Result(playerUrl, handle, null, System.currentTimeMillis() - startTime, e.getMessage());
+        }
+    }
+
+    /**
+     * Stats extracted from one player page
+     */
+    public static class Result {
+        private final String url;
+        private final String handle;
+        private final Player player;
+        private final long loadMillis;
+        private final String error;
+
+        Result(String url, String handle, Player player, long loadMillis, String error) {
+            this.url = url;
+            this.handle = handle;
+            this.player = player;
+            this.loadMillis = loadMillis;
+            this.error = error;
+        }
+
+        public String getUrl() { return url; }
+
+        public String getHandle() { return handle; }
+
+        public Player getPlayer() { return player; }
+
+        public long getLoadMillis() { return loadMillis; }
+
+        public String getError() { return error; }
+
+        public boolean isSuccess() { return player != null; }
+    }
+}
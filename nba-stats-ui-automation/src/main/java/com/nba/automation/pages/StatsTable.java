@@ -0,0 +1,267 @@
+package com.nba.automation.pages;
+
+import com.nba.automation.utils.ScreenshotService;
+import com.nba.automation.utils.TableData;
+import com.nba.automation.utils.TableRow;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Stats table addressed by column name instead of nth-child position
+ * The header row is read once per table; its column index map is cached per table signature (the header
+ * texts), so every page with the same layout reuses it. Rows are streamed lazily in batches, each batch
+ * one executeScript call returning only the requested columns
+ */
+public class StatsTable {
+
+    // Rows fetched per browser round-trip
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    // Table signature -> normalized header name to column index
+    private static final Map<String, Map<String, Integer>> HEADER_CACHE = new ConcurrentHashMap<>();
+
+    // Separator of header texts in a table signature
+    private static final String SIGNATURE_SEPARATOR = "\u001f";
+
+    // Returns the header texts of the table at or inside arguments[0], joined by the signature separator
+    private static final String HEADER_SIGNATURE_SCRIPT =
+            "var root = arguments[0];"
+            + "var table = root.tagName === 'TABLE' ? root : root.querySelector('table');"
+            + "if (!table) { return null; }"
+            + "var headerRows = table.querySelectorAll('thead tr');"
+            + "if (headerRows.length === 0) { return ''; }"
+            + "var cells = headerRows[headerRows.length - 1].querySelectorAll('th, td');"
+            + "var headers = [];"
+            + "for (var h = 0; h < cells.length; h++) {"
+            + "  headers.push((cells[h].innerText || cells[h].textContent || '').trim());"
+            + "}"
+            + "return headers.join(arguments[1]);";
+
+    // Returns {values: [[...]], links: [[...]]} for body rows [arguments[2], arguments[2] + arguments[3]),
+    // holding only the cells of the column indexes in arguments[1]
+    private static final String ROW_BATCH_SCRIPT =
+            "var root = arguments[0];"
+            + "var columns = arguments[1];"
+            + "var start = arguments[2];"
+            + "var table = root.tagName === 'TABLE' ? root : root.querySelector('table');"
+            + "if (!table) { return null; }"
+            + "var bodyRows = table.querySelectorAll('tbody tr');"
+            + "var end = Math.min(bodyRows.length, start + arguments[3]);"
+            + "var values = [], links = [];"
+            + "for (var r = start; r < end; r++) {"
+            + "  var cells = bodyRows[r].querySelectorAll('td');"
+            + "  var rowValues = [], rowLinks = [];"
+            + "  for (var c = 0; c < columns.length; c++) {"
+            + "    var cell = cells[columns[c]];"
+            + "    rowValues.push(cell ? (cell.innerText || cell.textContent || '').trim() : null);"
+            + "    var anchor = cell ? cell.querySelector('a[href]') : null;"
+            + "    rowLinks.push(anchor ? anchor.href : null);"
+            + "  }"
+            + "  values.push(rowValues); links.push(rowLinks);"
+            + "}"
+            + "return {values: values, links: links};";
+
+    private final WebDriver driver;
+    private final By locator;
+    private final int batchSize;
+    private WebElement root;
+    private Map<String, Integer> columnIndex;
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     * @param locator Locator of the table or of a container holding it
+     */
+    public StatsTable(WebDriver driver, By locator) {
+        this(driver, locator, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     * @param locator Locator of the table or of a container holding it
+     * @param batchSize Rows fetched per browser round-trip
+     */
+    public StatsTable(WebDriver driver, By locator, int batchSize) {
+        this.driver = driver;
+        this.locator = locator;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Get the column index map of this table, reading the header row on first use
+     * @return Normalized header name to column index
+     */
+    public Map<String, Integer> getColumnIndex() {
+        if (columnIndex == null) {
+            Object signature = execute(HEADER_SIGNATURE_SCRIPT, SIGNATURE_SEPARATOR);
+            if (signature == null) {
+                throw new IllegalStateException("No table found for " + locator);
+            }
+            columnIndex = HEADER_CACHE.computeIfAbsent(signature.toString(), StatsTable::parseSignature);
+        }
+        return columnIndex;
+    }
+
+    /**
+     * Check whether the table has a column with the given header
+     * @param column Header name (case-insensitive)
+     * @return true if the column exists
+     */
+    public boolean hasColumn(String column) {
+        return getColumnIndex().containsKey(TableData.normalizeHeader(column));
+    }
+
+    /**
+     * Stream all body rows, reading only the given columns
+     * @param columns Header names to read (case-insensitive)
+     * @return Lazy stream of rows holding the requested columns
+     */
+    public Stream<TableRow> rows(String... columns) {
+        return rows(-1, columns);
+    }
+
+    /**
+     * Stream the first body rows, reading only the given columns
+     * Rows are fetched in batches as the stream is consumed, never more than maxRows in total
+     * @param maxRows Maximum number of rows, or -1 for all rows
+     * @param columns Header names to read (case-insensitive)
+     * @return Lazy stream of rows holding the requested columns
+     */
+    public Stream<TableRow> rows(int maxRows, String... columns) {
+        // Step 1: Resolve the requested columns against the cached header map
+        Map<String, Integer> headers = getColumnIndex();
+        List<Integer> tableColumns = new ArrayList<>(columns.length);
+        Map<String, Integer> selection = new HashMap<>();
+        for (String column : columns) {
+            String name = TableData.normalizeHeader(column);
+            Integer index = headers.get(name);
+            if (index == null) {
+                throw new IllegalArgumentException("Column '" + column + "' not found in table headers: "
+                        + headers.keySet());
+            }
+            if (selection.putIfAbsent(name, tableColumns.size()) == null) {
+                tableColumns.add(index);
+            }
+        }
+
+        // Step 2: Failure screenshots crop to the table being read
+        ScreenshotService.focusOn(root());
+
+        // Step 3: Fetch batches only as rows are consumed
+        return StreamSupport.stream(new RowSpliterator(Collections.unmodifiableMap(selection), tableColumns, maxRows),
+                false);
+    }
+
+    /**
+     * Drop cached header maps, e.g. after the site layout changed during a long run
+     */
+    public static void clearHeaderCache() {
+        HEADER_CACHE.clear();
+    }
+
+    private static Map<String, Integer> parseSignature(String signature) {
+        Map<String, Integer> index = new HashMap<>();
+        if (!signature.isEmpty()) {
+            String[] headers = signature.split(SIGNATURE_SEPARATOR, -1);
+            for (int i = 0; i < headers.length; i++) {
+                // Keep the first occurrence if a header name repeats
+                index.putIfAbsent(TableData.normalizeHeader(headers[i]), i);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private WebElement root() {
+        if (root == null) {
+            root = driver.findElement(locator);
+        }
+        return root;
+    }
+
+    private Object execute(String script, Object... args) {
+        Object[] arguments = new Object[args.length + 1];
+        System.arraycopy(args, 0, arguments, 1, args.length);
+        try {
+            arguments[0] = root();
+            return ((JavascriptExecutor) driver).executeScript(script, arguments);
+        } catch (StaleElementReferenceException e) {
+            // The table was re-rendered; locate it again once
+            root = null;
+            arguments[0] = root();
+            return ((JavascriptExecutor) driver).executeScript(script, arguments);
+        }
+    }
+
+    /**
+     * Pulls body rows from the browser one batch at a time
+     */
+    private class RowSpliterator extends Spliterators.AbstractSpliterator<TableRow> {
+        private final Map<String, Integer> selection;
+        private final List<Integer> tableColumns;
+        private final int maxRows;
+        private final Deque<TableRow> buffer = new ArrayDeque<>();
+        private int fetched;
+        private boolean exhausted;
+
+        RowSpliterator(Map<String, Integer> selection, List<Integer> tableColumns, int maxRows) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.selection = selection;
+            this.tableColumns = tableColumns;
+            this.maxRows = maxRows;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TableRow> action) {
+            if (buffer.isEmpty() && !exhausted) {
+                fetchBatch();
+            }
+            TableRow row = buffer.poll();
+            if (row == null) {
+                return false;
+            }
+            action.accept(row);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void fetchBatch() {
+            int count = maxRows < 0 ? batchSize : Math.min(batchSize, maxRows - fetched);
+            if (count <= 0) {
+                exhausted = true;
+                return;
+            }
+
+            Object result = execute(ROW_BATCH_SCRIPT, tableColumns, fetched, count);
+            if (!(result instanceof Map)) {
+                throw new IllegalStateException("No table found for " + locator);
+            }
+            Map<String, Object> batch = (Map<String, Object>) result;
+            List<List<String>> values = (List<List<String>>) batch.get("values");
+            List<List<String>> links = (List<List<String>>) batch.get("links");
+
+            for (int r = 0; r < values.size(); r++) {
+                buffer.add(new TableRow(selection, values.get(r), links.get(r)));
+            }
+            fetched += values.size();
+            exhausted = values.size() < count;
+        }
+    }
+}
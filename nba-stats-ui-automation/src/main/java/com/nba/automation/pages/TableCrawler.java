@@ -0,0 +1,279 @@
+package com.nba.automation.pages;
+
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.utils.TableRow;
+import com.nba.automation.utils.WaitHelper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams every row of a paginated stats table (leaders, team stats, player game logs)
+ * Switches the page-size dropdown to "All" when the page offers it, otherwise clicks through the pager.
+ * Rows are pulled through StatsTable in batches as the stream is consumed, so memory stays bounded and a
+ * short-circuiting stream (findFirst, anyMatch, limit) stops paging as soon as it has its answer
+ */
+public class TableCrawler {
+
+    // Pager controls shared by the stats.nba.com tables
+    private static final By PAGE_SIZE_SELECT = By.xpath("//div[contains(@class,'Pagination_pageDropdown')]//select");
+    private static final By NEXT_PAGE_BUTTON = By.cssSelector("button[title='Next Page Button']");
+    private static final String ALL_ROWS_OPTION = "All";
+    // Page numbers listed in the pager dropdown next to "All"
+    private static final String PAGE_NUMBER_OPTION = "\\d+";
+
+    // Returns the number of body rows and the text of the first one, to detect that a page changed
+    private static final String PAGE_STATE_SCRIPT =
+            "var root = arguments[0];"
+            + "var table = root.tagName === 'TABLE' ? root : root.querySelector('table');"
+            + "if (!table) { return null; }"
+            + "var rows = table.querySelectorAll('tbody tr');"
+            + "return rows.length + ':' + (rows.length > 0 ? rows[0].innerText : '');";
+
+    private final WebDriver driver;
+    private final By tableLocator;
+    private final int batchSize;
+    private boolean useAllOption = true;
+
+    private int pages;
+    private long rows;
+    private boolean complete;
+    private int reportedPages;
+    private int firstPageRows;
+    private long startNanos;
+    private long endNanos;
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     * @param tableLocator Locator of the table or of a container holding it
+     */
+    public TableCrawler(WebDriver driver, By tableLocator) {
+        this(driver, tableLocator, StatsTable.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     * @param tableLocator Locator of the table or of a container holding it
+     * @param batchSize Rows fetched per browser round-trip
+     */
+    public TableCrawler(WebDriver driver, By tableLocator, int batchSize) {
+        this.driver = driver;
+        this.tableLocator = tableLocator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Walk page by page even if the page offers an "All" page size
+     * @return This crawler
+     */
+    public TableCrawler usingPager() {
+        this.useAllOption = false;
+        return this;
+    }
+
+    /**
+     * Stream every row of the table, reading only the given columns
+     * @param columns Header names to read (case-insensitive)
+     * @return Lazy stream of rows across all pages
+     */
+    public Stream<TableRow> rows(String... columns) {
+        return StreamSupport.stream(new PageSpliterator(columns), false);
+    }
+
+    /**
+     * Stream every row of the table mapped to a record
+     * Rows the mapper cannot parse are logged and skipped
+     * @param mapper Maps a row to a record, e.g. StatsRowMapper::toPlayer
+     * @param columns Header names the mapper reads (case-insensitive)
+     * @param <T> Record type
+     * @return Lazy stream of records across all pages
+     */
+    public <T> Stream<T> records(Function<TableRow, T> mapper, String... columns) {
+        return rows(columns).map(row -> {
+            try {
+                return mapper.apply(row);
+            } catch (RuntimeException e) {
+                System.err.println("Skipping unparseable row " + row + ": " + e.getMessage());
+                return null;
+            }
+        }).filter(record -> record != null);
+    }
+
+    /**
+     * Get pages visited, rows read and throughput of the crawl so far
+     * @return Report text
+     */
+    public String getReport() {
+        long elapsedNanos = (endNanos > 0 ? endNanos : System.nanoTime()) - startNanos;
+        double seconds = startNanos == 0 ? 0 : elapsedNanos / 1_000_000_000.0;
+        return String.format("Table crawl: %d rows from %d page(s) in %dms (%.1f rows/sec)",
+                rows, pages, TimeUnit.NANOSECONDS.toMillis(startNanos == 0 ? 0 : elapsedNanos),
+                seconds > 0 ? rows / seconds : 0.0);
+    }
+
+    public long getRowCount() { return rows; }
+
+    public int getPageCount() { return pages; }
+
+    /**
+     * Check that the stream ended because the last page was read, not because it was closed early
+     * @return true once every page has been read
+     */
+    public boolean isComplete() { return complete; }
+
+    /**
+     * Get the number of pages the pager listed before crawling
+     * @return Page count, 0 if the table has no pager
+     */
+    public int getReportedPageCount() { return reportedPages; }
+
+    /**
+     * Get the fewest rows a complete crawl can return, from the pager's page count and the first page's size
+     * All pages but the last are full, so a crawl that stopped early falls below this
+     * @return Minimum row count, 0 if the table has no pager
+     */
+    public long getReportedMinimumRows() {
+        return reportedPages == 0 ? 0 : (long) (reportedPages - 1) * firstPageRows + 1;
+    }
+
+    /**
+     * Read the pager's page count and the first page's row count before anything is changed
+     * @return Pager dropdown, if the page has one
+     */
+    private Optional<WebElement> readPager() {
+        String state = pageState();
+        firstPageRows = state.isEmpty() ? 0 : Integer.parseInt(state.substring(0, state.indexOf(':')));
+
+        Optional<WebElement> dropdown = WaitHelper.probe(driver, PAGE_SIZE_SELECT);
+        dropdown.ifPresent(select -> reportedPages = (int) new Select(select).getOptions().stream()
+                .filter(option -> option.getText().trim().matches(PAGE_NUMBER_OPTION))
+                .count());
+        return dropdown;
+    }
+
+    /**
+     * Switch the page-size dropdown to "All" if the page has one
+     * @param dropdown Pager dropdown, if the page has one
+     * @return true if all rows are now on one page
+     */
+    private boolean showAllRows(Optional<WebElement> dropdown) {
+        if (!dropdown.isPresent()) {
+            return false;
+        }
+        Select pageSize = new Select(dropdown.get());
+        boolean hasAllOption = pageSize.getOptions().stream()
+                .anyMatch(option -> ALL_ROWS_OPTION.equalsIgnoreCase(option.getText().trim()));
+        if (!hasAllOption) {
+            return false;
+        }
+
+        // Nothing changes when the rows already fit on one page or "All" is selected, so do not wait for it
+        if (reportedPages <= 1
+                || ALL_ROWS_OPTION.equalsIgnoreCase(pageSize.getFirstSelectedOption().getText().trim())) {
+            return true;
+        }
+
+        String before = pageState();
+        pageSize.selectByVisibleText(ALL_ROWS_OPTION);
+        waitForPageChange(before);
+        System.out.println("Table page size switched to All");
+        return true;
+    }
+
+    /**
+     * Click the next page button if it is enabled
+     * @return true if a new page was loaded
+     */
+    private boolean nextPage() {
+        Optional<WebElement> next = WaitHelper.probe(driver, NEXT_PAGE_BUTTON);
+        if (!next.isPresent() || !next.get().isEnabled() || next.get().getAttribute("disabled") != null) {
+            return false;
+        }
+        String before = pageState();
+        next.get().click();
+        return waitForPageChange(before);
+    }
+
+    private String pageState() {
+        Object state = ((JavascriptExecutor) driver).executeScript(PAGE_STATE_SCRIPT, driver.findElement(tableLocator));
+        return state == null ? "" : state.toString();
+    }
+
+    /**
+     * Wait for the table to show another page
+     * A table stuck on the old page fails the crawl, so a truncated table never passes as fully read
+     * @param before Page state before paging
+     * @return true once the page changed
+     */
+    private boolean waitForPageChange(String before) {
+        try {
+            new WebDriverWait(driver, ConfigManager.getInstance().getExplicitWaitDuration())
+                    .until(d -> !before.equals(pageState()));
+            return true;
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Table did not change after paging: " + tableLocator
+                    + " (" + rows + " rows read from " + pages + " page(s))", e);
+        }
+    }
+
+    /**
+     * Streams the rows of the current page, moving to the next page when it runs out
+     */
+    private class PageSpliterator extends Spliterators.AbstractSpliterator<TableRow> {
+        private final String[] columns;
+        private Iterator<TableRow> page;
+        private boolean lastPage;
+
+        PageSpliterator(String[] columns) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.columns = columns;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TableRow> action) {
+            // Step 1: First pull: show everything at once if the page allows it
+            if (page == null) {
+                startNanos = System.nanoTime();
+                WaitHelper.waitForElementToBeVisible(driver, tableLocator);
+                Optional<WebElement> dropdown = readPager();
+                lastPage = useAllOption && showAllRows(dropdown);
+                openPage();
+            }
+
+            // Step 2: Move on to the next page whenever the current one is used up
+            while (!page.hasNext()) {
+                if (lastPage || !nextPage()) {
+                    endNanos = System.nanoTime();
+                    complete = true;
+                    return false;
+                }
+                openPage();
+            }
+
+            rows++;
+            action.accept(page.next());
+            return true;
+        }
+
+        private void openPage() {
+            pages++;
+            page = new StatsTable(driver, tableLocator, batchSize).rows(columns).iterator();
+        }
+    }
+}
@@ -2,10 +2,9 @@ package com.nba.automation.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import com.nba.automation.models.Team;
+import com.nba.automation.utils.StatsRowMapper;
 import com.nba.automation.utils.WaitHelper;
-import com.nba.automation.utils.TestDataHelper;
 import io.qameta.allure.Step;
 
 import java.util.ArrayList;
@@ -24,9 +23,6 @@ public class TeamStatsPage extends BasePage {
     // Locators for team stats elements
     private static final By STATS_TABLE = By.cssSelector("div.Crom_container__C45Ti table");
     private static final By TABLE_ROWS = By.cssSelector("tbody tr");
-    private static final By TEAM_NAME_CELL = By.cssSelector("td:nth-child(2) a");
-    private static final By WINS_CELL = By.cssSelector("td:nth-child(4)");
-    private static final By LOSSES_CELL = By.cssSelector("td:nth-child(5)");
 
     /**
      * Constructor
@@ -46,6 +42,7 @@ public class TeamStatsPage extends BasePage {
 
         // Wait for stats table to load
         WaitHelper.waitForElementToBeVisible(driver, STATS_TABLE);
+        onPageReady();
     }
 
     /**
@@ -57,34 +54,32 @@ public class TeamStatsPage extends BasePage {
         List<Team> teams = new ArrayList<>();
 
         // Wait for table rows to be present
-        List<WebElement> rows = WaitHelper.waitForElementsToBePresent(driver, TABLE_ROWS);
+        if (!isSnapshotMode()) {
+            WaitHelper.waitForElementsToBePresent(driver, TABLE_ROWS);
+        }
 
-        for (WebElement row : rows) {
+        // Read the team, wins and losses columns of every row
+        readRows(STATS_TABLE, -1, StatsRowMapper.TEAM_COLUMNS).forEach(row -> {
             try {
-                // Extract team data from each row
-                String teamName = row.findElement(TEAM_NAME_CELL).getText().trim();
-                String winsText = row.findElement(WINS_CELL).getText().trim();
-                String lossesText = row.findElement(LOSSES_CELL).getText().trim();
-
-                // Parse numeric values
-                int wins = Integer.parseInt(winsText);
-                int losses = Integer.parseInt(lossesText);
-                double winPercentage = (double) wins / (wins + losses);
-
-                // Create team object and add to list
-                String conference = TestDataHelper.determineConference(teamName);
-                Team team = new Team(teamName, conference, wins, losses, winPercentage);
-                teams.add(team);
-
+                // Map columns by header name to a team object
+                teams.add(StatsRowMapper.toTeam(row));
             } catch (Exception e) {
                 // Log error and continue with next row
                 System.err.println("Error parsing team data from standings row, Invalid row");
             }
-        }
+        });
 
         return teams;
     }
 
+    /**
+     * Get a crawler over every page of the team stats table
+     * @return Crawler of the team stats table
+     */
+    public TableCrawler crawlTeams() {
+        return new TableCrawler(driver, STATS_TABLE);
+    }
+
     @Step("Get teams by conference: {conference}")
     public HashMap<String, List<Team>> getTeamsByConferenceNames() {
         List<Team> allTeams = getAllTeams();
@@ -0,0 +1,48 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.models.Player;
+
+/**
+ * Formats the text bodies of Allure attachments added by the tests
+ */
+public class ReportFormatter {
+
+    /**
+     * Format a side-by-side comparison of two sources of the same player's averages
+     * @param reference Player as read from the reference source
+     * @param referenceLabel Name of the reference source, e.g. Leaders
+     * @param other Player as read from the compared source
+     * @param otherLabel Name of the compared source, e.g. Player Page
+     * @return Attachment text with name, PPG, APG and RPG
+     */
+    public static String statsComparison(Player reference, String referenceLabel, Player other, String otherLabel) {
+        return String.format("Name: %s\nPPG: %.1f (%s) vs %.1f (%s)\nAPG: %.1f vs %.1f\nRPG: %.1f vs %.1f",
+                reference.getName(),
+                reference.getPointsPerGame(), referenceLabel, other.getPointsPerGame(), otherLabel,
+                reference.getAssistsPerGame(), other.getAssistsPerGame(),
+                reference.getReboundsPerGame(), other.getReboundsPerGame());
+    }
+
+    /**
+     * Format WebDriver-side load times of a page against its threshold
+     * @param navigationTime Navigation time in milliseconds
+     * @param statsLoadTime Stats section load time in milliseconds
+     * @param totalLoadTime Total load time in milliseconds
+     * @param threshold Threshold in milliseconds
+     * @return Attachment text
+     */
+    public static String performanceData(long navigationTime, long statsLoadTime, long totalLoadTime, long threshold) {
+        return String.format("Navigation Time: %dms\nStats Load Time: %dms\nTotal Time: %dms\nThreshold: %dms",
+                navigationTime, statsLoadTime, totalLoadTime, threshold);
+    }
+
+    /**
+     * Format the details of a failed test
+     * @param testName Test method name
+     * @param errorMessage Failure message
+     * @return Attachment text
+     */
+    public static String failureDetails(String testName, String errorMessage) {
+        return "Test: " + testName + "\nError: " + errorMessage;
+    }
+}
@@ -0,0 +1,74 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.models.Player;
+import com.nba.automation.models.Team;
+
+/**
+ * Maps extracted stats table rows to Player and Team models
+ * Columns are resolved by the header names used on stats.nba.com
+ */
+public class StatsRowMapper {
+
+    // Header names of the leaders and team stats tables
+    public static final String PLAYER_COLUMN = "PLAYER";
+    public static final String TEAM_COLUMN = "TEAM";
+    public static final String POINTS_COLUMN = "PTS";
+    public static final String ASSISTS_COLUMN = "AST";
+    public static final String REBOUNDS_COLUMN = "REB";
+    public static final String WINS_COLUMN = "W";
+    public static final String LOSSES_COLUMN = "L";
+
+    // Columns read by toPlayer, for tables that fetch only the columns they need
+    public static final String[] PLAYER_COLUMNS = {
+            PLAYER_COLUMN, TEAM_COLUMN, POINTS_COLUMN, ASSISTS_COLUMN, REBOUNDS_COLUMN
+    };
+
+    // Columns read by toPlayerStats
+    public static final String[] PLAYER_STATS_COLUMNS = {POINTS_COLUMN, ASSISTS_COLUMN, REBOUNDS_COLUMN};
+
+    // Columns read by toTeam
+    public static final String[] TEAM_COLUMNS = {TEAM_COLUMN, WINS_COLUMN, LOSSES_COLUMN};
+
+    /**
+     * Map a leaders table row to a Player
+     * @param row Leaders table row
+     * @return Player with name, team, PPG, APG and RPG
+     */
+    public static Player toPlayer(TableRow row) {
+        Player player = new Player();
+        player.setName(row.getText(PLAYER_COLUMN));
+        player.setTeam(row.getText(TEAM_COLUMN));
+        player.setPointsPerGame(row.getDouble(POINTS_COLUMN));
+        player.setAssistsPerGame(row.getDouble(ASSISTS_COLUMN));
+        player.setReboundsPerGame(row.getDouble(REBOUNDS_COLUMN));
+        return player;
+    }
+
+    /**
+     * Copy per-game stats from a player page season row to a Player
+     * @param row Player page stats row holding PLAYER_STATS_COLUMNS
+     * @param player Player to update
+     * @return The updated player
+     */
+    public static Player toPlayerStats(TableRow row, Player player) {
+        player.setPointsPerGame(row.getDouble(POINTS_COLUMN));
+        player.setAssistsPerGame(row.getDouble(ASSISTS_COLUMN));
+        player.setReboundsPerGame(row.getDouble(REBOUNDS_COLUMN));
+        return player;
+    }
+
+    /**
+     * Map a team stats table row to a Team
+     * @param row Team stats table row
+     * @return Team with conference, wins, losses and win percentage
+     */
+    public static Team toTeam(TableRow row) {
+        String teamName = row.getText(TEAM_COLUMN);
+        int wins = row.getInt(WINS_COLUMN);
+        int losses = row.getInt(LOSSES_COLUMN);
+        double winPercentage = (double) wins / (wins + losses);
+
+        String conference = TestDataHelper.determineConference(teamName);
+        return new Team(teamName, conference, wins, losses, winPercentage);
+    }
+}
@@ -0,0 +1,66 @@
+package com.nba.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Row matrix of a stats table with a header name to column index map
+ * Produced from a page snapshot (PageSnapshot.getTable) or an API result set (StatsApiClient)
+ */
+public class TableData {
+    private final List<String> headers;
+    private final Map<String, Integer> columnIndex;
+    private final List<TableRow> rows;
+
+    /**
+     * Constructor
+     * @param headers Header cell text in column order
+     * @param cellValues Cell text per row in column order
+     * @param cellLinks Cell link targets per row in column order
+     */
+    public TableData(List<String> headers, List<List<String>> cellValues, List<List<String>> cellLinks) {
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            // Keep the first occurrence if a header name repeats
+            index.putIfAbsent(normalizeHeader(headers.get(i)), i);
+        }
+        this.columnIndex = Collections.unmodifiableMap(index);
+
+        List<TableRow> tableRows = new ArrayList<>(cellValues.size());
+        for (int r = 0; r < cellValues.size(); r++) {
+            List<String> links = r < cellLinks.size() ? cellLinks.get(r) : Collections.emptyList();
+            tableRows.add(new TableRow(columnIndex, cellValues.get(r), links));
+        }
+        this.rows = Collections.unmodifiableList(tableRows);
+    }
+
+    /**
+     * Normalize header text for lookups: trimmed, upper case, single spaces
+     * @param header Raw header text
+     * @return Normalized header name
+     */
+    public static String normalizeHeader(String header) {
+        return header == null ? "" : header.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+    }
+
+    public List<String> getHeaders() { return headers; }
+
+    public List<TableRow> getRows() { return rows; }
+
+    public int getRowCount() { return rows.size(); }
+
+    /**
+     * Check whether the table has a column with the given header
+     * @param column Header name (case-insensitive)
+     * @return true if the column exists
+     */
+    public boolean hasColumn(String column) {
+        return columnIndex.containsKey(normalizeHeader(column));
+    }
+}
@@ -0,0 +1,85 @@
+package com.nba.automation.utils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single row of a stats table extracted from the browser
+ * Cells are addressed by header name instead of column position
+ */
+public class TableRow {
+    private final Map<String, Integer> columnIndex;
+    private final List<String> values;
+    private final List<String> links;
+
+    /**
+     * Constructor
+     * @param columnIndex Normalized header name to column index map shared by all rows of the table
+     * @param values Cell text in column order
+     * @param links Cell link targets in column order (null where a cell has no link)
+     */
+    public TableRow(Map<String, Integer> columnIndex, List<String> values, List<String> links) {
+        this.columnIndex = columnIndex;
+        this.values = values;
+        this.links = links;
+    }
+
+    /**
+     * Get trimmed cell text for a column
+     * @param column Header name (case-insensitive)
+     * @return Cell text
+     */
+    public String getText(String column) {
+        int index = indexOf(column);
+        if (index >= values.size()) {
+            throw new IllegalStateException("Row has no cell for column '" + column + "'");
+        }
+        return values.get(index);
+    }
+
+    /**
+     * Get cell value for a column parsed as a decimal number
+     * @param column Header name (case-insensitive)
+     * @return Parsed value
+     */
+    public double getDouble(String column) {
+        return Double.parseDouble(getText(column));
+    }
+
+    /**
+     * Get cell value for a column parsed as an integer
+     * @param column Header name (case-insensitive)
+     * @return Parsed value
+     */
+    public int getInt(String column) {
+        return Integer.parseInt(getText(column));
+    }
+
+    /**
+     * Get link target of the first anchor inside a cell
+     * @param column Header name (case-insensitive)
+     * @return Absolute URL or null if the cell has no link
+     */
+    public String getLink(String column) {
+        int index = indexOf(column);
+        return index < links.size() ? links.get(index) : null;
+    }
+
+    private int indexOf(String column) {
+        // Column constants are already normalized; only normalize on a miss
+        Integer index = columnIndex.get(column);
+        if (index == null) {
+            index = columnIndex.get(TableData.normalizeHeader(column));
+        }
+        if (index == null) {
+            throw new IllegalArgumentException("Column '" + column + "' not found in table headers: "
+                    + columnIndex.keySet());
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "TableRow" + values;
+    }
+}
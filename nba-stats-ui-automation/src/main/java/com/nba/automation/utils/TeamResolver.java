@@ -0,0 +1,250 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.models.NbaTeam;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves team names as they appear on the site (full names, abbreviations, nicknames,
+ * cities and common aliases, in any case and with stray punctuation) to an NbaTeam
+ * Lookups go through a precomputed open-addressing index keyed on lowercase alphanumerics,
+ * hashed straight from the input so a hit allocates nothing; inputs that need token
+ * matching are resolved once and memoized, including the ones that resolve to no team
+ */
+public final class TeamResolver {
+
+    // Keys shorter than this are only matched against the whole input, never as a token
+    private static final int MIN_TOKEN_KEY_LENGTH = 3;
+    private static final int MAX_MEMOIZED_INPUTS = 4096;
+
+    private static final String[] KEYS;
+    private static final NbaTeam[] VALUES;
+    private static final int MASK;
+
+    private static final Map<String, Optional<NbaTeam>> MEMO = new ConcurrentHashMap<>();
+
+    static {
+        // Step 1: Collect every name per normalized key, dropping keys claimed by more than one team
+        Map<String, NbaTeam> entries = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (NbaTeam team : NbaTeam.values()) {
+            for (String name : team.getAllNames()) {
+                String key = normalize(name);
+                NbaTeam existing = entries.putIfAbsent(key, team);
+                if (existing != null && existing != team) {
+                    ambiguous.add(key);
+                }
+            }
+        }
+        entries.keySet().removeAll(ambiguous);
+
+        // Step 2: Lay the keys out in a power-of-two table at most a quarter full
+        int capacity = Integer.highestOneBit(Math.max(16, entries.size() * 4) - 1) << 1;
+        KEYS = new String[capacity];
+        VALUES = new NbaTeam[capacity];
+        MASK = capacity - 1;
+        for (Map.Entry<String, NbaTeam> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            int slot = hash(key, 0, key.length()) & MASK;
+            while (KEYS[slot] != null) {
+                slot = (slot + 1) & MASK;
+            }
+            KEYS[slot] = key;
+            VALUES[slot] = entry.getValue();
+        }
+    }
+
+    private TeamResolver() {
+    }
+
+    /**
+     * Resolve a team name
+     * @param teamName Full name, abbreviation, nickname, city or alias in any case
+     * @return Matching team, or null if the name does not identify exactly one team
+     */
+    public static NbaTeam resolve(CharSequence teamName) {
+        if (teamName == null) {
+            return null;
+        }
+
+        // Step 1: Whole input against the index, the common case for table cells
+        NbaTeam team = lookup(teamName, 0, teamName.length());
+        if (team != null) {
+            return team;
+        }
+
+        // Step 2: Inputs seen before, including the ones that matched nothing
+        String input = teamName.toString();
+        Optional<NbaTeam> memoized = MEMO.get(input);
+        if (memoized != null) {
+            return memoized.orElse(null);
+        }
+
+        // Step 3: Token matching for names with extra words, then remember the outcome
+        team = resolveByTokens(input);
+        if (MEMO.size() < MAX_MEMOIZED_INPUTS) {
+            MEMO.put(input, Optional.ofNullable(team));
+        }
+        if (team == null && !input.trim().isEmpty()) {
+            System.err.println("Warning: Could not resolve team: " + input);
+        }
+        return team;
+    }
+
+    /**
+     * Resolve a team name
+     * @param teamName Full name, abbreviation, nickname, city or alias in any case
+     * @return Matching team, or empty if the name does not identify exactly one team
+     */
+    public static Optional<NbaTeam> find(CharSequence teamName) {
+        return Optional.ofNullable(resolve(teamName));
+    }
+
+    /**
+     * Normalize a name to its index key
+     * @param name Team name
+     * @return Lowercase letters and digits of the name
+     */
+    static String normalize(CharSequence name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = toKeyChar(name.charAt(i));
+            if (c != 0) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Probe the index with a range of the input, skipping characters that are not part of keys
+     * @param input Input text
+     * @param start Start index (inclusive)
+     * @param end End index (exclusive)
+     * @return Team for the normalized range, or null
+     */
+    private static NbaTeam lookup(CharSequence input, int start, int end) {
+        int slot = hash(input, start, end) & MASK;
+        String key;
+        while ((key = KEYS[slot]) != null) {
+            if (matches(key, input, start, end)) {
+                return VALUES[slot];
+            }
+            slot = (slot + 1) & MASK;
+        }
+        return null;
+    }
+
+    /**
+     * Match individual words and adjacent word pairs, e.g. "x-Boston Celtics (1)" or "Golden State"
+     * @param input Input text
+     * @return Team if every matched word points at the same team, otherwise null
+     */
+    private static NbaTeam resolveByTokens(String input) {
+        // Step 1: Split into words of letters and digits
+        int[] starts = new int[input.length()];
+        int[] ends = new int[input.length()];
+        int words = 0;
+        int i = 0;
+        while (i < input.length()) {
+            while (i < input.length() && toKeyChar(input.charAt(i)) == 0) {
+                i++;
+            }
+            if (i == input.length()) {
+                break;
+            }
+            starts[words] = i;
+            while (i < input.length() && toKeyChar(input.charAt(i)) != 0) {
+                i++;
+            }
+            ends[words++] = i;
+        }
+
+        // Step 2: Probe single words and pairs; conflicting matches leave the name ambiguous
+        Set<NbaTeam> matched = new LinkedHashSet<>();
+        for (int w = 0; w < words; w++) {
+            addTokenMatch(matched, input, starts[w], ends[w]);
+            if (w + 1 < words) {
+                addTokenMatch(matched, input, starts[w], ends[w + 1]);
+            }
+        }
+        if (matched.size() == 1) {
+            return matched.iterator().next();
+        }
+        if (matched.size() > 1) {
+            return null;
+        }
+
+        // Step 3: Names glued to other text, e.g. "BostonCeltics2024"
+        String normalized = normalize(input);
+        for (int slot = 0; slot < KEYS.length; slot++) {
+            if (KEYS[slot] != null && KEYS[slot].length() > MIN_TOKEN_KEY_LENGTH && normalized.contains(KEYS[slot])) {
+                matched.add(VALUES[slot]);
+            }
+        }
+        return matched.size() == 1 ? matched.iterator().next() : null;
+    }
+
+    private static void addTokenMatch(Set<NbaTeam> matched, String input, int start, int end) {
+        NbaTeam team = lookup(input, start, end);
+        if (team != null && keyLength(input, start, end) >= MIN_TOKEN_KEY_LENGTH) {
+            matched.add(team);
+        }
+    }
+
+    private static int keyLength(CharSequence input, int start, int end) {
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            if (toKeyChar(input.charAt(i)) != 0) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static int hash(CharSequence input, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            char c = toKeyChar(input.charAt(i));
+            if (c != 0) {
+                h = 31 * h + c;
+            }
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String key, CharSequence input, int start, int end) {
+        int k = 0;
+        for (int i = start; i < end; i++) {
+            char c = toKeyChar(input.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+            if (k == key.length() || key.charAt(k++) != c) {
+                return false;
+            }
+        }
+        return k == key.length();
+    }
+
+    /**
+     * Map a character to its key form
+     * @param c Input character
+     * @return Lowercase ASCII letter or digit, or 0 if the character is ignored
+     */
+    private static char toKeyChar(char c) {
+        if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,210 @@
+package com.nba.automation.api;
+
+import com.nba.automation.models.Player;
+import com.nba.automation.models.Team;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * StatsApiClient against a local stub server serving canned JSON from fixtures/api
+ * Runs without a browser or network: mvn test -Dtest=StatsApiClientTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Stats API Client")
+public class StatsApiClientTest {
+
+    private HttpServer server;
+    private StatsApiClient client;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile String lastQuery;
+    private volatile boolean lastResponseGzipped;
+
+    /**
+     * Start the stub API, serving /stats/{endpoint} from fixtures/api/{endpoint}.json
+     * @throws IOException if the server cannot be started
+     */
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/stats/", this::serveFixture);
+        server.start();
+
+        client = new StatsApiClient("http://127.0.0.1:" + server.getAddress().getPort() + "/stats",
+                "2024-25", "Regular Season", Duration.ofSeconds(5));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @BeforeMethod
+    public void resetRequestLog() {
+        clientPorts.clear();
+    }
+
+    /**
+     * Test that leaders are mapped to players in rank order and the response is gzip decoded
+     */
+    @Test(description = "Leaders JSON maps to Player models")
+    @Story("API Leaders")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyLeadersMapping() {
+        List<Player> leaders = client.getLeaders("PTS", 3);
+
+        Assert.assertTrue(lastResponseGzipped, "Client should request gzip");
+        Assert.assertTrue(lastQuery.contains("StatCategory=PTS"), lastQuery);
+        Assert.assertTrue(lastQuery.contains("SeasonType=Regular Season"), lastQuery);
+
+        Assert.assertEquals(leaders.size(), 3);
+        Assert.assertEquals(leaders.get(0).getName(), "Shai Gilgeous-Alexander");
+        Assert.assertEquals(leaders.get(0).getTeam(), "OKC");
+        Assert.assertEquals(leaders.get(0).getPointsPerGame(), 32.7, 0.001);
+        Assert.assertEquals(leaders.get(0).getAssistsPerGame(), 6.4, 0.001);
+        Assert.assertEquals(leaders.get(0).getReboundsPerGame(), 5.0, 0.001);
+        Assert.assertEquals(leaders.get(2).getName(), "Luka Dončić");
+    }
+
+    /**
+     * Test that team rows are mapped with conference and wins
+     */
+    @Test(description = "Team stats JSON maps to Team models")
+    @Story("API Teams")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyTeamsMapping() {
+        List<Team> teams = client.getTeams();
+
+        Assert.assertEquals(teams.size(), 4);
+        Assert.assertEquals(teams.get(0).getName(), "Oklahoma City Thunder");
+        Assert.assertEquals(teams.get(0).getConference(), "Western");
+        Assert.assertEquals(teams.get(0).getWins(), 68);
+        Assert.assertEquals(teams.get(1).getConference(), "Eastern");
+        Assert.assertEquals(teams.get(3).getWins(), 18);
+    }
+
+    /**
+     * Test that a traded player's season averages come from the combined row
+     */
+    @Test(description = "Player career JSON maps to season averages")
+    @Story("API Player Stats")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyPlayerSeasonStats() {
+        String playerId = StatsApiClient.playerIdFromUrl("https://www.nba.com/stats/player/1629029/");
+        Assert.assertEquals(playerId, "1629029");
+
+        Player player = client.getPlayerSeasonStats(playerId, "Luka Dončić");
+
+        Assert.assertTrue(lastQuery.contains("PlayerID=1629029"), lastQuery);
+        Assert.assertNotNull(player);
+        Assert.assertEquals(player.getTeam(), "TOT");
+        Assert.assertEquals(player.getPointsPerGame(), 28.2, 0.001);
+        Assert.assertEquals(player.getAssistsPerGame(), 7.7, 0.001);
+        Assert.assertEquals(player.getReboundsPerGame(), 8.2, 0.001);
+    }
+
+    /**
+     * Test that without a configured season the client follows the current one
+     */
+    @Test(description = "Current season is derived from the date and the player's latest season")
+    @Story("API Player Stats")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyCurrentSeason() {
+        // Step 1: Seasons start in October
+        Assert.assertEquals(StatsApiClient.currentSeason(LocalDate.of(2025, 9, 30)), "2024-25");
+        Assert.assertEquals(StatsApiClient.currentSeason(LocalDate.of(2025, 10, 1)), "2025-26");
+        Assert.assertEquals(StatsApiClient.currentSeason(LocalDate.of(2026, 4, 15)), "2025-26");
+        Assert.assertEquals(StatsApiClient.currentSeason(LocalDate.of(2099, 12, 1)), "2099-00");
+
+        // Step 2: Player averages come from the latest season the player has rows for
+        StatsApiClient currentClient = new StatsApiClient("http://127.0.0.1:" + server.getAddress().getPort() + "/stats",
+                "", "Regular Season", Duration.ofSeconds(5));
+        Assert.assertEquals(currentClient.getSeason(), StatsApiClient.currentSeason(LocalDate.now()));
+        Player player = currentClient.getPlayerSeasonStats("1629029", "Luka Dončić");
+        Assert.assertNotNull(player);
+        Assert.assertEquals(player.getTeam(), "TOT");
+        Assert.assertEquals(player.getPointsPerGame(), 28.2, 0.001);
+    }
+
+    /**
+     * Test that consecutive requests reuse one connection
+     */
+    @Test(description = "Requests reuse the same HTTP connection")
+    @Story("API Connection Reuse")
+    @Severity(SeverityLevel.MINOR)
+    public void verifyConnectionReuse() {
+        for (int i = 0; i < 5; i++) {
+            client.getLeaders("AST", 1);
+        }
+        Assert.assertEquals(clientPorts.size(), 1, "Expected one keep-alive connection, saw ports " + clientPorts);
+    }
+
+    /**
+     * Test that HTTP errors are surfaced with the status code
+     */
+    @Test(description = "Unknown endpoint fails with the HTTP status")
+    @Story("API Errors")
+    @Severity(SeverityLevel.MINOR)
+    public void verifyHttpErrorIsReported() {
+        try {
+            client.fetchResultSet("unknownEndpoint", Map.of(), "Anything");
+            Assert.fail("Expected an exception for a 404 response");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("HTTP 404"), e.getMessage());
+        }
+    }
+
+    private void serveFixture(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        lastQuery = exchange.getRequestURI().getQuery();
+
+        String endpoint = exchange.getRequestURI().getPath().substring("/stats/".length());
+        byte[] body;
+        try (InputStream fixture = getClass().getClassLoader().getResourceAsStream("fixtures/api/" + endpoint + ".json")) {
+            if (fixture == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            body = fixture.readAllBytes();
+        }
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        lastResponseGzipped = acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (lastResponseGzipped) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
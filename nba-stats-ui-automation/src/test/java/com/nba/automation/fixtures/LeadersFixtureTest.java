@@ -0,0 +1,183 @@
+package com.nba.automation.fixtures;
+
+import com.nba.automation.models.Player;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reuse, invalidation and isolation of the suite-scoped leaders fixture, with a fake loader
+ * Runs without a browser: mvn test -Dtest=LeadersFixtureTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Suite Fixtures")
+public class LeadersFixtureTest {
+
+    /**
+     * Test that the data is loaded once, reused, and reloaded when more leaders are requested
+     */
+    @Test(description = "Leaders data is loaded once and reused")
+    @Story("Fixture Reuse")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyReuseAndReport() {
+        AtomicInteger loads = new AtomicInteger();
+        LeadersFixture fixture = new LeadersFixture(countingLoader(loads), true, 60_000, true, 3);
+
+        // Step 1: Three tests asking for up to three leaders share one load
+        fixture.get(null, 3);
+        fixture.get(null, 1);
+        Assert.assertEquals(fixture.get(null, 3).getTopPlayers(3).size(), 3);
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertEquals(fixture.getReuseCount(), 2);
+
+        // Step 2: Asking for more leaders than were loaded reloads
+        Assert.assertEquals(fixture.get(null, 10).getPlayerUrls(10).size(), 10);
+        Assert.assertEquals(loads.get(), 2);
+
+        String report = fixture.getReport();
+        Assert.assertTrue(report.contains("Saved: 2 leaders page navigation(s)"), report);
+    }
+
+    /**
+     * Test that expired data, a failing consumer and explicit invalidation force a reload
+     */
+    @Test(description = "Invalidation rules force a reload")
+    @Story("Fixture Invalidation")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyInvalidationRules() {
+        // Step 1: A negative TTL expires the data immediately
+        AtomicInteger expiringLoads = new AtomicInteger();
+        LeadersFixture expiring = new LeadersFixture(countingLoader(expiringLoads), true, -1, true, 3);
+        expiring.get(null, 3);
+        expiring.get(null, 3);
+        Assert.assertEquals(expiringLoads.get(), 2);
+
+        // Step 2: A failing test drops the data only if it read it
+        AtomicInteger loads = new AtomicInteger();
+        LeadersFixture fixture = new LeadersFixture(countingLoader(loads), true, 60_000, true, 3);
+        fixture.get(null, 3);
+        LeadersFixture.beginTest();
+        fixture.onTestFailure("unrelatedTest");
+        fixture.get(null, 3);
+        Assert.assertEquals(loads.get(), 1);
+
+        fixture.onTestFailure("consumerTest");
+        fixture.get(null, 3);
+        Assert.assertEquals(loads.get(), 2);
+
+        // Step 3: Explicit invalidation
+        fixture.invalidate("site data changed");
+        fixture.get(null, 3);
+        Assert.assertEquals(loads.get(), 3);
+    }
+
+    /**
+     * Test that a page holding fewer leaders than requested is not reloaded on every request
+     */
+    @Test(description = "A short leaders page is loaded once")
+    @Story("Fixture Reuse")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyShortPageReused() {
+        AtomicInteger loads = new AtomicInteger();
+        LeadersFixture.Loader fullLoader = countingLoader(loads);
+        LeadersFixture fixture = new LeadersFixture((driver, count) -> fullLoader.load(driver, Math.min(count, 5)),
+                true, 60_000, true, 3);
+
+        // Step 1: The page has 5 leaders, so asking for 10 again is served from the first load
+        Assert.assertEquals(fixture.get(null, 10).size(), 5);
+        Assert.assertEquals(fixture.get(null, 10).size(), 5);
+        Assert.assertEquals(fixture.get(null, 4).size(), 5);
+        Assert.assertEquals(loads.get(), 1);
+
+        // Step 2: Asking for more than the last load asked for still reloads
+        fixture.get(null, 20);
+        Assert.assertEquals(loads.get(), 2);
+    }
+
+    /**
+     * Test that a slow load does not block requests the cached data or another load can serve
+     */
+    @Test(description = "Loads run outside the fixture lock")
+    @Story("Fixture Reuse")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyLoadOutsideLock() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LeadersFixture.Loader fastLoader = countingLoader(loads);
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowLoad = new CountDownLatch(1);
+        LeadersFixture fixture = new LeadersFixture((driver, count) -> {
+            if (count == 3) {
+                slowLoadStarted.countDown();
+                try {
+                    releaseSlowLoad.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return fastLoader.load(driver, count);
+        }, true, 60_000, true, 3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Step 1: One test starts a slow load of 3 leaders
+            Future<LeadersData> slow = executor.submit(() -> fixture.get(null, 3));
+            Assert.assertTrue(slowLoadStarted.await(5, TimeUnit.SECONDS), "Slow load should start");
+
+            // Step 2: A test needing 10 leaders loads them meanwhile instead of waiting for the slow load
+            Future<LeadersData> larger = executor.submit(() -> fixture.get(null, 10));
+            Assert.assertEquals(larger.get(5, TimeUnit.SECONDS).size(), 10);
+
+            // Step 3: The slow load finishes; its smaller result does not replace the newer data
+            releaseSlowLoad.countDown();
+            Assert.assertEquals(slow.get(5, TimeUnit.SECONDS).size(), 3);
+            Assert.assertEquals(fixture.get(null, 10).size(), 10);
+            Assert.assertEquals(loads.get(), 2);
+            Assert.assertEquals(fixture.getLoadCount(), 2);
+        } finally {
+            releaseSlowLoad.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that changes a test makes to its players never reach another test
+     */
+    @Test(description = "Tests cannot change the shared data")
+    @Story("Fixture Isolation")
+    @Severity(SeverityLevel.CRITICAL)
+    public void verifyIsolation() {
+        LeadersFixture fixture = new LeadersFixture(countingLoader(new AtomicInteger()), true, 60_000, true, 3);
+
+        Player first = fixture.get(null, 3).getTopPlayers(1).get(0);
+        first.setPointsPerGame(0.0);
+        fixture.get(null, 3).getPlayerUrls(3).put("Someone Else", "https://www.nba.com/stats/player/1/");
+
+        LeadersData shared = fixture.get(null, 3);
+        Assert.assertEquals(shared.getTopPlayers(1).get(0).getPointsPerGame(), 30.0);
+        Assert.assertEquals(shared.getPlayerUrls(3).size(), 3);
+    }
+
+    private static LeadersFixture.Loader countingLoader(AtomicInteger loads) {
+        return (driver, count) -> {
+            loads.incrementAndGet();
+            List<Player> players = new ArrayList<>();
+            Map<String, String> urls = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                players.add(new Player("Player " + i, "OKC", 30.0 - i, 5.0, 5.0));
+                urls.put("Player " + i, "https://www.nba.com/stats/player/" + i + "/");
+            }
+            return new LeadersData(players, urls, 2500, System.currentTimeMillis());
+        };
+    }
+}
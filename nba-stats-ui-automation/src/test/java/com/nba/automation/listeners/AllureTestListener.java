@@ -2,14 +2,14 @@ package com.nba.automation.listeners;
 
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import com.nba.automation.fixtures.LeadersFixture;
+import com.nba.automation.pages.PageSnapshot;
+import com.nba.automation.utils.AttachmentPipeline;
 import com.nba.automation.utils.DriverManager;
-import io.qameta.allure.Allure;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import com.nba.automation.utils.ReportFormatter;
+import com.nba.automation.utils.ScreenshotService;
 import org.openqa.selenium.WebDriver;
 
-import java.io.ByteArrayInputStream;
-
 /**
  * TestNG listener for Allure integration
  * Handles screenshot capture and test result reporting
@@ -29,22 +29,27 @@ public class AllureTestListener implements ITestListener {
         WebDriver driver = DriverManager.getDriver();
         if (driver != null) {
             try {
-                // Take screenshot
-                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-
-                // Add screenshot to Allure report
-                Allure.addAttachment("Screenshot - " + testName,
-                        new ByteArrayInputStream(screenshot));
+                // Capture screenshot (cropped to the failing table when possible); encoding happens off the test thread
+                ScreenshotService.getInstance().captureTestEnd("Screenshot - " + testName, driver, true);
 
                 // Add failure details
-                Allure.addAttachment("Failure Details",
-                        "Test: " + testName + "\nError: " + result.getThrowable().getMessage());
+                AttachmentPipeline.attachText("Failure Details",
+                        ReportFormatter.failureDetails(testName, result.getThrowable().getMessage()));
+
+                // Page snapshot the test read from, to re-run its reads offline with PageSnapshot.load
+                PageSnapshot snapshot = PageSnapshot.latest();
+                if (snapshot != null) {
+                    AttachmentPipeline.attachText("Page Snapshot - " + testName, "text/html", snapshot.getHtml(), "html");
+                }
 
             } catch (Exception e) {
                 System.err.println("Failed to capture screenshot: " + e.getMessage());
             }
         }
 
+        // Shared leaders data read by a failing test may be stale; the next test reloads it
+        LeadersFixture.getInstance().onTestFailure(testName);
+
         // Log failure
         System.err.println("✗ Test failed: " + testName);
         if (result.getThrowable() != null) {
@@ -63,11 +68,21 @@ public class AllureTestListener implements ITestListener {
 
     /**
      * Called when test succeeds
+     * Captures a screenshot in sampled or always screenshot mode
      */
     @Override
     public void onTestSuccess(ITestResult result) {
         String testName = result.getMethod().getMethodName();
         System.out.println("✓ Test passed: " + testName);
+
+        WebDriver driver = DriverManager.getDriver();
+        if (driver != null) {
+            try {
+                ScreenshotService.getInstance().captureTestEnd("Screenshot - " + testName, driver, false);
+            } catch (Exception e) {
+                System.err.println("Failed to capture screenshot: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -79,7 +94,7 @@ public class AllureTestListener implements ITestListener {
         System.out.println("⏭ Test skipped: " + testName);
 
         if (result.getThrowable() != null) {
-            Allure.addAttachment("Skip Reason", result.getThrowable().getMessage());
+            AttachmentPipeline.attachText("Skip Reason", result.getThrowable().getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.nba.automation.pages;
+
+import com.nba.automation.models.Player;
+import com.nba.automation.models.Team;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page objects reading saved page snapshots offline
+ * Runs without a browser: mvn test -Dtest=PageSnapshotTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Page Snapshots")
+public class PageSnapshotTest {
+
+    private static final String LEADERS_HTML = "<html><body><div class='nba-stats-content'>"
+            + "<div class='crom-container'><table>"
+            + "<thead><tr><th>#</th><th>PLAYER</th><th>TEAM</th><th>GP</th><th>PTS</th><th>REB</th><th>AST</th></tr></thead>"
+            + "<tbody>"
+            + "<tr><td>1</td><td><a href='/stats/player/1628983/'>Shai Gilgeous-Alexander</a></td><td>OKC</td>"
+            + "<td>76</td><td>32.7</td><td>5.0</td><td>6.4</td></tr>"
+            + "<tr><td>2</td><td><a href='/stats/player/203507/'>Giannis Antetokounmpo</a></td><td>MIL</td>"
+            + "<td>67</td><td>30.4</td><td>11.9</td><td>6.5</td></tr>"
+            + "<tr><td>3</td><td><a href='/stats/player/1629029/'>Luka Dončić</a></td><td>LAL</td>"
+            + "<td>50</td><td>28.2</td><td>8.2</td><td>7.7</td></tr>"
+            + "</tbody></table></div></div></body></html>";
+
+    /**
+     * Test that a saved team stats page yields every team with its conference and wins
+     */
+    @Test(description = "Team stats are read from a saved snapshot without a browser")
+    @Story("Offline Page Reads")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyTeamStatsFromSavedSnapshot() throws Exception {
+        PageSnapshot snapshot = PageSnapshot.load(Paths.get("src/test/resources/snapshots/team-stats.html"),
+                "https://www.nba.com/stats/teams/traditional");
+        TeamStatsPage teamStatsPage = new TeamStatsPage(null);
+        teamStatsPage.useSnapshot(snapshot);
+
+        List<Team> teams = teamStatsPage.getAllTeams();
+        Assert.assertEquals(teams.size(), 30);
+        Assert.assertEquals(teams.stream().mapToInt(Team::getWins).sum(), 1230);
+
+        Map<String, List<Team>> byConference = teamStatsPage.getTeamsByConferenceNames();
+        Assert.assertEquals(byConference.get("Eastern").size(), 15);
+        Assert.assertEquals(byConference.get("Western").size(), 15);
+    }
+
+    /**
+     * Test that leaders rows, XPath locators and relative player links resolve against a snapshot
+     */
+    @Test(description = "Leaders and player links are read from a snapshot")
+    @Story("Offline Page Reads")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyLeadersFromSnapshot() throws Exception {
+        // Step 1: Round-trip the snapshot through a file, as a failure artifact would be
+        Path file = Files.createTempFile("leaders", ".html");
+        new PageSnapshot("https://www.nba.com/stats/leaders", LEADERS_HTML, 0).save(file);
+        LeadersPage leadersPage = new LeadersPage(null);
+        leadersPage.useSnapshot(PageSnapshot.load(file, "https://www.nba.com/stats/leaders"));
+
+        // Step 2: Read through the page object exactly as the live tests do
+        List<Player> leaders = leadersPage.getTop3Leaders();
+        Assert.assertEquals(leaders.size(), 3);
+        Assert.assertEquals(leaders.get(1).getName(), "Giannis Antetokounmpo");
+        Assert.assertEquals(leaders.get(1).getReboundsPerGame(), 11.9);
+        Assert.assertEquals(leaders.get(2).getAssistsPerGame(), 7.7);
+
+        Assert.assertEquals(leadersPage.getPlayerPageUrl("Luka Dončić"), "https://www.nba.com/stats/player/1629029/");
+        Assert.assertEquals(new ArrayList<>(leadersPage.getLeaderPlayerUrls(2).keySet()),
+                List.of("Shai Gilgeous-Alexander", "Giannis Antetokounmpo"));
+
+        // Step 3: Locators the page object does not own work the same way
+        Assert.assertEquals(leadersPage.getSnapshot().findAll(By.cssSelector("tbody tr")).size(), 3);
+        Assert.assertTrue(leadersPage.getSnapshot().isPresent(By.tagName("table")));
+    }
+}
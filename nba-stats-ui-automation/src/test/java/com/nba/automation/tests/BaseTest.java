@@ -1,41 +1,78 @@
 package com.nba.automation.tests;
 
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
-import com.nba.automation.utils.DriverManager;
+import com.nba.automation.fixtures.LeadersFixture;
+import com.nba.automation.pages.PageSnapshot;
+import com.nba.automation.utils.AttachmentPipeline;
+import com.nba.automation.utils.TestLifecycle;
 import com.nba.automation.listeners.AllureTestListener;
-import io.qameta.allure.Allure;
+
+import java.lang.reflect.Method;
 
 /**
  * Base test class containing common setup and teardown
  * All test classes should extend this class
+ * The session lifecycle and its reports come from TestLifecycle in automation-core; this class adds the
+ * NBA page snapshots and suite fixtures
  */
 @Listeners(AllureTestListener.class)
 public class BaseTest {
 
+    /**
+     * Suite setup executed once before all tests
+     * Starts suite-scoped fixtures and command timings empty, so the first test that needs them loads them
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void setUpSuite() {
+        LeadersFixture.getInstance().reset();
+        TestLifecycle.beginSuite();
+    }
+
     /**
      * Setup method executed before each test
      * Initializes WebDriver and browser
+     * @param method Test method about to run, names its record/replay archive
      */
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
         // Initialize WebDriver
-        DriverManager.initializeDriver();
+        TestLifecycle.beginTest(getClass().getSimpleName() + "." + method.getName());
+        PageSnapshot.clearLatest();
+        LeadersFixture.beginTest();
 
         // Add environment information to Allure report
-        Allure.addAttachment("Test Environment", "NBA Stats Website Automation");
-        Allure.addAttachment("Browser", "Chrome");
-        Allure.addAttachment("Base URL", "https://stats.nba.com");
+        AttachmentPipeline.attachText("Test Environment", "NBA Stats Website Automation");
+        AttachmentPipeline.attachText("Browser", "Chrome");
+        AttachmentPipeline.attachText("Base URL", "https://stats.nba.com");
     }
 
     /**
      * Teardown method executed after each test
-     * Closes WebDriver and cleans up resources
+     * Returns WebDriver to the session pool or closes it
      */
     @AfterMethod
     public void tearDown() {
-        // Close WebDriver
-        DriverManager.closeDriver();
+        TestLifecycle.endTest();
+    }
+
+    /**
+     * Suite teardown executed once after all tests
+     * Reports fixture reuse, then quits pooled browser sessions, waits for pending attachments and reports
+     * pool metrics, command timings, the run's timeline and screenshot storage
+     */
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        // Navigations and time saved by sharing the leaders data across tests
+        String fixtureReport = LeadersFixture.getInstance().getReport();
+        if (fixtureReport != null) {
+            AttachmentPipeline.attachText("Suite Fixtures", fixtureReport);
+            System.out.println(fixtureReport);
+        }
+
+        TestLifecycle.endSuite();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.nba.automation.tests;
+
+import com.nba.automation.config.ConfigManager;
+import com.nba.automation.utils.AttachmentPipeline;
+import com.nba.automation.utils.BrowserProfile;
+import com.nba.automation.utils.DriverManager;
+import io.qameta.allure.*;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark comparing session start and page load time of the standard and throughput browser profiles
+ * Both profiles run headless without the session pool; every sample starts a fresh session, so page loads
+ * are first loads (cold cache for standard, preloaded template cache for throughput)
+ * Part of benchmark.xml, not the default suite; run alone with: mvn test -Dtest=BrowserProfileBenchmarkTest
+ */
+@Epic("NBA Stats Performance")
+@Feature("Browser Profiles")
+public class BrowserProfileBenchmarkTest {
+
+    private static final int SESSIONS = 5;
+
+    /**
+     * Test to measure median session start and first page load of each profile
+     * The throughput template is built before measuring, as it is once per machine
+     */
+    @Test(description = "Compare session start and page load time of the standard and throughput profiles")
+    @Story("Browser Profile Throughput")
+    @Severity(SeverityLevel.MINOR)
+    public void compareBrowserProfiles() {
+        ConfigManager config = ConfigManager.getInstance();
+        String configuredProfile = config.getProperty("browser.profile", "standard");
+        String configuredHeadless = config.getProperty("headless", "false");
+        String configuredPool = config.getProperty("session.pool.enabled", "false");
+        List<String> pages = config.getBrowserProfileWarmupUrls();
+        Assert.assertFalse(pages.isEmpty(), "browser.profile.warmup.urls (or base.url) is empty");
+
+        // Step 1: Build the template outside the measurement
+        long templateStart = System.currentTimeMillis();
+        BrowserProfile.prepareTemplate(Paths.get(config.getBrowserProfileTemplateDir()), config.getBrowserViewport(), pages);
+        long templateMillis = System.currentTimeMillis() - templateStart;
+
+        Map<BrowserProfile.Mode, List<Long>> sessionStarts = new LinkedHashMap<>();
+        Map<BrowserProfile.Mode, List<Long>> pageLoads = new LinkedHashMap<>();
+        Dimension throughputWindow = null;
+        try {
+            for (BrowserProfile.Mode profile : BrowserProfile.Mode.values()) {
+                Map<String, String> overrides = new LinkedHashMap<>();
+                overrides.put("browser.profile", profile.name().toLowerCase());
+                overrides.put("headless", "true");
+                overrides.put("session.pool.enabled", "false");
+                config.applySuiteOverrides(overrides);
+
+                // Step 2: Time session start, then the first load of a page in that session
+                List<Long> starts = new ArrayList<>();
+                List<Long> loads = new ArrayList<>();
+                for (int i = 0; i < SESSIONS; i++) {
+                    long startTime = System.nanoTime();
+                    DriverManager.initializeDriver();
+                    starts.add((System.nanoTime() - startTime) / 1_000_000);
+                    try {
+                        WebDriver driver = DriverManager.getDriver();
+                        loads.add(loadMillis(driver, pages.get(i % pages.size())));
+                        if (profile == BrowserProfile.Mode.THROUGHPUT) {
+                            throughputWindow = driver.manage().window().getSize();
+                        }
+                    } finally {
+                        DriverManager.closeDriver();
+                    }
+                }
+                sessionStarts.put(profile, starts);
+                pageLoads.put(profile, loads);
+            }
+        } finally {
+            Map<String, String> restore = new LinkedHashMap<>();
+            restore.put("browser.profile", configuredProfile);
+            restore.put("headless", configuredHeadless);
+            restore.put("session.pool.enabled", configuredPool);
+            config.applySuiteOverrides(restore);
+        }
+
+        // Step 3: Report medians relative to the standard profile
+        long baselineStart = median(sessionStarts.get(BrowserProfile.Mode.STANDARD));
+        long baselineLoad = median(pageLoads.get(BrowserProfile.Mode.STANDARD));
+        StringBuilder report = new StringBuilder("Profile    | Session start | First page load | Speedup (start / load)\n");
+        for (BrowserProfile.Mode profile : BrowserProfile.Mode.values()) {
+            long start = median(sessionStarts.get(profile));
+            long load = median(pageLoads.get(profile));
+            report.append(String.format("%-10s | %11dms | %13dms | %.2fx / %.2fx\n", profile, start, load,
+                    (double) baselineStart / Math.max(1, start), (double) baselineLoad / Math.max(1, load)));
+        }
+        report.append(String.format("Medians of %d session(s) per profile over %d page(s); template built in %dms",
+                SESSIONS, pages.size(), templateMillis));
+        AttachmentPipeline.attachText("Browser Profile Benchmark", report.toString());
+        System.out.println(report);
+
+        Assert.assertEquals(throughputWindow, config.getBrowserViewport(), "Throughput profile window size");
+    }
+
+    /**
+     * Navigate and wait for the load event
+     * @param driver Session
+     * @param url Page to load
+     * @return Milliseconds until document.readyState is complete
+     */
+    private long loadMillis(WebDriver driver, String url) {
+        long startTime = System.nanoTime();
+        driver.get(url);
+        new WebDriverWait(driver, Duration.ofSeconds(30)).until(d ->
+                "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
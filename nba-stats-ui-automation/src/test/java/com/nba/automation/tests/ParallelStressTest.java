@@ -0,0 +1,113 @@
+package com.nba.automation.tests;
+
+import com.nba.automation.utils.AttachmentPipeline;
+import com.nba.automation.utils.DriverManager;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stress test for parallel suite execution
+ * Runs the functional suite at 1, 4 and 8 threads and reports wall-clock speedup
+ * Part of benchmark.xml, not the default suite; run alone with: mvn test -Dtest=ParallelStressTest
+ */
+@Epic("NBA Stats Performance")
+@Feature("Parallel Execution")
+public class ParallelStressTest {
+
+    private static final int[] THREAD_COUNTS = {1, 4, 8};
+
+    private static final List<Class<?>> SUITE_CLASSES = List.of(
+            TeamWinsTest.class, TopPlayersTest.class, PerformanceTest.class);
+
+    /**
+     * Test to verify the suite runs correctly and faster with more threads
+     * Each run gets a fresh session pool so timings are comparable
+     */
+    @Test(description = "Run the suite at 1, 4 and 8 threads and report wall-clock speedup")
+    @Story("Parallel Suite Speedup")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyParallelSuiteSpeedup() {
+        Map<Integer, Long> wallClockTimes = new LinkedHashMap<>();
+        Map<Integer, Boolean> runResults = new LinkedHashMap<>();
+
+        for (int threadCount : THREAD_COUNTS) {
+            TestNG testng = new TestNG();
+            testng.setUseDefaultListeners(false);
+            testng.setXmlSuites(List.of(buildSuite(threadCount)));
+
+            // Size the session pool for this run's thread count
+            System.setProperty("parallel.mode", threadCount > 1 ? "methods" : "none");
+            System.setProperty("parallel.threads", String.valueOf(threadCount));
+
+            long startTime = System.currentTimeMillis();
+            testng.run();
+            long wallClockTime = System.currentTimeMillis() - startTime;
+
+            // Close the pool so the next run starts from the same cold state
+            DriverManager.shutdownPool();
+            System.clearProperty("parallel.mode");
+            System.clearProperty("parallel.threads");
+
+            wallClockTimes.put(threadCount, wallClockTime);
+            runResults.put(threadCount, !testng.hasFailure());
+            System.out.println(String.format("Suite at %d thread(s): %dms", threadCount, wallClockTime));
+        }
+
+        // Build speedup report relative to the single-threaded run
+        long baseline = wallClockTimes.get(THREAD_COUNTS[0]);
+        StringBuilder report = new StringBuilder("Threads | Wall clock | Speedup | Passed\n");
+        for (Map.Entry<Integer, Long> entry : wallClockTimes.entrySet()) {
+            report.append(String.format("%7d | %8dms | %6.2fx | %s\n", entry.getKey(), entry.getValue(),
+                    (double) baseline / entry.getValue(), runResults.get(entry.getKey())));
+        }
+        report.append(String.format("Test methods in suite: %d (upper bound on speedup)", countTestMethods()));
+
+        AttachmentPipeline.attachText("Parallel Suite Speedup", report.toString());
+        System.out.println(report);
+
+        // Parallel runs must be as correct as the sequential one
+        for (int threadCount : THREAD_COUNTS) {
+            Assert.assertEquals(runResults.get(threadCount), runResults.get(THREAD_COUNTS[0]),
+                    "Suite result at " + threadCount + " threads differs from the single-threaded run");
+        }
+    }
+
+    /**
+     * Build an in-memory suite running the functional test classes in parallel
+     * @param threadCount Number of worker threads
+     * @return TestNG suite definition
+     */
+    private XmlSuite buildSuite(int threadCount) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Parallel Stress - " + threadCount + " threads");
+        suite.setParallel(threadCount > 1 ? XmlSuite.ParallelMode.METHODS : XmlSuite.ParallelMode.NONE);
+        suite.setThreadCount(threadCount);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("NBA Stats Tests");
+        List<XmlClass> classes = new ArrayList<>();
+        for (Class<?> testClass : SUITE_CLASSES) {
+            classes.add(new XmlClass(testClass));
+        }
+        test.setXmlClasses(classes);
+        return suite;
+    }
+
+    private long countTestMethods() {
+        return SUITE_CLASSES.stream()
+                .flatMap(testClass -> Arrays.stream(testClass.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(Test.class))
+                .count();
+    }
+}
@@ -2,14 +2,29 @@ package com.nba.automation.tests;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
-import com.nba.automation.pages.LeadersPage;
+import com.nba.automation.fixtures.LeadersData;
+import com.nba.automation.fixtures.LeadersFixture;
 import com.nba.automation.pages.PlayerPage;
 import com.nba.automation.models.Player;
+import com.nba.automation.utils.AttachmentPipeline;
 import com.nba.automation.utils.DriverManager;
+import com.nba.automation.utils.ReportFormatter;
 import com.nba.automation.config.ConfigManager;
+import com.nba.automation.performance.LatencyHistogram;
+import com.nba.automation.performance.PageTimings;
+import com.nba.automation.performance.RegressionDetector;
+import com.nba.automation.performance.TrendStore;
 import io.qameta.allure.*;
+import org.testng.asserts.SoftAssert;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Test class for verifying page performance
@@ -32,11 +47,10 @@ public class PerformanceTest extends BaseTest {
         // Get performance threshold from configuration
         int performanceThreshold = config.getPerformanceThreshold(); // 4000ms
 
-        // Step 1: Get top 3 players from leaders page
-        LeadersPage leadersPage = new LeadersPage(DriverManager.getDriver());
-        leadersPage.navigateToLeadersPage();
+        // Step 1: Get top 3 players from the leaders page, loaded once per suite
+        LeadersData leaders = LeadersFixture.getInstance().get(DriverManager.getDriver(), 3);
 
-        List<Player> top3Players = leadersPage.getTop3PlayersWithAllStats();
+        List<Player> top3Players = leaders.getTopPlayers(3);
         Assert.assertFalse(top3Players.isEmpty(), "No players found for performance testing");
 
         // Step 2: Test loading performance for each player page
@@ -45,7 +59,7 @@ public class PerformanceTest extends BaseTest {
         Player player = top3Players.get(0);
 
         // Get player page URL
-        String playerUrl = leadersPage.getPlayerPageUrl(player.getName());
+        String playerUrl = leaders.getPlayerUrl(player.getName());
         Assert.assertNotNull(playerUrl, "Player page URL not found for: " + player.getName());
 
         // Measure page navigation time
@@ -62,20 +76,182 @@ public class PerformanceTest extends BaseTest {
         // Calculate total loading time
         long totalLoadTime = navigationTime + statsLoadTime;
 
-        // Verify performance threshold
-        Assert.assertTrue(statsLoadTime <= performanceThreshold,
-                String.format("Stats section loading time exceeded threshold for %s: %dms > %dms",
-                        player.getName(), statsLoadTime, performanceThreshold));
+        // Collect browser-side timings, free of WebDriver polling overhead
+        PageTimings timings = playerPage.getPageTimings();
+        System.out.println("Browser timings : " + timings);
 
         // Add performance data to Allure report
-        Allure.addAttachment("Performance Data - " + player.getName(),
-                String.format("Navigation Time: %dms\nStats Load Time: %dms\nTotal Time: %dms\nThreshold: %dms",
-                        navigationTime, statsLoadTime, totalLoadTime, performanceThreshold));
+        AttachmentPipeline.attachText("Performance Data - " + player.getName(),
+                ReportFormatter.performanceData(navigationTime, statsLoadTime, totalLoadTime, performanceThreshold));
+        AttachmentPipeline.attachText("Browser Timings - " + player.getName(), timings.toReport());
+
+        // Keep every timing with its page and commit for the trend store
+        Map<String, Number> metrics = new LinkedHashMap<>();
+        metrics.put("navigation", navigationTime);
+        metrics.put("statsLoad", statsLoadTime);
+        metrics.put("total", totalLoadTime);
+        metrics.put("timeToFirstByte", timings.getTimeToFirstByte());
+        metrics.put("domContentLoaded", timings.getDomContentLoaded());
+        metrics.put("firstContentfulPaint", timings.getFirstContentfulPaint());
+        metrics.put("statsTableVisible", timings.getStatsTableVisible());
+        recordTrend("PerformanceTest.verifyPlayerPageStatsLoadingPerformance", playerUrl, metrics);
+
+        // Verify performance thresholds on browser-side numbers
+        SoftAssert sa = new SoftAssert();
+        sa.assertTrue(timings.getStatsTableVisible() >= 0,
+                "Stats table visible mark was not recorded for " + player.getName());
+        sa.assertTrue(timings.getStatsTableVisible() <= performanceThreshold,
+                String.format("Stats table visible time exceeded threshold for %s: %.0fms > %dms",
+                        player.getName(), timings.getStatsTableVisible(), performanceThreshold));
+        // -1 means the browser did not report the metric, which must not pass as fast
+        sa.assertTrue(timings.getTimeToFirstByte() >= 0,
+                "Time to first byte was not reported for " + player.getName());
+        sa.assertTrue(timings.getDomContentLoaded() >= 0,
+                "DOMContentLoaded was not reported for " + player.getName());
+        sa.assertTrue(timings.getFirstContentfulPaint() >= 0,
+                "First contentful paint was not reported for " + player.getName());
+        sa.assertTrue(timings.getTimeToFirstByte() <= config.getTtfbThreshold(),
+                String.format("TTFB exceeded threshold for %s: %.0fms > %dms",
+                        player.getName(), timings.getTimeToFirstByte(), config.getTtfbThreshold()));
+        sa.assertTrue(timings.getDomContentLoaded() <= config.getDomContentLoadedThreshold(),
+                String.format("DOMContentLoaded exceeded threshold for %s: %.0fms > %dms",
+                        player.getName(), timings.getDomContentLoaded(), config.getDomContentLoadedThreshold()));
+        sa.assertTrue(timings.getFirstContentfulPaint() <= config.getFirstContentfulPaintThreshold(),
+                String.format("First contentful paint exceeded threshold for %s: %.0fms > %dms",
+                        player.getName(), timings.getFirstContentfulPaint(), config.getFirstContentfulPaintThreshold()));
+        checkTrend("PerformanceTest.verifyPlayerPageStatsLoadingPerformance", sa);
+        sa.assertAll();
 
         // Log performance results
-        System.out.println(String.format("✓ Performance test passed for %s: %dms (threshold: %dms)",
-                player.getName(), statsLoadTime, performanceThreshold));
+        System.out.println(String.format("✓ Performance test passed for %s: stats table visible at %.0fms (threshold: %dms)",
+                player.getName(), timings.getStatsTableVisible(), performanceThreshold));
 
         System.out.println("✓ Player page performance tests completed successfully");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test to verify player page load percentiles across leader players
+     * Runs warm-up loads, then samples stats-table-visible times into a histogram
+     */
+    @Test(description = "Verify player page load p50/p90/p99 across leader players stay within thresholds")
+    @Story("Player Page Load Percentiles")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyPlayerPageLoadPercentiles() throws IOException {
+        int warmupRuns = config.getSamplingWarmupRuns();
+        int measuredRuns = config.getSamplingMeasuredRuns();
+
+        // Step 1: Get leader player page URLs, loaded once per suite
+        int playerCount = config.getSamplingPlayerCount();
+        List<String> playerUrls = new ArrayList<>(LeadersFixture.getInstance()
+                .get(DriverManager.getDriver(), playerCount).getPlayerUrls(playerCount).values());
+        Assert.assertFalse(playerUrls.isEmpty(), "No player URLs found for performance sampling");
+
+        // Step 2: Warm up browser and server caches for every player page, so no first visit is measured cold
+        PlayerPage playerPage = new PlayerPage(DriverManager.getDriver());
+        for (int i = 0; i < warmupRuns * playerUrls.size(); i++) {
+            measureStatsLoadTime(playerPage, playerUrls.get(i % playerUrls.size()));
+        }
+
+        // Step 3: Sample load times round-robin across all leader players
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<String> missingMarks = new ArrayList<>();
+        for (int i = 0; i < measuredRuns; i++) {
+            String playerUrl = playerUrls.get(i % playerUrls.size());
+            long statsLoadTime = measureStatsLoadTime(playerPage, playerUrl);
+            if (statsLoadTime < 0) {
+                // A WebDriver wait time is a different metric and must not mix into the histogram
+                missingMarks.add(playerUrl);
+                continue;
+            }
+            histogram.recordValue(statsLoadTime);
+            recordTrend("PerformanceTest.verifyPlayerPageLoadPercentiles", playerUrl,
+                    Map.of("statsTableVisible", statsLoadTime));
+        }
+
+        // Export histogram as CSV and to the Allure report
+        Path csvFile = Paths.get(config.getPerformanceOutputDir(), "player-page-load-histogram.csv");
+        histogram.writeCsv(csvFile);
+        AttachmentPipeline.attachText("Player Page Load Percentiles", histogram.toSummary());
+        AttachmentPipeline.attachText("Player Page Load Histogram", "text/csv", histogram.toCsv(), "csv");
+        System.out.println(histogram.toSummary());
+
+        // Step 4: Verify each percentile against its threshold, and the samples against earlier runs
+        SoftAssert sa = new SoftAssert();
+        sa.assertTrue(missingMarks.isEmpty(), String.format("Stats table visible mark was not recorded for %d of %d "
+                + "sample(s): %s", missingMarks.size(), measuredRuns, missingMarks));
+        checkTrend("PerformanceTest.verifyPlayerPageLoadPercentiles", sa);
+        for (String percentile : new String[] {"p50", "p90", "p99"}) {
+            long value = histogram.getValueAtPercentile(Double.parseDouble(percentile.substring(1)));
+            int threshold = config.getPercentileThreshold(percentile);
+            sa.assertTrue(value <= threshold,
+                    String.format("Player page %s load time exceeded threshold: %dms > %dms", percentile, value, threshold));
+        }
+        sa.assertAll();
+
+        System.out.println(String.format("✓ Player page load percentiles within thresholds over %d samples",
+                histogram.getTotalCount()));
+    }
+
+    /**
+     * Load a player page and measure when its stats table became visible
+     * @param playerPage Player page object
+     * @param playerUrl Player page URL
+     * @return Browser-side stats-table-visible time, or -1 if the mark is missing
+     */
+    private long measureStatsLoadTime(PlayerPage playerPage, String playerUrl) {
+        playerPage.navigateToPlayerPage(playerUrl);
+        playerPage.waitForStatsToLoad();
+
+        PageTimings timings = playerPage.getPageTimings();
+        return timings.getStatsTableVisible() >= 0 ? Math.round(timings.getStatsTableVisible()) : -1;
+    }
+
+    /**
+     * Append timings to the trend store; a store that cannot be written never fails the test
+     * @param test Test name the timings are kept under
+     * @param pageUrl Page the timings were taken on, stored as its path
+     * @param metrics Metric name to milliseconds
+     */
+    private void recordTrend(String test, String pageUrl, Map<String, ? extends Number> metrics) {
+        if (!config.isTrendEnabled()) {
+            return;
+        }
+        try {
+            TrendStore.getInstance().record(test, URI.create(pageUrl).getPath(), metrics);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to record performance trend: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compare this run's timings of a test with earlier runs and report slowdowns
+     * Regressions fail the test when performance.trend.action=fail, otherwise they are only reported
+     * @param test Test name the timings are kept under
+     * @param sa Soft assertions of the test
+     */
+    private void checkTrend(String test, SoftAssert sa) {
+        if (!config.isTrendEnabled()) {
+            return;
+        }
+        try {
+            TrendStore trends = TrendStore.getInstance();
+            List<RegressionDetector.Result> results = trends.check(test);
+            String report = trends.formatReport(test, results);
+            AttachmentPipeline.attachText("Performance Trend", report);
+            System.out.println(report);
+
+            for (RegressionDetector.Result result : results) {
+                if (!result.isRegression()) {
+                    continue;
+                }
+                if (config.getEnum("performance.trend.action", RegressionDetector.Action.WARN) == RegressionDetector.Action.FAIL) {
+                    sa.fail("Performance regression: " + result);
+                } else {
+                    System.err.println("⚠ Performance regression: " + result);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to check performance trend: " + e.getMessage());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import com.nba.automation.pages.TeamStatsPage;
 import com.nba.automation.pages.StandingsPage;
+import com.nba.automation.utils.AttachmentPipeline;
 import com.nba.automation.utils.DriverManager;
 import io.qameta.allure.*;
 
@@ -37,8 +38,8 @@ public class TeamWinsTest extends BaseTest {
         int westernWinsFromStats = teamsMap.get("Western").stream().mapToInt(Team::getWins).sum();
 
         // Add stats to Allure report
-        Allure.addAttachment("Eastern Conference Wins (Stats Page)", String.valueOf(easternWinsFromStats));
-        Allure.addAttachment("Western Conference Wins (Stats Page)", String.valueOf(westernWinsFromStats));
+        AttachmentPipeline.attachText("Eastern Conference Wins (Stats Page)", String.valueOf(easternWinsFromStats));
+        AttachmentPipeline.attachText("Western Conference Wins (Stats Page)", String.valueOf(westernWinsFromStats));
 
 //        // Step 2: Navigate to standings page and get conference wins
 //        StandingsPage standingsPage = new StandingsPage(DriverManager.getDriver());
@@ -51,8 +52,8 @@ public class TeamWinsTest extends BaseTest {
 //        int westernWinsFromStandings = teamsMap.get("Western").stream().mapToInt(Team::getWins).sum();
 //
 //        // Add standings data to Allure report
-//        Allure.addAttachment("Eastern Conference Wins (Standings Page)", String.valueOf(easternWinsFromStandings));
-//        Allure.addAttachment("Western Conference Wins (Standings Page)", String.valueOf(westernWinsFromStandings));
+//        AttachmentPipeline.attachText("Eastern Conference Wins (Standings Page)", String.valueOf(easternWinsFromStandings));
+//        AttachmentPipeline.attachText("Western Conference Wins (Standings Page)", String.valueOf(westernWinsFromStandings));
 //
 //        // Step 3: Verify consistency between pages
 //        Assert.assertEquals(easternWinsFromStats, easternWinsFromStandings,
@@ -1,16 +1,25 @@
 package com.nba.automation.tests;
 
-import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import com.nba.automation.api.StatsApiClient;
 import com.nba.automation.pages.LeadersPage;
-import com.nba.automation.pages.PlayerPage;
+import com.nba.automation.pages.PlayerPageFanOut;
+import com.nba.automation.pages.TableCrawler;
+import com.nba.automation.fixtures.LeadersData;
+import com.nba.automation.fixtures.LeadersFixture;
 import com.nba.automation.models.Player;
+import com.nba.automation.utils.AttachmentPipeline;
 import com.nba.automation.utils.DriverManager;
+import com.nba.automation.utils.ReportFormatter;
+import com.nba.automation.utils.StatsRowMapper;
 import io.qameta.allure.*;
 import org.testng.asserts.SoftAssert;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Test class for verifying top players statistics
@@ -21,42 +30,52 @@ import java.util.List;
 public class TopPlayersTest extends BaseTest {
 
     /**
-     * Test to verify top 3 players' stats consistency
-     * Compares PPG, APG, and RPG between leaders page and player pages
+     * Test to verify top players' stats consistency
+     * Compares PPG, APG, and RPG between leaders page and player pages loaded concurrently
+     * Number of players is players.verify.count in config.properties (3 by default)
      */
-    @Test(description = "Verify top 3 players stats match between leaders page and individual player pages")
+    @Test(description = "Verify top players stats match between leaders page and individual player pages")
     @Story("Top Players Stats Verification")
     @Severity(SeverityLevel.CRITICAL)
     public void verifyTop3PlayersStatsConsistency() {
 
         SoftAssert sa = new SoftAssert();
-        // Step 1: Navigate to leaders page and get top 3 players
-        LeadersPage leadersPage = new LeadersPage(DriverManager.getDriver());
-        leadersPage.navigateToLeadersPage();
-
-        // Get top 3 players with combined stats
-        List<Player> top3PlayersFromLeaders = leadersPage.getTop3PlayersWithAllStats();
-
-        Assert.assertFalse(top3PlayersFromLeaders.isEmpty(), "No players found on leaders page");
-        Assert.assertTrue(top3PlayersFromLeaders.size() >= 3, "Less than 3 players found on leaders page");
+        int playerCount = LeadersFixture.getVerifyPlayerCount();
 
-        // Step 2: Verify each player's stats on their individual page
-        PlayerPage playerPage = new PlayerPage(DriverManager.getDriver());
+        // Step 1: Get top players from the leaders page, loaded once per suite
+        LeadersData leaders = LeadersFixture.getInstance().get(DriverManager.getDriver(), playerCount);
 
-        for (int i = 0; i < Math.min(3, top3PlayersFromLeaders.size()); i++) {
+        // Get top players with combined stats
+        List<Player> topPlayersFromLeaders = leaders.getTopPlayers(playerCount);
 
-            Player leaderPlayer = top3PlayersFromLeaders.get(i);
+        Assert.assertFalse(topPlayersFromLeaders.isEmpty(), "No players found on leaders page");
+        Assert.assertTrue(topPlayersFromLeaders.size() >= playerCount,
+                "Less than " + playerCount + " players found on leaders page");
 
-            WebElement playerUrlLink = leadersPage.getPlayerPageUrlLink(leaderPlayer.getName());
-            playerPage.navigateToPlayerPageWithLink(playerUrlLink);
+        // Step 2: Load every player page concurrently, in leader order
+        Map<String, String> playerUrls = leaders.getPlayerUrls(playerCount);
+        List<String> urlsInLeaderOrder = new ArrayList<>();
+        for (Player leaderPlayer : topPlayersFromLeaders) {
+            String playerUrl = playerUrls.get(leaderPlayer.getName());
+            Assert.assertNotNull(playerUrl, "No player page link found for " + leaderPlayer.getName());
+            urlsInLeaderOrder.add(playerUrl);
         }
 
+        List<PlayerPageFanOut.Result> playerPages = new PlayerPageFanOut(DriverManager.getDriver())
+                .loadAll(urlsInLeaderOrder);
+
         System.out.println("Validating player stats.....");
-        for (int i = 0; i < Math.min(3, top3PlayersFromLeaders.size()); i++) {
-            Player leaderPlayer = top3PlayersFromLeaders.get(i);
+        for (int i = 0; i < topPlayersFromLeaders.size(); i++) {
+            Player leaderPlayer = topPlayersFromLeaders.get(i);
+            PlayerPageFanOut.Result playerPage = playerPages.get(i);
+
+            if (!playerPage.isSuccess()) {
+                sa.fail("Player page for " + leaderPlayer.getName() + " failed to load: " + playerPage.getError());
+                continue;
+            }
 
             // Get player stats from individual page
-            Player playerPageStats = playerPage.getPlayerStats(i, leaderPlayer);
+            Player playerPageStats = playerPage.getPlayer();
 
             // Verify player name matches
             sa.assertEquals(playerPageStats.getName().replaceAll("\\s+", "").toUpperCase(),
@@ -82,12 +101,9 @@ public class TopPlayersTest extends BaseTest {
                             leaderPlayer.getName(), leaderPlayer.getReboundsPerGame(), playerPageStats.getReboundsPerGame()));
 
             // Add player stats to Allure report
-            Allure.addAttachment("Player " + (i + 1) + " Stats Comparison",
-                    String.format("Name: %s\nPPG: %.1f (Leaders) vs %.1f (Player Page)\nAPG: %.1f vs %.1f\nRPG: %.1f vs %.1f",
-                            leaderPlayer.getName(),
-                            leaderPlayer.getPointsPerGame(), playerPageStats.getPointsPerGame(),
-                            leaderPlayer.getAssistsPerGame(), playerPageStats.getAssistsPerGame(),
-                            leaderPlayer.getReboundsPerGame(), playerPageStats.getReboundsPerGame()));
+            AttachmentPipeline.attachText("Player " + (i + 1) + " Stats Comparison",
+                    ReportFormatter.statsComparison(leaderPlayer, "Leaders", playerPageStats, "Player Page")
+                            + "\nPage load: " + playerPage.getLoadMillis() + "ms");
 
             // Log success for this player
             System.out.println("✓ Stats verification passed for: " + leaderPlayer.getName());
@@ -95,6 +111,107 @@ public class TopPlayersTest extends BaseTest {
         }
 
         sa.assertAll();
-        System.out.println("✓ All top 3 players stats verification completed successfully");
+        System.out.println("✓ All top " + playerCount + " players stats verification completed successfully");
+    }
+
+    /**
+     * Test to verify top 3 players' stats against the stats API
+     * Uses the API as the reference side instead of opening each player page in the browser
+     */
+    @Test(description = "Verify top 3 players stats on leaders page match the stats API")
+    @Story("Top Players Stats Verification")
+    @Severity(SeverityLevel.CRITICAL)
+    public void verifyTop3PlayersStatsMatchApi() {
+
+        SoftAssert sa = new SoftAssert();
+        // Step 1: Get top 3 players with their player page links, loaded once per suite
+        LeadersData leaders = LeadersFixture.getInstance().get(DriverManager.getDriver(), 3);
+
+        List<Player> top3PlayersFromLeaders = leaders.getTopPlayers(3);
+        Assert.assertTrue(top3PlayersFromLeaders.size() >= 3, "Less than 3 players found on leaders page");
+
+        Map<String, String> playerUrls = leaders.getPlayerUrls(3);
+
+        // Step 2: Fetch each player's season averages from the API
+        StatsApiClient apiClient = new StatsApiClient();
+
+        for (int i = 0; i < 3; i++) {
+            Player leaderPlayer = top3PlayersFromLeaders.get(i);
+            String playerId = StatsApiClient.playerIdFromUrl(playerUrls.get(leaderPlayer.getName()));
+            Assert.assertNotNull(playerId, "No player page link found for " + leaderPlayer.getName());
+
+            Player apiPlayer = apiClient.getPlayerSeasonStats(playerId, leaderPlayer.getName());
+            if (apiPlayer == null) {
+                sa.fail("Stats API has no season averages for " + leaderPlayer.getName());
+                continue;
+            }
+
+            // Step 3: Compare UI values against API values (with small tolerance for rounding)
+            sa.assertTrue(Math.abs(apiPlayer.getPointsPerGame() - leaderPlayer.getPointsPerGame()) < 0.1,
+                    String.format("PPG mismatch for %s: Leaders page=%.1f, API=%.1f",
+                            leaderPlayer.getName(), leaderPlayer.getPointsPerGame(), apiPlayer.getPointsPerGame()));
+            sa.assertTrue(Math.abs(apiPlayer.getAssistsPerGame() - leaderPlayer.getAssistsPerGame()) < 0.1,
+                    String.format("APG mismatch for %s: Leaders page=%.1f, API=%.1f",
+                            leaderPlayer.getName(), leaderPlayer.getAssistsPerGame(), apiPlayer.getAssistsPerGame()));
+            sa.assertTrue(Math.abs(apiPlayer.getReboundsPerGame() - leaderPlayer.getReboundsPerGame()) < 0.1,
+                    String.format("RPG mismatch for %s: Leaders page=%.1f, API=%.1f",
+                            leaderPlayer.getName(), leaderPlayer.getReboundsPerGame(), apiPlayer.getReboundsPerGame()));
+
+            AttachmentPipeline.attachText("Player " + (i + 1) + " Stats vs API",
+                    ReportFormatter.statsComparison(leaderPlayer, "Leaders", apiPlayer, "API"));
+
+            System.out.println("✓ API stats verification passed for: " + leaderPlayer.getName());
+        }
+
+        sa.assertAll();
+        System.out.println("✓ All top 3 players API stats verification completed successfully");
+    }
+
+    /**
+     * Test to verify the whole leaderboard, not only the top rows
+     * Crawls every page (or the "All" page size) and checks each player row parses and is ranked by PPG
+     */
+    @Test(description = "Verify every leaderboard row parses and is sorted by points per game")
+    @Story("Full Leaderboard Verification")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyFullLeaderboard() {
+
+        // Step 1: Navigate to leaders page
+        LeadersPage leadersPage = new LeadersPage(DriverManager.getDriver());
+        leadersPage.navigateToLeadersPage();
+
+        // Step 2: Stream every player, keeping only the previous one in memory
+        TableCrawler crawler = leadersPage.crawlLeaders();
+        SoftAssert sa = new SoftAssert();
+        Player previous = null;
+        long players = 0;
+        Iterator<Player> leaderboard = crawler.records(StatsRowMapper::toPlayer, StatsRowMapper.PLAYER_COLUMNS)
+                .iterator();
+        while (leaderboard.hasNext()) {
+            Player player = leaderboard.next();
+            players++;
+            sa.assertFalse(player.getName().isEmpty(), "Leaderboard row without a player name");
+            if (previous != null) {
+                sa.assertTrue(player.getPointsPerGame() <= previous.getPointsPerGame(),
+                        String.format("Leaderboard out of order: %s (%.1f) after %s (%.1f)",
+                                player.getName(), player.getPointsPerGame(),
+                                previous.getName(), previous.getPointsPerGame()));
+            }
+            previous = player;
+        }
+
+        // Step 3: Report throughput
+        String crawlReport = crawler.getReport();
+        AttachmentPipeline.attachText("Leaderboard Crawl", crawlReport);
+        System.out.println(crawlReport);
+
+        Assert.assertEquals(players, crawler.getRowCount(), "Some leaderboard rows could not be parsed");
+        Assert.assertTrue(crawler.isComplete(), "Leaderboard crawl stopped before the last page");
+        Assert.assertTrue(crawler.getReportedPageCount() > 0, "Leaderboard pager did not report a page count");
+        Assert.assertTrue(players >= crawler.getReportedMinimumRows(),
+                String.format("Only %d players found, the pager lists %d pages (at least %d rows)",
+                        players, crawler.getReportedPageCount(), crawler.getReportedMinimumRows()));
+        sa.assertAll();
+        System.out.println("✓ Full leaderboard verification completed: " + players + " players");
     }
-}
\ No newline at end of file
+}
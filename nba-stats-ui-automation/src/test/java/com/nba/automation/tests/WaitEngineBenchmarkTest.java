@@ -0,0 +1,71 @@
+package com.nba.automation.tests;
+
+import com.nba.automation.utils.AttachmentPipeline;
+import com.nba.automation.utils.DriverManager;
+import com.nba.automation.utils.WaitHelper;
+import com.nba.automation.utils.WaitHelper.WaitEngine;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Benchmark comparing the latency added by the polling and MutationObserver wait engines
+ * Uses a local fixture page, so no network access is needed
+ * Part of benchmark.xml, not the default suite; run alone with: mvn test -Dtest=WaitEngineBenchmarkTest
+ */
+@Epic("NBA Stats Performance")
+@Feature("Wait Engines")
+public class WaitEngineBenchmarkTest extends BaseTest {
+
+    private static final By DELAYED_TARGET = By.id("delayed-target");
+    private static final int ITERATIONS = 20;
+    private static final int MIN_DELAY_MILLIS = 200;
+    private static final int MAX_DELAY_MILLIS = 1200;
+
+    /**
+     * Test to measure mean added latency of each wait engine
+     * Added latency is the time between the element appearing and the wait returning
+     */
+    @Test(description = "Compare mean added latency of polling and MutationObserver waits")
+    @Story("Wait Engine Latency")
+    @Severity(SeverityLevel.MINOR)
+    public void compareWaitEngineLatency() {
+        WebDriver driver = DriverManager.getDriver();
+        driver.get(getClass().getResource("/fixtures/delayed-element.html").toString());
+
+        Map<WaitEngine, Double> meanAddedLatency = new LinkedHashMap<>();
+        for (WaitEngine engine : WaitEngine.values()) {
+            // Same delay sequence for every engine
+            Random random = new Random(42);
+            long totalAddedMillis = 0;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                int delayMillis = MIN_DELAY_MILLIS + random.nextInt(MAX_DELAY_MILLIS - MIN_DELAY_MILLIS);
+
+                ((JavascriptExecutor) driver).executeScript("window.scheduleInsert(arguments[0])", delayMillis);
+                long startTime = System.nanoTime();
+                WaitHelper.waitForElementToBeVisible(driver, DELAYED_TARGET, engine);
+                long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+                totalAddedMillis += Math.max(0, elapsedMillis - delayMillis);
+            }
+            meanAddedLatency.put(engine, (double) totalAddedMillis / ITERATIONS);
+        }
+
+        StringBuilder report = new StringBuilder();
+        meanAddedLatency.forEach((engine, latency) ->
+                report.append(String.format("%s: mean added latency %.1fms over %d waits\n", engine, latency, ITERATIONS)));
+        AttachmentPipeline.attachText("Wait Engine Benchmark", report.toString());
+        System.out.println(report);
+
+        Assert.assertTrue(meanAddedLatency.get(WaitEngine.OBSERVER) <= meanAddedLatency.get(WaitEngine.POLLING),
+                "MutationObserver wait added more latency than polling: " + meanAddedLatency);
+    }
+}
@@ -0,0 +1,79 @@
+package com.nba.automation.utils;
+
+import com.nba.automation.models.NbaTeam;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * TeamResolver and TestDataHelper.determineConference on names as they appear in the stats tables
+ * Runs without a browser: mvn test -Dtest=TeamResolverTest
+ */
+@Epic("NBA Stats Infrastructure")
+@Feature("Team Resolution")
+public class TeamResolverTest {
+
+    /**
+     * Test that every team resolves from each of its own names
+     */
+    @Test(description = "All 30 teams resolve from full name, abbreviation and nickname")
+    @Story("Team Index")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyEveryTeamResolves() {
+        Assert.assertEquals(NbaTeam.values().length, 30);
+        for (NbaTeam team : NbaTeam.values()) {
+            Assert.assertEquals(TeamResolver.resolve(team.getFullName()), team, team.getFullName());
+            Assert.assertEquals(TeamResolver.resolve(team.getAbbreviation()), team, team.getAbbreviation());
+            Assert.assertEquals(TeamResolver.resolve(team.getNickname()), team, team.getNickname());
+        }
+    }
+
+    /**
+     * Test that case, whitespace, punctuation and decorations around the name are tolerated
+     */
+    @Test(description = "Dirty table cell text resolves to the right team")
+    @Story("Team Index")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyDirtyInputs() {
+        Assert.assertEquals(TeamResolver.resolve("  boston CELTICS \n"), NbaTeam.BOS);
+        Assert.assertEquals(TeamResolver.resolve("L.A. Clippers"), NbaTeam.LAC);
+        Assert.assertEquals(TeamResolver.resolve("Los Angeles Clippers"), NbaTeam.LAC);
+        Assert.assertEquals(TeamResolver.resolve("Portland Trailblazers"), NbaTeam.POR);
+        Assert.assertEquals(TeamResolver.resolve("sixers"), NbaTeam.PHI);
+        Assert.assertEquals(TeamResolver.resolve("x-Oklahoma City Thunder (1)"), NbaTeam.OKC);
+        Assert.assertEquals(TeamResolver.resolve("Golden State"), NbaTeam.GSW);
+        Assert.assertEquals(TeamResolver.resolve("MilwaukeeBucks2025"), NbaTeam.MIL);
+    }
+
+    /**
+     * Test that names shared by several teams or by none stay unresolved
+     */
+    @Test(description = "Ambiguous and unknown names do not resolve")
+    @Story("Team Index")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyAmbiguousAndUnknownInputs() {
+        Assert.assertNull(TeamResolver.resolve("Los Angeles"));
+        Assert.assertNull(TeamResolver.resolve("LA"));
+        Assert.assertNull(TeamResolver.resolve("Lakers vs Celtics"));
+        Assert.assertNull(TeamResolver.resolve("Seattle SuperSonics"));
+        // Memoized unknowns keep returning the same answer
+        Assert.assertNull(TeamResolver.resolve("Seattle SuperSonics"));
+        Assert.assertFalse(TeamResolver.find(null).isPresent());
+    }
+
+    /**
+     * Test that the conference helper keeps its string contract on top of the resolver
+     */
+    @Test(description = "determineConference returns Eastern, Western or Unknown")
+    @Story("Conference Mapping")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyDetermineConference() {
+        Assert.assertEquals(TestDataHelper.determineConference("Boston Celtics"), "Eastern");
+        Assert.assertEquals(TestDataHelper.determineConference("GSW"), "Western");
+        Assert.assertEquals(TestDataHelper.determineConference("Mavs"), "Western");
+        Assert.assertEquals(TestDataHelper.determineConference(" "), "Unknown");
+        Assert.assertEquals(TestDataHelper.determineConference("Unknown Team"), "Unknown");
+        Assert.assertEquals(NbaTeam.LAL.getDivision(), NbaTeam.Division.PACIFIC);
+        Assert.assertEquals(NbaTeam.ATL.getId(), 1610612737L);
+    }
+}
@@ -1,64 +1,61 @@
 package base;
 
-import io.qameta.allure.Allure;
+import com.nba.automation.utils.AttachmentPipeline;
+import com.nba.automation.utils.DriverManager;
+import com.nba.automation.utils.ScreenshotService;
+import com.nba.automation.utils.TestLifecycle;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
-import utils.WaitUtils;
+import org.testng.annotations.BeforeSuite;
 
-import java.io.ByteArrayInputStream;
-import java.time.Duration;
+import java.lang.reflect.Method;
 
+/**
+ * Base test class on the shared automation-core session lifecycle
+ * Each test thread gets its own (pooled) browser session from DriverManager, so the suite runs safely with
+ * -Dparallel.mode=methods; browser, waits, pooling and instrumentation come from config.properties
+ */
 public class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected WaitUtils waitUtils;
+
+    @BeforeSuite(alwaysRun = true)
+    public void setUpSuite() {
+        TestLifecycle.beginSuite();
+    }
 
     @BeforeMethod
-    public void setUp() {
-        // Set up Chrome options
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--remote-allow-origins=*");
-        
-        // Initialize WebDriver
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        
-        // Initialize WebDriverWait and utilities
-        wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        waitUtils = new WaitUtils(driver);
-        
-        Allure.addAttachment("Browser Setup", "text/plain", "Chrome browser initialized successfully");
+    public void setUp(Method method) {
+        TestLifecycle.beginTest(getClass().getSimpleName() + "." + method.getName());
+        AttachmentPipeline.attachText("Browser Setup", "Chrome browser initialized successfully");
     }
 
     @AfterMethod
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
+        WebDriver driver = getDriver();
         if (driver != null) {
-            // Take screenshot for Allure report
+            // Screenshot failed tests only; screenshot.mode=always, sampled or off changes that
             try {
-                byte[] screenshot = ((org.openqa.selenium.TakesScreenshot) driver)
-                    .getScreenshotAs(org.openqa.selenium.OutputType.BYTES);
-                Allure.addAttachment("Final Screenshot", "image/png", 
-                    new ByteArrayInputStream(screenshot), "png");
+                ScreenshotService.getInstance().captureTestEnd("Final Screenshot", driver,
+                        result.getStatus() == ITestResult.FAILURE);
             } catch (Exception e) {
                 System.out.println("Could not take screenshot: " + e.getMessage());
             }
-            
-            driver.quit();
-            Allure.addAttachment("Browser Teardown", "text/plain", "Chrome browser closed successfully");
         }
+
+        TestLifecycle.endTest();
+        AttachmentPipeline.attachText("Browser Teardown", "Chrome browser closed successfully");
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        // Pending attachments must be on disk before the report is generated
+        TestLifecycle.endSuite();
     }
 
     protected WebDriver getDriver() {
-        return driver;
+        return DriverManager.getDriver();
     }
 
 }
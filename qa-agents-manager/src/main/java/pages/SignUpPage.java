@@ -1,19 +1,17 @@
 package pages;
 
+import com.nba.automation.utils.WaitHelper;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import utils.WaitUtils;
 
 public class SignUpPage {
     private WebDriver driver;
-    private WaitUtils waitUtils;
 
     private final By signUpLink = By.xpath("//a[contains(text(), 'Sign Up')]");
 
     public SignUpPage(WebDriver driver) {
         this.driver = driver;
-        this.waitUtils = new WaitUtils(driver);
     }
 
     @Step("Verify Sign Up button is visible")
@@ -21,7 +19,7 @@ public class SignUpPage {
         // Try multiple locators to find the Sign Up button
 
         try {
-            if (waitUtils.waitForElementToBeDisplayed(signUpLink)) {
+            if (WaitHelper.isElementVisible(driver, signUpLink)) {
                 return true;
             }
         } catch (Exception e) {
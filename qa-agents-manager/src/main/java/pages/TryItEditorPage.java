@@ -1,14 +1,13 @@
 package pages;
 
+import com.nba.automation.utils.WaitHelper;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import utils.WaitUtils;
 
 public class TryItEditorPage {
     private WebDriver driver;
-    private WaitUtils waitUtils;
 
     // Locators
     private final By iframe = By.id("iframeResult");
@@ -16,23 +15,22 @@ public class TryItEditorPage {
 
     public TryItEditorPage(WebDriver driver) {
         this.driver = driver;
-        this.waitUtils = new WaitUtils(driver);
     }
 
     @Step("Navigate to W3Schools Try It Editor page")
     public void navigateToTryItEditor(String url) {
         driver.get(url);
-        waitUtils.waitForPageLoad();
+        WaitHelper.waitForPageLoad(driver);
     }
 
     @Step("Switch to iframe containing the link")
     public void switchToIframe() {
-        waitUtils.waitForFrameAndSwitch(iframe);
+        WaitHelper.waitForFrameAndSwitch(driver, iframe);
     }
 
     @Step("Click Visit W3Schools link")
     public void clickW3SchoolsLink() {
-        WebElement link = waitUtils.waitForElementClickable(w3schoolsLink);
+        WebElement link = WaitHelper.waitForElementToBeClickable(driver, w3schoolsLink);
         link.click();
     }
 
@@ -42,7 +40,7 @@ public class TryItEditorPage {
         String originalWindow = driver.getWindowHandle();
         
         // Wait for new window to open
-        waitUtils.waitForPageLoad();
+        WaitHelper.waitForPageLoad(driver);
         
         // Switch to the new window
         for (String windowHandle : driver.getWindowHandles()) {
@@ -52,14 +50,14 @@ public class TryItEditorPage {
             }
         }
         
-        waitUtils.waitForPageLoad();
+        WaitHelper.waitForPageLoad(driver);
     }
 
     @Step("Verify W3Schools link is present in iframe")
     public boolean isW3SchoolsLinkPresent() {
         try {
             switchToIframe();
-            return waitUtils.waitForElementToBeDisplayed(w3schoolsLink);
+            return WaitHelper.isElementVisible(driver, w3schoolsLink);
         } catch (Exception e) {
             return false;
         } finally {
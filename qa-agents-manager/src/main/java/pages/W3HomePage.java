@@ -1,26 +1,24 @@
 package pages;
 
+import com.nba.automation.utils.WaitHelper;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import utils.WaitUtils;
 
 public class W3HomePage {
     private WebDriver driver;
-    private WaitUtils waitUtils;
 
     private final By searchInput = By.id("search2");
 
     public W3HomePage(WebDriver driver) {
         this.driver = driver;
-        this.waitUtils = new WaitUtils(driver);
     }
 
     @Step("Verify search input field is visible")
     public boolean isSearchInputVisible() {
 
         try {
-            if (waitUtils.waitForElementToBeDisplayed(searchInput)) {
+            if (WaitHelper.isElementVisible(driver, searchInput)) {
                 return true;
             }
         } catch (Exception e) {
@@ -43,6 +41,6 @@ public class W3HomePage {
 
     @Step("Wait for page to load completely")
     public void waitForPageLoad() {
-        waitUtils.waitForPageLoad();
+        WaitHelper.waitForPageLoad(driver);
     }
 }
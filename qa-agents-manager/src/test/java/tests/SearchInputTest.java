@@ -1,6 +1,7 @@
 package tests;
 
 import base.BaseTest;
+import com.nba.automation.utils.AttachmentPipeline;
 import io.qameta.allure.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -53,8 +54,8 @@ public class SearchInputTest extends BaseTest {
             boolean isSearchInputVisible = w3HomePage.isSearchInputVisible();
             
             // Add additional context to the assertion
-            Allure.addAttachment("Current URL", "text/plain", w3HomePage.getCurrentUrl());
-            Allure.addAttachment("Current Title", "text/plain", w3HomePage.getCurrentTitle());
+            AttachmentPipeline.attachText("Current URL", w3HomePage.getCurrentUrl());
+            AttachmentPipeline.attachText("Current Title", w3HomePage.getCurrentTitle());
             
             Assert.assertTrue(isSearchInputVisible, 
                 "Search input field should be visible on W3Schools homepage. Current URL: " + w3HomePage.getCurrentUrl());
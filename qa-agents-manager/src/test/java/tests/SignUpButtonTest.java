@@ -1,6 +1,7 @@
 package tests;
 
 import base.BaseTest;
+import com.nba.automation.utils.AttachmentPipeline;
 import io.qameta.allure.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -52,8 +53,8 @@ public class SignUpButtonTest extends BaseTest {
             boolean isSignUpVisible = signUpPage.isSignUpButtonVisible();
             
             // Add additional context to the assertion
-            Allure.addAttachment("Current URL", "text/plain", signUpPage.getCurrentUrl());
-            Allure.addAttachment("Current Title", "text/plain", signUpPage.getCurrentTitle());
+            AttachmentPipeline.attachText("Current URL", signUpPage.getCurrentUrl());
+            AttachmentPipeline.attachText("Current Title", signUpPage.getCurrentTitle());
             
             Assert.assertTrue(isSignUpVisible, 
                 "Sign Up button should be visible on the new page. Current URL: " + signUpPage.getCurrentUrl());